@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "4.0.2"
     id("io.spring.dependency-management") version "1.1.7"
     jacoco
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.bugzero"
@@ -33,10 +34,15 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-webmvc")
     implementation("org.springframework.boot:spring-boot-starter-batch")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-flyway")
+    implementation("org.flywaydb:flyway-mysql")
     testImplementation("org.springframework.batch:spring-batch-test")
     compileOnly("org.projectlombok:lombok")
     runtimeOnly("com.mysql:mysql-connector-j")
     annotationProcessor("org.projectlombok:lombok")
+    testCompileOnly("org.projectlombok:lombok")
+    testAnnotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-data-jpa-test")
     testImplementation("org.springframework.boot:spring-boot-starter-security-test")
     testImplementation("org.springframework.boot:spring-boot-starter-validation-test")
@@ -62,11 +68,48 @@ jacoco {
     toolVersion = "0.8.12"
 }
 
+// 입찰/결제 도메인 핫패스 마이크로 벤치마크 (src/jmh/java, ./gradlew jmh)
+// gc 프로파일러로 처리량(ops/s)과 함께 연산당 할당 바이트(gc.alloc.rate.norm)를 측정
+jmh {
+    jmhVersion = "1.37"
+    benchmarkMode = listOf("thrpt")
+    timeUnit = "s"
+    fork = 1
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // 부하 테스트는 loadTest 태스크에서만 실행
+        excludeTags("load")
+    }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+// 입찰 경합 부하 테스트 (./gradlew loadTest -PbidMode=SEQUENCER -Pload.requests=10000)
+tasks.register<Test>("loadTest") {
+    description = "Runs contention load tests tagged 'load'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperty("auction.bid.mode", findProperty("bidMode") ?: "LOCK")
+    listOf("load.auctions", "load.bidders", "load.requests", "load.payment-latency-micros").forEach { key ->
+        findProperty(key)?.let { systemProperty(key, it) }
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -0,0 +1,94 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 입찰 경로의 경매 도메인 연산 벤치마크
+ * - 현재가 갱신, 호가단위 결정(생성/수정 시), 락 구간 검증(Auction.validateBid), 락 밖 사전 검증(AuctionSnapshot.validateBid)
+ */
+@State(Scope.Thread)
+public class AuctionBidBenchmark {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Long BIDDER_ID = 2L;
+    private static final int START_PRICE = 50_000;
+    // 현재가가 계속 오르도록 갱신하다가 이 값을 넘으면 경매를 새로 만듦 (int 범위 내 유지)
+    private static final int PRICE_LIMIT = 1_000_000_000;
+
+    private Auction auction;
+    private AuctionSnapshot snapshot;
+    private int nextPrice;
+    private int validBidAmount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        auction = newAuction();
+        auction.forceStartForTest();
+        nextPrice = START_PRICE;
+
+        // 다른 입찰자가 최고 입찰자인 상태에서 최소 입찰 금액으로 검증
+        auction.applyBid(1L, 3L, START_PRICE);
+        validBidAmount = auction.getMinimumBid();
+        snapshot = AuctionSnapshot.from(auction);
+    }
+
+    @Benchmark
+    public Integer updateCurrentPrice() {
+        nextPrice += auction.getTickSize();
+        if (nextPrice > PRICE_LIMIT) {
+            nextPrice = START_PRICE;
+            auction = newAuction();
+        }
+        auction.updateCurrentPrice(nextPrice);
+        return auction.getCurrentPrice();
+    }
+
+    @Benchmark
+    public void updateCurrentPriceIgnored(Blackhole blackhole) {
+        // 더 낮은 금액은 반영되지 않는 경로 (순서가 뒤바뀐 이벤트 등)
+        auction.updateCurrentPrice(START_PRICE - 1);
+        blackhole.consume(auction.getCurrentPrice());
+    }
+
+    @Benchmark
+    public int determineTickSizeOnCreate() {
+        return newAuction().getTickSize();
+    }
+
+    @Benchmark
+    public int determineTickSizeOnUpdate() {
+        auction.update(7, START_PRICE);
+        return auction.getTickSize();
+    }
+
+    @Benchmark
+    public void validateBid(Blackhole blackhole) {
+        auction.validateBid(BIDDER_ID, validBidAmount);
+        blackhole.consume(auction);
+    }
+
+    @Benchmark
+    public void validateBidOnSnapshot(Blackhole blackhole) {
+        snapshot.validateBid(BIDDER_ID, validBidAmount);
+        blackhole.consume(snapshot);
+    }
+
+    private static Auction newAuction() {
+        LocalDateTime now = LocalDateTime.now();
+        return Auction.builder()
+                .productId(10L)
+                .sellerId(SELLER_ID)
+                .startTime(now.minusDays(1))
+                .durationDays(7)
+                .endTime(now.plusDays(6))
+                .startPrice(START_PRICE)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.bugzero.rarego.boundedContext.auction.in.dto;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bugzero.rarego.global.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * SSE 이벤트 DTO 직렬화 벤치마크 (AuctionBidStreamSupport와 같은 ObjectMapper 설정)
+ * - 입찰 이벤트는 구독자 수와 무관하게 브로드캐스트 1회당 1번 직렬화되어야 하는 비용
+ */
+@State(Scope.Benchmark)
+public class AuctionStreamEventSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private AuctionBidEventDto bidEvent;
+    private AuctionHeartbeatEventDto heartbeatEvent;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        bidEvent = AuctionBidEventDto.create(1L, 51_000, "레어고입찰자", LocalDateTime.now());
+        heartbeatEvent = AuctionHeartbeatEventDto.create();
+    }
+
+    @Benchmark
+    public String bidEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(bidEvent);
+    }
+
+    @Benchmark
+    public String bidEventCreateAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(
+                AuctionBidEventDto.create(1L, 51_000, "레어고입찰자", LocalDateTime.now()));
+    }
+
+    @Benchmark
+    public String heartbeatEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(heartbeatEvent);
+    }
+}
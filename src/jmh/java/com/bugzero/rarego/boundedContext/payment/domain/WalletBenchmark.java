@@ -0,0 +1,43 @@
+package com.bugzero.rarego.boundedContext.payment.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 보증금 Hold/해제 벤치마크 (잔액 검증 포함)
+ */
+@State(Scope.Thread)
+public class WalletBenchmark {
+
+	private static final int DEPOSIT = 5_000;
+
+	private Wallet wallet;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		wallet = Wallet.builder()
+			.balance(1_000_000)
+			.build();
+	}
+
+	// 해제까지 한 쌍으로 측정해야 반복 중 가용 잔액이 바닥나지 않음
+	@Benchmark
+	public int holdAndRelease() {
+		wallet.hold(DEPOSIT);
+		wallet.release(DEPOSIT);
+		return wallet.getHoldingAmount();
+	}
+
+	@Benchmark
+	public int hold() {
+		// 가용 잔액이 부족해지기 전에 되돌림 (분기 비용만 추가)
+		if (wallet.getBalance() - wallet.getHoldingAmount() < DEPOSIT) {
+			wallet.release(wallet.getHoldingAmount());
+		}
+		wallet.hold(DEPOSIT);
+		return wallet.getHoldingAmount();
+	}
+}
@@ -0,0 +1,58 @@
+package com.bugzero.rarego.shared.auction.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.product.domain.Category;
+import com.bugzero.rarego.boundedContext.product.domain.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 응답/경매 목록 응답 DTO 변환 벤치마크 (연산당 할당 바이트 확인용)
+ */
+@State(Scope.Thread)
+public class AuctionResponseMappingBenchmark {
+
+	private Bid bid;
+	private Auction auction;
+	private Product product;
+
+	@Setup
+	public void setUp() {
+		bid = Bid.builder()
+			.auctionId(1L)
+			.bidderId(2L)
+			.bidAmount(51_000)
+			.build();
+
+		LocalDateTime now = LocalDateTime.now();
+		auction = Auction.builder()
+			.productId(10L)
+			.sellerId(1L)
+			.startTime(now.minusDays(1))
+			.durationDays(7)
+			.endTime(now.plusDays(6))
+			.startPrice(50_000)
+			.build();
+
+		product = Product.builder()
+			.name("밀레니엄 팔콘 UCS")
+			.category(Category.스타워즈)
+			.build();
+	}
+
+	@Benchmark
+	public BidResponseDto bidResponse() {
+		return BidResponseDto.from(bid, "bidder-public-id", 51_000L);
+	}
+
+	@Benchmark
+	public AuctionListResponseDto auctionListResponse() {
+		return AuctionListResponseDto.from(auction, product, "https://cdn.example.com/thumbnail.jpg", 12);
+	}
+}
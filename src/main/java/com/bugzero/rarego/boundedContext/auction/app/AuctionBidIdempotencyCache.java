@@ -0,0 +1,109 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.auction.dto.BidResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 입찰 멱등 키 결과 캐시
+ * - (회원, 경매, 멱등 키)별 최근 입찰 결과를 TTL 동안 보관하여 타임아웃 후 재시도는 경매 행/결제 API 접근 없이 응답
+ * - 처리 중인 요청과 같은 키로 동시에 들어온 재시도는 먼저 들어온 요청의 결과를 기다림
+ * - 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도 가능
+ * - 최대 크기를 넘으면 만료 항목을 정리하고, 그래도 가득 차 있으면 캐시 없이 처리
+ */
+@Component
+public class AuctionBidIdempotencyCache {
+
+    @Value("${auction.bid.idempotency.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${auction.bid.idempotency.max-size:100000}")
+    private int maxSize = 100_000;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private LongSupplier clock = System::nanoTime;
+
+    /**
+     * 멱등 키가 있으면 이전 결과를 재사용하고, 없으면 입찰을 실행해 결과를 보관
+     */
+    public BidResponseDto execute(String memberPublicId, Long auctionId, String idempotencyKey, int bidAmount,
+                                  Supplier<BidResponseDto> bid) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return bid.get();
+        }
+
+        long now = clock.getAsLong();
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+            if (entries.size() >= maxSize) {
+                return bid.get();
+            }
+        }
+
+        Key key = new Key(memberPublicId, auctionId, idempotencyKey);
+        Entry created = new Entry(bidAmount, new CompletableFuture<>(), now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        Entry entry = entries.compute(key, (k, current) ->
+                current == null || current.isExpired(now) ? created : current);
+
+        if (entry != created) {
+            return reuse(entry, bidAmount);
+        }
+
+        try {
+            BidResponseDto response = bid.get();
+            created.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.remove(key, created);
+            created.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // helper method
+
+    private BidResponseDto reuse(Entry entry, int bidAmount) {
+        // 같은 키로 다른 금액을 보내면 재시도가 아니므로 거절
+        if (entry.bidAmount() != bidAmount) {
+            throw new CustomException(ErrorType.AUCTION_IDEMPOTENCY_KEY_REUSED);
+        }
+
+        try {
+            return entry.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Key(String memberPublicId, Long auctionId, String idempotencyKey) {
+    }
+
+    private record Entry(int bidAmount, CompletableFuture<BidResponseDto> result, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
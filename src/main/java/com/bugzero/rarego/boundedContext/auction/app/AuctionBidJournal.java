@@ -0,0 +1,360 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.auction.domain.BidWalCursor;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionBidCreatedEvent;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidBulkRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidWalCursorRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidWriteAheadLog;
+import com.bugzero.rarego.boundedContext.auction.out.BidWriteAheadLog.LoggedBid;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 입찰 그룹 커밋 저널 (SEQUENCER 모드의 저장 단계)
+ * - 승인된 입찰을 짧은 간격 동안 모아 하나의 트랜잭션, 하나의 multi-row INSERT로 저장
+ * - 입찰별 완료 신호(ack)는 해당 배치가 커밋된 뒤에만 완료됨
+ * - WAL(auction.bid.wal.enabled)을 켜면 로컬 로그 기록만으로 응답하고 DB 커밋은 비동기로 진행 (재시작 시 recover로 복구)
+ *   이미 응답한 입찰이므로 커밋 실패 시 같은 배치를 다시 기록하며, DB에 반영된 마지막 WAL 시퀀스를
+ *   입찰과 같은 트랜잭션에 남겨 재시도/재생이 시퀀스 기준으로 멱등하게 동작
+ * - 레인 검증 이후 경매가 종료/유찰되었을 수 있으므로 저장 시점에 진행 중인 경매의 입찰만 반영
+ *   (경매별 조건부 UPDATE로 반영하여 한 경매의 동시 변경이 다른 경매의 입찰까지 실패시키지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionBidJournal {
+
+    private static final long POLL_TIMEOUT_MS = 100L;
+    private static final long STOP_TIMEOUT_MS = 5_000L;
+    private static final long RETRY_BACKOFF_MS = 100L;
+    private static final long MAX_RETRY_BACKOFF_MS = 5_000L;
+    private static final long RECOVERY_WAIT_SECONDS = 10L;
+
+    private final BidBulkRepository bidBulkRepository;
+    private final AuctionRepository auctionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidWriteAheadLog writeAheadLog;
+    private final AuctionSoftCloseSupport softCloseSupport;
+    private final BidWalCursorRepository walCursorRepository;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    // 첫 입찰 도착 후 다음 입찰을 기다리는 시간 (커밋 1회당 묶이는 입찰 수와 응답 지연의 trade-off)
+    @Value("${auction.bid.journal.flush-interval-ms:5}")
+    private long flushIntervalMs = 5;
+
+    @Value("${auction.bid.journal.max-batch-size:500}")
+    private int maxBatchSize = 500;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    // WAL 모드에서 종료 중 커밋하지 못한 배치가 있으면 checkpoint를 멈춰 재시작 시 재생 대상으로 남김
+    private volatile boolean checkpointHalted;
+
+    // WAL 모드에서 recover가 끝나기 전에는 새 입찰을 기록하지 않음
+    // (복구 전에 시퀀스가 매겨지고 커서/checkpoint가 앞서 나가면 재생할 레코드가 건너뛰어지므로)
+    private final CountDownLatch recovered = new CountDownLatch(1);
+
+    /**
+     * 입찰을 저널에 추가 - 반환된 future는 커밋 후 생성된 bidId로 완료됨
+     * (WAL 모드에서는 반환 시점에 이미 로컬 로그에 기록되어 있음)
+     */
+    public CompletableFuture<Long> append(Bid bid) {
+        if (writeAheadLog.isEnabled()) {
+            awaitRecovered();
+        }
+
+        // 큐 순서와 WAL 시퀀스 순서를 맞추기 위해 로그 기록과 큐 추가를 함께 수행
+        synchronized (this) {
+            long seq = writeAheadLog.isEnabled() ? writeAheadLog.append(bid) : 0L;
+
+            Entry entry = new Entry(bid, new CompletableFuture<>(), seq);
+            queue.add(entry);
+            return entry.ack();
+        }
+    }
+
+    public boolean isWriteAheadLogged() {
+        return writeAheadLog.isEnabled();
+    }
+
+    /**
+     * 재시작 시 WAL에서 DB에 반영되지 못한 입찰을 다시 저장하고 복구 건수를 반환
+     * - DB에 기록된 마지막 반영 시퀀스 이후의 레코드만 재생
+     * - 그 사이 종료/취소되어 진행 중이 아닌 경매의 입찰은 반영하지 않고 로그로 남김
+     * - 복구가 성공해야 append가 새 입찰을 받음 (실패 시 예외를 전파하여 기동을 중단)
+     */
+    public int recover() {
+        if (!writeAheadLog.isEnabled()) {
+            return 0;
+        }
+
+        List<LoggedBid> loggedBids = writeAheadLog.readAfterCheckpoint();
+
+        Integer replayed = transactionTemplate.execute(status -> {
+            BidWalCursor cursor = loadCursor();
+            writeAheadLog.continueAfter(cursor.getAppliedSeq());
+
+            List<LoggedBid> pending = loggedBids.stream()
+                    .filter(loggedBid -> !cursor.isApplied(loggedBid.seq()))
+                    .toList();
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<Bid> missing = pending.stream()
+                    .map(loggedBid -> Bid.restore(loggedBid.auctionId(), loggedBid.bidderId(),
+                            loggedBid.bidAmount(), loggedBid.bidTime()))
+                    .toList();
+
+            int written = (int) writeBids(missing).stream().filter(Objects::nonNull).count();
+            cursor.advance(pending.getLast().seq());
+            return written;
+        });
+
+        if (!loggedBids.isEmpty()) {
+            writeAheadLog.checkpoint(loggedBids.getLast().seq());
+        }
+        recovered.countDown();
+        return replayed;
+    }
+
+    /**
+     * 대기 중인 입찰 수 (모니터링용)
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("auction-bid-journal")
+                .daemon()
+                .start(this::runFlushLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 남은 입찰은 flush 루프가 모두 기록한 뒤 종료
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // helper method
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            Entry first;
+            try {
+                first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (first == null) {
+                continue;
+            }
+
+            if (running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+            }
+
+            List<Entry> batch = new ArrayList<>();
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            flush(batch);
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        List<Long> bidIds;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                bidIds = transactionTemplate.execute(status -> write(batch));
+                break;
+            } catch (Exception e) {
+                // WAL 모드는 이미 응답한 입찰이므로 실패로 돌려보내지 않고 같은 배치를 다시 기록
+                if (writeAheadLog.isEnabled() && running) {
+                    log.error("입찰 저널 기록 실패 - {}건, 재시도 {}회", batch.size(), attempt, e);
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(retryBackoffMs(attempt)));
+                    continue;
+                }
+
+                // 배치 단위로 커밋되므로 실패 시 배치 내 모든 입찰이 실패 처리됨
+                log.error("입찰 저널 기록 실패 - {}건", batch.size(), e);
+                if (writeAheadLog.isEnabled() && !checkpointHalted) {
+                    checkpointHalted = true;
+                    log.error("입찰 WAL checkpoint 중단 - seq {} 부터 재시작 시 복구 대상", batch.getFirst().seq());
+                }
+                batch.forEach(entry -> entry.ack().completeExceptionally(e));
+                return;
+            }
+        }
+
+        if (writeAheadLog.isEnabled() && !checkpointHalted) {
+            writeAheadLog.checkpoint(batch.getLast().seq());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Long bidId = bidIds.get(i);
+            // 저장 시점에 진행 중이 아니어서 제외된 입찰 (WAL 모드의 null은 이미 반영된 시퀀스이거나 이미 응답한 입찰)
+            if (bidId == null && !writeAheadLog.isEnabled()) {
+                batch.get(i).ack().completeExceptionally(
+                        new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매가 진행 중인 상태가 아닙니다."));
+                continue;
+            }
+            batch.get(i).ack().complete(bidId);
+        }
+    }
+
+    private List<Long> write(List<Entry> batch) {
+        if (!writeAheadLog.isEnabled()) {
+            return writeBids(batch.stream().map(Entry::bid).toList());
+        }
+
+        // 커밋 응답을 받지 못한 채 재시도하는 경우 이미 반영된 시퀀스(배치 앞부분)는 다시 저장하지 않음
+        BidWalCursor cursor = loadCursor();
+        List<Entry> pending = batch.stream()
+                .filter(entry -> !cursor.isApplied(entry.seq()))
+                .toList();
+
+        // 입찰 반영의 조건부 UPDATE가 영속성 컨텍스트를 비우므로 커서는 그 전에 전진시켜 함께 flush
+        cursor.advance(batch.getLast().seq());
+        List<Long> bidIds = new ArrayList<>(Collections.nCopies(batch.size() - pending.size(), (Long) null));
+        bidIds.addAll(writeBids(pending.stream().map(Entry::bid).toList()));
+        return bidIds;
+    }
+
+    // 입력 순서대로 bidId 반환 (진행 중이 아닌 경매의 입찰은 저장하지 않고 null)
+    private List<Long> writeBids(List<Bid> bids) {
+        if (bids.isEmpty()) {
+            return List.of();
+        }
+
+        // 저널에는 승인 순서대로 쌓이므로 경매별 마지막 입찰이 그 경매의 최고 입찰
+        Map<Long, List<Bid>> bidsByAuction = bids.stream()
+                .collect(Collectors.groupingBy(Bid::getAuctionId, TreeMap::new, Collectors.toList()));
+        Map<Long, Auction> auctions = findAuctions(List.copyOf(bidsByAuction.keySet()));
+
+        // 경매별 조건부 UPDATE - 레인 검증 이후 종료/유찰된 경매는 0건으로 끝나고 그 경매의 입찰만 제외
+        // (엔티티 dirty checking/@Version을 쓰지 않으므로 한 경매의 동시 변경이 배치 전체를 되돌리지 않음,
+        //  행 락은 경매 ID 순으로 잡아 다른 다건 갱신과의 교착을 피함)
+        Set<Long> appliedAuctionIds = new HashSet<>();
+        bidsByAuction.forEach((auctionId, auctionBids) -> {
+            Bid leading = auctionBids.getLast();
+            if (auctions.containsKey(auctionId) && auctionRepository.applyJournaledBids(
+                    auctionId, leading.getBidderId(), leading.getBidAmount(), auctionBids.size()) == 1) {
+                appliedAuctionIds.add(auctionId);
+                return;
+            }
+            log.error("입찰 저장 제외 - 진행 중이 아닌 경매 {} ({}건, 최고 입찰자: {}, 금액: {})",
+                    auctionId, auctionBids.size(), leading.getBidderId(), leading.getBidAmount());
+        });
+
+        List<Bid> accepted = bids.stream()
+                .filter(bid -> appliedAuctionIds.contains(bid.getAuctionId()))
+                .toList();
+        if (accepted.isEmpty()) {
+            return new ArrayList<>(Collections.nCopies(bids.size(), (Long) null));
+        }
+
+        List<Long> insertedIds = bidBulkRepository.insertAll(accepted);
+
+        // 조건부 UPDATE 이후 영속성 컨텍스트가 비워져 auctions는 준영속 상태 - 마감 연장 계산과 이벤트 발행에만 사용
+        List<Long> bidIds = new ArrayList<>(bids.size());
+        Map<Long, Long> highestBidIds = new HashMap<>();
+        Set<Long> extendedAuctionIds = new HashSet<>();
+        int next = 0;
+        for (Bid bid : bids) {
+            if (!appliedAuctionIds.contains(bid.getAuctionId())) {
+                bidIds.add(null);
+                continue;
+            }
+
+            Long bidId = insertedIds.get(next++);
+            Auction auction = auctions.get(bid.getAuctionId());
+            auction.applyBid(bidId, bid.getBidderId(), bid.getBidAmount());
+            if (softCloseSupport.extend(auction, bid.getBidTime())) {
+                extendedAuctionIds.add(auction.getId());
+            }
+            eventPublisher.publishEvent(
+                    AuctionBidCreatedEvent.of(bid.getAuctionId(), bid.getBidderId(), bid.getBidAmount())
+            );
+            highestBidIds.put(bid.getAuctionId(), bidId);
+            bidIds.add(bidId);
+        }
+
+        highestBidIds.forEach(auctionRepository::updateHighestBidId);
+        extendedAuctionIds.forEach(auctionId ->
+                auctionRepository.extendEndTime(auctionId, auctions.get(auctionId).getEndTime()));
+        return bidIds;
+    }
+
+    private void awaitRecovered() {
+        try {
+            if (recovered.await(RECOVERY_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "입찰 복구 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private BidWalCursor loadCursor() {
+        return walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)
+                .orElseGet(() -> walCursorRepository.save(BidWalCursor.create()));
+    }
+
+    private static long retryBackoffMs(int attempt) {
+        return Math.min(MAX_RETRY_BACKOFF_MS, RETRY_BACKOFF_MS << Math.min(attempt - 1, 6));
+    }
+
+    private Map<Long, Auction> findAuctions(List<Long> auctionIds) {
+        return auctionRepository.findAllById(auctionIds).stream()
+                .collect(Collectors.toMap(Auction::getId, Function.identity()));
+    }
+
+    private record Entry(Bid bid, CompletableFuture<Long> ack, long seq) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 입찰 유입 제어 (회원별 / 경매별 토큰 버킷)
+ * - 보증금 선승인과 경매 락 앞에서 호출되어 봇, 중복 클릭, 마감 직전 몰림을 빠르게 429로 거절
+ * - 버킷 상태는 "다음 토큰이 차는 시각" 하나(GCRA)로 표현하여 CAS 한 번으로 갱신 (락 없음)
+ * - 키별 버킷은 ConcurrentHashMap(내부 bin 단위 분할)에 두고, 가득 찬(유휴) 버킷은 키 수가 한도를 넘을 때 정리
+ *   (정리는 전체 순회이므로 한도를 넘은 상태가 이어져도 정리 주기마다 한 스레드만 수행)
+ */
+@Component
+public class AuctionBidRateLimiter {
+
+    @Value("${auction.bid.rate-limit.enabled:true}")
+    private boolean enabled = true;
+
+    // 회원 한 명이 순간적으로 보낼 수 있는 입찰 수와 초당 회복량
+    @Value("${auction.bid.rate-limit.member.capacity:5}")
+    private int memberCapacity = 5;
+
+    @Value("${auction.bid.rate-limit.member.per-second:2}")
+    private double memberPerSecond = 2;
+
+    // 경매 하나에 순간적으로 들어올 수 있는 입찰 수와 초당 회복량
+    @Value("${auction.bid.rate-limit.auction.capacity:200}")
+    private int auctionCapacity = 200;
+
+    @Value("${auction.bid.rate-limit.auction.per-second:100}")
+    private double auctionPerSecond = 100;
+
+    @Value("${auction.bid.rate-limit.max-keys:100000}")
+    private int maxKeys = 100_000;
+
+    @Value("${auction.bid.rate-limit.evict-interval-ms:1000}")
+    private long evictIntervalMs = 1000;
+
+    private static final long NEVER_EVICTED = Long.MIN_VALUE;
+
+    private final Map<String, AtomicLong> memberBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> auctionBuckets = new ConcurrentHashMap<>();
+
+    // 맵별 마지막 유휴 버킷 정리 시각
+    private final AtomicLong memberEvictedAt = new AtomicLong(NEVER_EVICTED);
+    private final AtomicLong auctionEvictedAt = new AtomicLong(NEVER_EVICTED);
+
+    private LongSupplier clock = System::nanoTime;
+
+    /**
+     * 입찰 요청 1건 허용 여부 확인 - 한도를 넘으면 429
+     * (회원 버킷을 먼저 확인하여 한 회원의 연타가 경매 전체 한도를 소모하지 않도록 함)
+     */
+    public void acquire(Long auctionId, String memberPublicId) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+
+        if (!tryAcquire(memberBuckets, memberEvictedAt, memberPublicId, now, memberPerSecond, memberCapacity)) {
+            throw new CustomException(ErrorType.AUCTION_BID_RATE_LIMITED, "입찰 요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (!tryAcquire(auctionBuckets, auctionEvictedAt, auctionId, now, auctionPerSecond, auctionCapacity)) {
+            throw new CustomException(ErrorType.AUCTION_BID_RATE_LIMITED, "입찰이 몰리고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // helper method
+
+    private <K> boolean tryAcquire(Map<K, AtomicLong> buckets, AtomicLong evictedAt, K key, long now,
+                                   double perSecond, int capacity) {
+        if (buckets.size() > maxKeys) {
+            evictIdle(buckets, evictedAt, now);
+        }
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+        long burstTolerance = interval * (capacity - 1);
+
+        // 버킷 상태: 이론상 다음 요청 도착 시각(TAT), 현재 시각 이하이면 버킷이 가득 찬 상태
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long start = Math.max(theoreticalArrival, now);
+            if (start - now > burstTolerance) {
+                return false;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    // 직전 정리 후 evictIntervalMs가 지났을 때만, CAS에 성공한 한 스레드가 정리
+    private <K> void evictIdle(Map<K, AtomicLong> buckets, AtomicLong evictedAt, long now) {
+        long last = evictedAt.get();
+        if (last != NEVER_EVICTED && now - last < TimeUnit.MILLISECONDS.toNanos(evictIntervalMs)) {
+            return;
+        }
+        if (!evictedAt.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+    }
+}
@@ -0,0 +1,315 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.auction.dto.BidResponseDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 경매별 단일 작성자(Single-writer) 입찰 시퀀서 (auction.bid.mode=SEQUENCER)
+ * - 같은 경매의 입찰은 하나의 레인(mailbox)에서 순서대로 검증되므로 경매 행 락을 잡지 않음
+ * - 서로 다른 경매의 입찰은 서로 다른 레인에서 병렬로 처리됨
+ * - 승인된 입찰은 저널(AuctionBidJournal)에서 여러 경매의 입찰과 함께 그룹 커밋되며, 커밋 후에 응답함
+ * - 경매 상태가 바뀌면(종료/유찰/수정) 레인을 닫아 다음 입찰부터 DB 기준으로 다시 적재하고,
+ *   한동안 입찰이 없는 레인은 주기적으로 정리
+ * - 단일 인스턴스 기준 (다중 노드에서는 경매 ID 기준 라우팅이 선행되어야 함)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionBidSequencer {
+
+    private static final long SUBMIT_TIMEOUT_SECONDS = 10L;
+    private static final long DRAIN_TIMEOUT_SECONDS = 30L;
+
+    private final AuctionSupport support;
+    private final AuctionCreateBidUseCase auctionCreateBidUseCase;
+    private final AuctionBidJournal bidJournal;
+    private final AuctionSoftCloseSupport softCloseSupport;
+
+    // auctionId별 레인
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    // 레인 작업은 DB 조회/저장과 보증금 보상(HTTP)으로 블로킹되므로 가상 스레드에서 실행
+    private final ExecutorService laneExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 마지막 입찰 이후 이 시간 동안 입찰이 없고 저장 대기 중인 입찰도 없으면 레인 정리
+    @Value("${auction.bid.sequencer.idle-timeout-seconds:300}")
+    private long idleTimeoutSeconds = 300;
+
+    /**
+     * 입찰을 경매 레인에 넣고 검증 및 저널 커밋 결과를 기다림
+     */
+    public BidResponseDto submit(Long auctionId, String memberPublicId, int bidAmount) {
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
+
+        CompletableFuture<BidResponseDto> result;
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(auctionId, id -> new Lane());
+            CompletableFuture<CompletableFuture<BidResponseDto>> accepted = lane.submit(
+                    () -> accept(lane, auctionId, bidder, bidAmount),
+                    laneExecutor
+            );
+            // 그 사이 닫힌 레인이면 새 레인에서 다시 시도 (한 경매에 레인이 둘 생기지 않도록)
+            if (accepted != null) {
+                result = accepted.thenCompose(Function.identity());
+                break;
+            }
+        }
+
+        return await(result, SUBMIT_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * 경매 상태 변경(종료/유찰/수정) 시 호출 - 레인을 닫고 제거하여 다음 입찰은 DB의 최신 상태로 새 레인에서 검증
+     * (이미 레인에 들어간 입찰은 그대로 처리되며, 저장 시점에 저널이 진행 중 여부를 다시 확인)
+     */
+    public void evict(Long auctionId) {
+        Lane lane = lanes.remove(auctionId);
+        if (lane != null) {
+            lane.close();
+        }
+    }
+
+    /**
+     * 유휴 레인 정리 - 입찰이 끊긴 경매의 인메모리 상태가 계속 쌓이지 않도록 주기적으로 제거
+     */
+    @Scheduled(fixedDelayString = "${auction.bid.sequencer.idle-sweep-interval-ms:60000}")
+    public void evictIdleLanes() {
+        long idleSince = System.nanoTime() - TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        lanes.forEach((auctionId, lane) -> {
+            if (lane.closeIfIdle(idleSince)) {
+                lanes.remove(auctionId, lane);
+            }
+        });
+    }
+
+    /**
+     * 정산 전 호출 - 레인을 닫고 저장 대기 중인 입찰이 모두 반영될 때까지 대기
+     */
+    public void drain(Long auctionId) {
+        Lane lane = lanes.remove(auctionId);
+        if (lane == null) {
+            return;
+        }
+        lane.close();
+
+        try {
+            lane.pendingWrites().get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("경매 {} 입찰 저장 대기 실패", auctionId, e);
+        }
+    }
+
+    /**
+     * 현재 활성 레인 수 (모니터링용)
+     */
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        laneExecutor.shutdown();
+        try {
+            if (!laneExecutor.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                laneExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            laneExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // helper method
+
+    /**
+     * 레인 스레드에서 순서대로 실행 - 인메모리 상태 기준 검증 후 저널에 추가
+     * (레인은 커밋을 기다리지 않고 다음 입찰을 검증하며, 응답은 커밋 완료 또는 WAL 기록 시점에 나감)
+     */
+    private CompletableFuture<BidResponseDto> accept(Lane lane, Long auctionId, AuctionMember bidder, int bidAmount) {
+        Auction auction;
+        try {
+            if (lane.auction == null) {
+                lane.auction = support.findAuctionById(auctionId);
+            }
+
+            auction = lane.auction;
+            auction.validateBid(bidder.getId(), bidAmount);
+        } catch (RuntimeException e) {
+            // 선승인된 보증금 보상은 앞서 승인된 입찰이 모두 저장된 뒤 판단 (저장 체인에 등록)
+            lane.write(() -> auctionCreateBidUseCase.compensateDeposit(auctionId, bidder.getPublicId()), laneExecutor);
+            throw e;
+        }
+
+        Bid bid = Bid.builder()
+                .auctionId(auctionId)
+                .bidderId(bidder.getId())
+                .bidAmount(bidAmount)
+                .build();
+
+        CompletableFuture<Long> committed;
+        try {
+            committed = bidJournal.append(bid);
+        } catch (RuntimeException e) {
+            log.error("경매 {} 입찰 로그 기록 실패 - bidderId: {}, amount: {}", auctionId, bid.getBidderId(), bidAmount, e);
+            lane.write(() -> auctionCreateBidUseCase.compensateDeposit(auctionId, bidder.getPublicId()), laneExecutor);
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "입찰 저장에 실패했습니다.");
+        }
+        lane.track(committed);
+
+        // 저널에 들어간 뒤에 인메모리 상태 반영 (최고 입찰 ID는 저널 커밋 시점에 DB 쪽에서 기록)
+        auction.applyBid(bid);
+        // 마감 연장도 레인 상태에 먼저 반영 (DB 반영과 이벤트 발행은 저널 커밋에서 같은 규칙으로 수행)
+        softCloseSupport.applyTo(auction, bid.getBidTime());
+        Long updatedCurrentPrice = Long.valueOf(auction.getCurrentPrice());
+
+        boolean writeAheadLogged = bidJournal.isWriteAheadLogged();
+        CompletableFuture<Long> stored = committed.handle((bidId, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                log.error("경매 {} 입찰 저장 실패 - bidderId: {}, amount: {}",
+                        auctionId, bid.getBidderId(), bid.getBidAmount(), cause);
+                // WAL 모드는 이미 응답한 입찰이 WAL에 남아 재시작 시 복구되므로 인메모리 상태와 보증금을 유지
+                // (저널이 커밋될 때까지 재시도하므로 여기 오는 것은 종료 중 커밋하지 못한 경우뿐)
+                if (!writeAheadLogged) {
+                    // DB와 인메모리 상태가 어긋났으므로 다음 입찰에서 DB 기준으로 다시 적재
+                    lane.enqueue(lane::reset, laneExecutor);
+                    lane.write(() -> auctionCreateBidUseCase.compensateDeposit(auctionId, bidder.getPublicId()), laneExecutor);
+                } else {
+                    auctionCreateBidUseCase.confirmDeposit(auctionId, bidder.getPublicId());
+                }
+                // 저장 직전 경매가 종료된 경우 등 저널이 거절한 사유는 그대로 응답
+                if (cause instanceof CustomException customException) {
+                    throw customException;
+                }
+                throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "입찰 저장에 실패했습니다.");
+            }
+            auctionCreateBidUseCase.confirmDeposit(auctionId, bidder.getPublicId());
+            return bidId;
+        });
+
+        // WAL 모드는 로컬 로그 기록 시점에 응답 (bidId는 DB 커밋 전이라 비어 있음)
+        CompletableFuture<Long> acknowledged = writeAheadLogged ? CompletableFuture.completedFuture(null) : stored;
+
+        return acknowledged.thenApply(bidId -> new BidResponseDto(
+                bidId,
+                auctionId,
+                bidder.getPublicId(),
+                bid.getBidTime(),
+                Long.valueOf(bid.getBidAmount()),
+                updatedCurrentPrice
+        ));
+    }
+
+    private BidResponseDto await(CompletableFuture<BidResponseDto> result, long timeoutSeconds) {
+        try {
+            return result.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("입찰 시퀀서 처리 실패", cause);
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR, "입찰 처리 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 경매 하나의 mailbox
+     * - tail: 검증 체인 (auction은 이 체인 위에서만 접근)
+     * - writeTail: 저장 체인 (저널 커밋 완료 및 보상 작업의 순서 보장)
+     * - closed: 맵에서 제거된 레인 - 새 입찰을 받지 않음 (이미 받은 작업은 끝까지 처리)
+     */
+    private static final class Lane {
+
+        private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+        private CompletableFuture<?> writeTail = CompletableFuture.completedFuture(null);
+        private boolean closed;
+        private long lastSubmittedAt = System.nanoTime();
+
+        private Auction auction;
+
+        // 닫힌 레인이면 null 반환
+        synchronized <T> CompletableFuture<T> submit(Supplier<T> task, Executor executor) {
+            if (closed) {
+                return null;
+            }
+            lastSubmittedAt = System.nanoTime();
+            return enqueue(task, executor);
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        // 마지막 입찰이 idleSince 이전이고 검증/저장 대기 중인 작업이 없으면 닫음
+        synchronized boolean closeIfIdle(long idleSince) {
+            if (lastSubmittedAt - idleSince > 0 || !tail.isDone() || !writeTail.isDone()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        synchronized <T> CompletableFuture<T> enqueue(Supplier<T> task, Executor executor) {
+            CompletableFuture<T> next = tail.handleAsync((ignored, error) -> task.get(), executor);
+            tail = next;
+            return next;
+        }
+
+        synchronized void write(Runnable task, Executor executor) {
+            writeTail = writeTail.handleAsync((ignored, error) -> {
+                task.run();
+                return null;
+            }, executor);
+        }
+
+        // 저널에 추가된 입찰의 커밋 완료를 저장 체인에 합류 (성공/실패 무관)
+        synchronized void track(CompletableFuture<?> ack) {
+            writeTail = CompletableFuture.allOf(
+                    writeTail.handle((r, error) -> null),
+                    ack.handle((r, error) -> null)
+            );
+        }
+
+        // 검증 체인이 끝난 뒤(마지막 저장 등록 이후) 저장 체인이 끝날 때까지 대기
+        CompletableFuture<?> pendingWrites() {
+            return currentTail().handle((ignored, error) -> null)
+                    .thenCompose(ignored -> currentWriteTail().handle((r, error) -> null));
+        }
+
+        private synchronized CompletableFuture<?> currentTail() {
+            return tail;
+        }
+
+        private synchronized CompletableFuture<?> currentWriteTail() {
+            return writeTail;
+        }
+
+        Void reset() {
+            this.auction = null;
+            return null;
+        }
+    }
+}
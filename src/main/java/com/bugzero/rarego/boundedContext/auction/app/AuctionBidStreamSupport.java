@@ -3,20 +3,36 @@ package com.bugzero.rarego.boundedContext.auction.app;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionBidEventDto;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionCompleteEventDto;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionConnectEventDto;
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionExtendedEventDto;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionHeartbeatEventDto;
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionStreamConnectEventDto;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.*;
 
 /**
  * SSE Emitter 관리 및 이벤트 브로드캐스트 지원
+ * - 이벤트는 브로드캐스트 1회당 한 번만 SSE 프레임(AuctionStreamFrame)으로 인코딩하고 모든 구독자에게 같은 바이트를 전송
+ * - 브로드캐스트/하트비트는 구독자별 송신 큐(AuctionStreamSubscriber)에 넣기만 하고 전송은 구독자별 비동기 writer가 수행
+ *   (느린 연결 하나가 다른 구독자의 입찰 이벤트 전달을 지연시키지 않음)
+ * - 이벤트 ID는 경매별 단조 증가 순번이며, 재연결 시 Last-Event-ID 이후 이벤트를 경매별 링 버퍼에서 재전송
+ *   (OUTBOX 버스는 노드마다 순번이 달라지지 않도록 아웃박스 행 ID를 그대로 이벤트 ID로 사용)
+ * - auction.stream.coalesce-window-ms > 0 이면 경매별로 window 동안의 입찰을 최신 가격/선두 1건으로 병합해 전송
+ *   (window 안의 마지막 입찰은 반드시 flush, 전체 입찰 내역은 입찰 로그 조회로 제공)
+ * - 멀티플렉스 스트림은 한 연결로 여러 경매 이벤트를 받음 (각 이벤트 데이터의 auctionId로 구분, 하트비트는 연결당 1회)
  */
 @Component
 @Slf4j
@@ -24,15 +40,40 @@ public class AuctionBidStreamSupport {
 
     private static final Long DEFAULT_TIMEOUT = 60 * 60 * 1000L; // 1시간
     private static final Long HEARTBEAT_INTERVAL = 30L; // 30초
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = 16; // 구독자별 송신 대기 프레임 수
+    private static final long SLOW_CONSUMER_TIMEOUT_MS = 10_000L; // 송신 큐가 이 시간 이상 가득 차 있으면 연결 종료
+    private static final int REPLAY_BUFFER_SIZE = 256; // 경매별 재전송용 최근 이벤트 수
+    private static final int MAX_AUCTIONS_PER_STREAM = 100; // 멀티플렉스 스트림 1개당 최대 구독 경매 수
+    private static final int MAX_SUBSCRIBERS_PER_AUCTION = 1000; // 경매당 최대 구독자 수 (단일/멀티플렉스 구독 합산)
+    private static final int MULTIPLEX_QUEUE_CAPACITY = 64; // 멀티플렉스 스트림 송신 대기 프레임 수
+    private static final long ENDED_RETENTION_MS = 10 * 60 * 1000L; // 종료된 경매를 기억하는 시간 (늦게 도착한 이벤트 차단용)
 
     private final ObjectMapper objectMapper;
 
+    @Value("${auction.stream.coalesce-window-ms:0}")
+    private long coalesceWindowMs = 0;
+
     // auctionId별 구독자 목록 관리
-    private final Map<Long, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, CopyOnWriteArrayList<AuctionStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // streamId별 멀티플렉스 스트림
+    private final Map<String, AuctionStreamMultiplex> streams = new ConcurrentHashMap<>();
+
+    // auctionId별 최근 이벤트 이력 (진행 중인 경매만, 종료 시 제거)
+    private final Map<Long, AuctionStreamHistory> histories = new ConcurrentHashMap<>();
+
+    // 종료 이벤트를 보낸 경매 (auctionId -> 종료 시각) - 종료 뒤 늦게 도착한 이벤트/구독이 이력을 다시 만들지 않도록 일정 시간 보관
+    private final Map<Long, Long> endedAuctions = new ConcurrentHashMap<>();
+
+    // auctionId별 입찰 이벤트 병합 상태 (병합 사용 시에만)
+    private final Map<Long, BidCoalescer> coalescers = new ConcurrentHashMap<>();
 
-    // 하트비트 스케줄러
+    // 하트비트/병합 flush 스케줄러 (프레임을 송신 큐에 넣기만 하므로 단일 스레드로 충분)
     private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
 
+    // 구독자별 송신 writer (전송이 블로킹되어도 해당 구독자의 가상 스레드만 대기)
+    private final ExecutorService streamWriter = Executors.newVirtualThreadPerTaskExecutor();
+
     public AuctionBidStreamSupport(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
         // 하트비트 시작
@@ -43,45 +84,186 @@ public class AuctionBidStreamSupport {
      * 경매 스트림 구독
      */
     public SseEmitter subscribe(Long auctionId, Integer currentPrice) {
+        return subscribe(auctionId, currentPrice, null);
+    }
+
+    /**
+     * 경매 스트림 구독 (재연결 시 Last-Event-ID 이후 놓친 이벤트를 연결 이벤트 뒤에 이어서 전송)
+     */
+    public SseEmitter subscribe(Long auctionId, Integer currentPrice, String lastEventId) {
+        // 종료된 경매는 이력 버퍼를 새로 만들지 않도록 구독을 받지 않음
+        if (endedAuctions.containsKey(auctionId)) {
+            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "종료된 경매는 구독할 수 없습니다.");
+        }
+
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        AuctionStreamHistory history = historyOf(auctionId);
+        List<AuctionStreamFrame> missed;
 
-        // 경매방 번호가 없고 방이 처음 만들어졌다면 빈 리스트 생성해서 반환
-        emitters.computeIfAbsent(auctionId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        // 구독 등록과 이력 조회를 브로드캐스트와 같은 락 안에서 처리해 재전송과 실시간 이벤트 사이에 누락/중복이 없도록 함
+        synchronized (history) {
+            validateSubscriberCapacity(auctionId);
 
-        log.info("경매 {} 구독 시작 - 현재 구독자 수: {}", auctionId, emitters.get(auctionId).size());
+            long lastSequence = parseSequence(lastEventId);
+            missed = history.framesAfter(lastSequence);
+            if (!missed.isEmpty() && history.hasGapAfter(lastSequence)) {
+                log.info("경매 {} 재연결 - 이력 버퍼를 넘어선 이벤트는 재전송 불가 (Last-Event-ID: {})", auctionId, lastEventId);
+            }
+
+            AuctionStreamFrame connect;
+            try {
+                // 연결 이벤트 ID는 현재 순번 (이후 재연결 시 이 지점부터 이어받음)
+                connect = AuctionStreamFrame.encode(
+                        objectMapper,
+                        "connect",
+                        String.valueOf(history.lastSequence()),
+                        AuctionConnectEventDto.create(auctionId, currentPrice)
+                );
+            } catch (JsonProcessingException e) {
+                log.error("연결 이벤트 직렬화 실패", e);
+                emitter.complete();
+                return emitter;
+            }
+
+            // 재전송분이 송신 큐에서 밀려나지 않도록 그만큼 큐를 늘려서 생성
+            AuctionStreamSubscriber subscriber = new AuctionStreamSubscriber(
+                    emitter,
+                    streamWriter,
+                    SUBSCRIBER_QUEUE_CAPACITY + missed.size(),
+                    SLOW_CONSUMER_TIMEOUT_MS,
+                    () -> removeSubscriber(auctionId, emitter)
+            );
+
+            // 경매방 번호가 없고 방이 처음 만들어졌다면 빈 리스트 생성해서 반환
+            subscribers.computeIfAbsent(auctionId, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+            subscriber.offer(connect);
+            missed.forEach(subscriber::offer);
+        }
+
+        if (!missed.isEmpty()) {
+            log.info("경매 {} 재연결 - 놓친 이벤트 {}건 재전송", auctionId, missed.size());
+        }
+
+        log.info("경매 {} 구독 시작 - 현재 구독자 수: {}", auctionId, getAuctionSubscribers(auctionId));
 
         // 타임아웃/에러/완료 시 정리
         emitter.onTimeout(() -> {
             log.info("경매 {} 구독 타임아웃", auctionId);
-            removeEmitter(auctionId, emitter);
+            removeSubscriber(auctionId, emitter);
         });
 
         emitter.onError((e) -> {
             log.error("경매 {} 구독 에러", auctionId, e);
-            removeEmitter(auctionId, emitter);
+            removeSubscriber(auctionId, emitter);
         });
 
         emitter.onCompletion(() -> {
             log.info("경매 {} 구독 완료", auctionId);
-            removeEmitter(auctionId, emitter);
+            removeSubscriber(auctionId, emitter);
         });
 
-        // 최초 연결 이벤트 전송
+        return emitter;
+    }
+
+    /**
+     * 여러 경매를 한 연결로 구독 (연결 이벤트로 streamId를 전달하고, 이후 구독 경매는 재연결 없이 추가/해제)
+     *
+     * @param ownerPublicId 로그인 회원 publicId (비로그인이면 null)
+     * @param auctionIds    존재가 확인된 경매 ID 목록
+     */
+    public SseEmitter subscribeMultiplex(String ownerPublicId, Set<Long> auctionIds) {
+        validateStreamSize(auctionIds.size());
+        auctionIds.forEach(this::validateSubscriberCapacity);
+
+        String streamId = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        AuctionStreamSubscriber subscriber = new AuctionStreamSubscriber(
+                emitter,
+                streamId,
+                streamWriter,
+                MULTIPLEX_QUEUE_CAPACITY,
+                SLOW_CONSUMER_TIMEOUT_MS,
+                () -> closeStream(streamId)
+        );
+        AuctionStreamMultiplex stream = new AuctionStreamMultiplex(streamId, ownerPublicId, subscriber);
+
         try {
-            sendToEmitter(
-                    emitter,
+            // 경매별 순번과 섞이지 않도록 연결 이벤트는 ID 없이 전송
+            subscriber.offer(AuctionStreamFrame.encode(
+                    objectMapper,
                     "connect",
-                    System.currentTimeMillis() + "_init",
-                    AuctionConnectEventDto.create(auctionId, currentPrice)
-            );
-        } catch (IOException e) {
-            log.error("연결 이벤트 전송 실패", e);
-            removeEmitter(auctionId, emitter);
+                    null,
+                    AuctionStreamConnectEventDto.create(streamId, auctionIds)
+            ));
+        } catch (JsonProcessingException e) {
+            log.error("스트림 연결 이벤트 직렬화 실패", e);
+            emitter.complete();
+            return emitter;
         }
 
+        streams.put(streamId, stream);
+        try {
+            auctionIds.forEach(auctionId -> attach(stream, auctionId));
+        } catch (CustomException e) {
+            // 사전 확인 이후 다른 구독으로 한도가 찬 경우 - 일부만 구독된 스트림을 남기지 않음
+            closeStream(streamId);
+            emitter.complete();
+            throw e;
+        }
+
+        log.info("멀티플렉스 스트림 {} 구독 시작 - 경매 {}건", streamId, auctionIds.size());
+
+        emitter.onTimeout(() -> closeStream(streamId));
+        emitter.onError((e) -> closeStream(streamId));
+        emitter.onCompletion(() -> {
+            log.info("멀티플렉스 스트림 {} 구독 완료", streamId);
+            closeStream(streamId);
+        });
+
         return emitter;
     }
 
+    /**
+     * 멀티플렉스 스트림에 구독 경매 추가
+     */
+    public Set<Long> addSubscriptions(String streamId, String publicId, Set<Long> auctionIds) {
+        AuctionStreamMultiplex stream = getStream(streamId, publicId);
+
+        List<Long> added = auctionIds.stream().filter(id -> !stream.auctionIds().contains(id)).toList();
+        validateStreamSize(stream.auctionIds().size() + added.size());
+        added.forEach(this::validateSubscriberCapacity);
+
+        auctionIds.forEach(auctionId -> attach(stream, auctionId));
+        return Set.copyOf(stream.auctionIds());
+    }
+
+    /**
+     * 멀티플렉스 스트림에서 구독 경매 해제
+     */
+    public Set<Long> removeSubscriptions(String streamId, String publicId, Set<Long> auctionIds) {
+        AuctionStreamMultiplex stream = getStream(streamId, publicId);
+
+        auctionIds.forEach(auctionId -> {
+            if (stream.auctionIds().remove(auctionId)) {
+                removeSubscriber(auctionId, stream.subscriber().emitter());
+            }
+        });
+        return Set.copyOf(stream.auctionIds());
+    }
+
+    /**
+     * 이벤트 버스로 받은 스트림 이벤트를 이 인스턴스의 구독자에게 전달
+     */
+    public void deliver(AuctionStreamMessage message) {
+        switch (message.type()) {
+            case BID -> broadcastBid(
+                    message.auctionId(), message.amount(), message.memberName(), message.time(), message.eventId());
+            case EXTEND -> broadcastAuctionExtended(message.auctionId(), message.time(), message.eventId());
+            case END -> broadcastAuctionEnded(
+                    message.auctionId(), message.amount(), message.memberName(), message.eventId());
+        }
+    }
+
     /**
      * 특정 경매의 모든 구독자에게 입찰 이벤트 브로드캐스트
      */
@@ -90,6 +272,16 @@ public class AuctionBidStreamSupport {
             Integer bidAmount,
             String bidderName,
             LocalDateTime bidTime
+    ) {
+        broadcastBid(auctionId, bidAmount, bidderName, bidTime, null);
+    }
+
+    private void broadcastBid(
+            Long auctionId,
+            Integer bidAmount,
+            String bidderName,
+            LocalDateTime bidTime,
+            Long eventId
     ) {
         AuctionBidEventDto event = AuctionBidEventDto.create(
                 auctionId,
@@ -98,12 +290,23 @@ public class AuctionBidStreamSupport {
                 bidTime
         );
 
-        broadcast(
-                auctionId,
-                "bid",
-                System.currentTimeMillis() + "_" + auctionId,
-                event
-        );
+        if (coalesceWindowMs <= 0) {
+            broadcast(auctionId, "bid", event, eventId);
+            return;
+        }
+
+        coalesceBid(auctionId, event, eventId);
+    }
+
+    /**
+     * 마감 연장 이벤트 브로드캐스트
+     */
+    public void broadcastAuctionExtended(Long auctionId, LocalDateTime endTime) {
+        broadcastAuctionExtended(auctionId, endTime, null);
+    }
+
+    private void broadcastAuctionExtended(Long auctionId, LocalDateTime endTime, Long eventId) {
+        broadcast(auctionId, "extend", AuctionExtendedEventDto.create(auctionId, endTime), eventId);
     }
 
     /**
@@ -114,18 +317,20 @@ public class AuctionBidStreamSupport {
             Integer finalPrice,
             String winnerName
     ) {
+        broadcastAuctionEnded(auctionId, finalPrice, winnerName, null);
+    }
+
+    private void broadcastAuctionEnded(Long auctionId, Integer finalPrice, String winnerName, Long eventId) {
         AuctionCompleteEventDto event = AuctionCompleteEventDto.create(
                 auctionId,
                 finalPrice,
                 winnerName
         );
 
-        broadcast(
-                auctionId,
-                "end",
-                System.currentTimeMillis() + "_end",
-                event
-        );
+        // 종료 이벤트보다 먼저 병합 대기 중인 마지막 입찰을 전송
+        flushPendingBid(auctionId, true);
+
+        broadcast(auctionId, "end", event, eventId);
 
         // 경매 종료 후 모든 연결 정리
         closeAllConnections(auctionId);
@@ -133,11 +338,12 @@ public class AuctionBidStreamSupport {
 
 
     /**
-     * 애플리케이션 종료 시 하트비트 스케줄러를 안전하게 종료
+     * 애플리케이션 종료 시 하트비트 스케줄러와 송신 writer를 안전하게 종료
      */
     @PreDestroy
     public void stopHeartbeat() {
         log.info("SSE 하트비트 스케줄러 종료 시작...");
+        streamWriter.shutdown();
         heartbeatScheduler.shutdown();
         try {
             if (!heartbeatScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -149,11 +355,18 @@ public class AuctionBidStreamSupport {
         }
     }
 
+    /**
+     * 현재 멀티플렉스 스트림 수 조회 (모니터링용)
+     */
+    public int getTotalStreams() {
+        return streams.size();
+    }
+
     /**
      * 현재 구독자 수 조회 (모니터링용)
      */
     public int getTotalSubscribers() {
-        return emitters.values().stream()
+        return subscribers.values().stream()
                 .mapToInt(CopyOnWriteArrayList::size)
                 .sum();
     }
@@ -162,75 +375,220 @@ public class AuctionBidStreamSupport {
      * 특정 경매 구독자 수 조회
      */
     public int getAuctionSubscribers(Long auctionId) {
-        CopyOnWriteArrayList<SseEmitter> auctionEmitters = emitters.get(auctionId);
-        return auctionEmitters != null ? auctionEmitters.size() : 0;
+        CopyOnWriteArrayList<AuctionStreamSubscriber> auctionSubscribers = subscribers.get(auctionId);
+        return auctionSubscribers != null ? auctionSubscribers.size() : 0;
     }
 
     // helper method
 
     /**
-     * 브로드캐스트 공통 로직
+     * 브로드캐스트 공통 로직 (구독자 수와 무관하게 직렬화/인코딩은 1회, 호출 스레드는 송신 큐에 넣기만 함)
+     * - 구독자가 없어도 이력에는 기록 (연결이 끊긴 클라이언트가 재연결 시 이어받을 수 있도록)
+     * - eventId가 있으면(OUTBOX) 그 값을 순번으로 사용하고, 병합 flush 등으로 이미 지난 ID가 늦게 오면
+     *   Last-Event-ID가 뒤로 가지 않도록 ID 없이 실시간으로만 전송
      */
-    private void broadcast(Long auctionId, String eventName, String eventId, Object data) {
-        CopyOnWriteArrayList<SseEmitter> auctionEmitters = emitters.get(auctionId);
+    private void broadcast(Long auctionId, String eventName, Object data, Long eventId) {
+        AuctionStreamHistory history = historyOf(auctionId);
+
+        synchronized (history) {
+            // 종료 뒤 늦게 도착한 이벤트(비동기 리스너/다른 인스턴스)는 전송할 구독자도 없으므로 이력을 만들지 않고 버림
+            if (endedAuctions.containsKey(auctionId)) {
+                histories.remove(auctionId, history);
+                log.debug("경매 {} 종료 후 도착한 {} 이벤트 무시", auctionId, eventName);
+                return;
+            }
+
+            long sequence = eventId != null ? eventId : history.lastSequence() + 1;
+            boolean replayable = sequence > history.lastSequence();
 
-        if (auctionEmitters == null || auctionEmitters.isEmpty()) {
-            log.debug("경매 {}의 구독자가 없습니다.", auctionId);
+            AuctionStreamFrame frame;
+            try {
+                frame = AuctionStreamFrame.encode(
+                        objectMapper, eventName, replayable ? String.valueOf(sequence) : null, data);
+            } catch (JsonProcessingException e) {
+                log.error("경매 {} {} 이벤트 직렬화 실패", auctionId, eventName, e);
+                return;
+            }
+            if (replayable) {
+                history.append(sequence, frame);
+            }
+
+            CopyOnWriteArrayList<AuctionStreamSubscriber> auctionSubscribers = subscribers.get(auctionId);
+            if (auctionSubscribers == null || auctionSubscribers.isEmpty()) {
+                log.debug("경매 {}의 구독자가 없습니다.", auctionId);
+                return;
+            }
+
+            log.info("경매 {} 이벤트 브로드캐스트 - {} 구독자", auctionId, auctionSubscribers.size());
+
+            auctionSubscribers.forEach(subscriber -> subscriber.offer(frame));
+        }
+    }
+
+    /**
+     * 입찰 이벤트 병합 - 직전 전송 후 window가 지났으면 즉시 전송, 아니면 최신 입찰만 남겨두고 window 끝에 flush
+     */
+    private void coalesceBid(Long auctionId, AuctionBidEventDto event, Long eventId) {
+        BidCoalescer coalescer = coalescers.computeIfAbsent(auctionId, k -> new BidCoalescer());
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(coalesceWindowMs);
+
+        synchronized (coalescer) {
+            // 비동기 리스너 순서가 뒤바뀌어도 더 높은 입찰가가 최신
+            if (coalescer.pending != null && coalescer.pending.bidAmount() > event.bidAmount()) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            if (!coalescer.flushScheduled && now - coalescer.lastSentAt >= windowNanos) {
+                coalescer.lastSentAt = now;
+                broadcast(auctionId, "bid", event, eventId);
+                return;
+            }
+
+            coalescer.pending = event;
+            coalescer.pendingEventId = eventId;
+            if (!coalescer.flushScheduled) {
+                coalescer.flushScheduled = true;
+                long delay = Math.max(0L, coalescer.lastSentAt + windowNanos - now);
+                heartbeatScheduler.schedule(() -> flushPendingBid(auctionId, false), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * 병합 대기 중인 마지막 입찰 전송 (경매 종료 시에는 병합 상태도 제거)
+     */
+    private void flushPendingBid(Long auctionId, boolean remove) {
+        BidCoalescer coalescer = remove ? coalescers.remove(auctionId) : coalescers.get(auctionId);
+        if (coalescer == null) {
             return;
         }
 
-        log.info("경매 {} 이벤트 브로드캐스트 - {} 구독자", auctionId, auctionEmitters.size());
+        synchronized (coalescer) {
+            coalescer.flushScheduled = false;
+            AuctionBidEventDto pending = coalescer.pending;
+            if (pending == null) {
+                return;
+            }
+            coalescer.pending = null;
+            coalescer.lastSentAt = System.nanoTime();
+            broadcast(auctionId, "bid", pending, coalescer.pendingEventId);
+        }
+    }
 
-        auctionEmitters.forEach(emitter -> {
-            try {
-                sendToEmitter(emitter, eventName, eventId, data);
-            } catch (IOException e) {
-                log.error("이벤트 전송 실패", e);
-                removeEmitter(auctionId, emitter);
+    // 멀티플렉스 스트림을 경매 구독자 목록에 등록 (브로드캐스트와 같은 락 안에서 처리)
+    private void attach(AuctionStreamMultiplex stream, Long auctionId) {
+        AuctionStreamHistory history = historyOf(auctionId);
+        synchronized (history) {
+            // 구독 대상 확인과 종료 사이에 끝난 경매
+            if (endedAuctions.containsKey(auctionId)) {
+                histories.remove(auctionId, history);
+                return;
             }
-        });
+            if (stream.auctionIds().contains(auctionId)) {
+                return;
+            }
+            validateSubscriberCapacity(auctionId);
+            stream.auctionIds().add(auctionId);
+            subscribers.computeIfAbsent(auctionId, k -> new CopyOnWriteArrayList<>()).add(stream.subscriber());
+        }
+    }
+
+    private AuctionStreamMultiplex getStream(String streamId, String publicId) {
+        AuctionStreamMultiplex stream = streams.get(streamId);
+        // 다른 회원의 스트림은 존재 여부도 노출하지 않음
+        if (stream == null || !stream.isAccessibleBy(publicId)) {
+            throw new CustomException(ErrorType.AUCTION_STREAM_NOT_FOUND);
+        }
+        return stream;
+    }
+
+    // 경매당 구독자 수 한도 (단일 구독과 멀티플렉스 구독이 같은 구독자 목록을 공유하므로 한 곳에서 확인)
+    private void validateSubscriberCapacity(Long auctionId) {
+        int current = getAuctionSubscribers(auctionId);
+        if (current >= MAX_SUBSCRIBERS_PER_AUCTION) {
+            log.warn("경매 {} 구독자 수 한도 초과 - 현재: {}", auctionId, current);
+            throw new CustomException(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED);
+        }
+    }
+
+    private void validateStreamSize(int size) {
+        if (size > MAX_AUCTIONS_PER_STREAM) {
+            throw new CustomException(ErrorType.AUCTION_STREAM_AUCTION_LIMIT_EXCEEDED);
+        }
     }
 
     /**
-     * 개별 Emitter에 이벤트 전송 (String 데이터 대응)
+     * 멀티플렉스 스트림 제거 (연결 종료/끊김 시)
      */
-    private void sendToEmitter(SseEmitter emitter, String eventName, String eventId, Object data)
-            throws IOException {
+    private void closeStream(String streamId) {
+        AuctionStreamMultiplex stream = streams.remove(streamId);
+        if (stream == null) {
+            return;
+        }
 
-        // 데이터가 이미 String(JSON)이면 그대로 쓰고, 아니면 직렬화 수행
-        String jsonData = (data instanceof String) ? (String) data : objectMapper.writeValueAsString(data);
+        stream.auctionIds().forEach(auctionId -> removeSubscriber(auctionId, stream.subscriber().emitter()));
+        log.info("멀티플렉스 스트림 {} 제거", streamId);
+    }
 
-        emitter.send(SseEmitter.event()
-                .name(eventName)
-                .id(eventId)
-                .data(jsonData)
-        );
+    private AuctionStreamHistory historyOf(Long auctionId) {
+        return histories.computeIfAbsent(auctionId, k -> new AuctionStreamHistory(REPLAY_BUFFER_SIZE));
     }
 
     /**
-     * Emitter 제거
+     * Last-Event-ID를 경매별 순번으로 변환 (없거나 이전 형식의 ID면 재전송하지 않도록 -1)
      */
-    private void removeEmitter(Long auctionId, SseEmitter emitter) {
-        CopyOnWriteArrayList<SseEmitter> auctionEmitters = emitters.get(auctionId);
-        if (auctionEmitters != null) {
-            auctionEmitters.remove(emitter);
-
-            // 구독자가 없으면 목록 자체를 제거
-            if (auctionEmitters.isEmpty()) {
-                emitters.remove(auctionId);
+    private long parseSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * 구독자 제거
+     */
+    private void removeSubscriber(Long auctionId, SseEmitter emitter) {
+        CopyOnWriteArrayList<AuctionStreamSubscriber> auctionSubscribers = subscribers.get(auctionId);
+        if (auctionSubscribers != null) {
+            auctionSubscribers.removeIf(subscriber -> subscriber.emitter() == emitter);
+
+            // 구독자가 없으면 목록 자체를 제거 (이미 종료된 경매라면 이력도 함께 제거)
+            if (auctionSubscribers.isEmpty()) {
+                subscribers.remove(auctionId, auctionSubscribers);
+                if (endedAuctions.containsKey(auctionId)) {
+                    histories.remove(auctionId);
+                }
                 log.info("경매 {} 구독자 목록 제거", auctionId);
             }
         }
     }
 
     /**
-     * 특정 경매의 모든 연결 종료
+     * 특정 경매의 모든 연결 종료 (송신 큐에 남은 종료 이벤트까지 보낸 뒤 종료)
      */
     private void closeAllConnections(Long auctionId) {
-        CopyOnWriteArrayList<SseEmitter> auctionEmitters = emitters.remove(auctionId);
-        if (auctionEmitters != null) {
-            auctionEmitters.forEach(SseEmitter::complete);
-            log.info("경매 {} 모든 연결 종료 - {}건", auctionId, auctionEmitters.size());
+        endedAuctions.put(auctionId, System.currentTimeMillis());
+        histories.remove(auctionId);
+        CopyOnWriteArrayList<AuctionStreamSubscriber> auctionSubscribers = subscribers.remove(auctionId);
+        if (auctionSubscribers != null) {
+            auctionSubscribers.forEach(subscriber -> {
+                if (!subscriber.isMultiplexed()) {
+                    subscriber.completeAfterDrain();
+                    return;
+                }
+
+                // 멀티플렉스 스트림은 연결을 유지하고 종료된 경매만 구독 해제
+                AuctionStreamMultiplex stream = streams.get(subscriber.streamId());
+                if (stream != null) {
+                    stream.auctionIds().remove(auctionId);
+                }
+            });
+            log.info("경매 {} 모든 연결 종료 - {}건", auctionId, auctionSubscribers.size());
         }
     }
 
@@ -240,24 +598,26 @@ public class AuctionBidStreamSupport {
     private void startHeartbeat() {
         heartbeatScheduler.scheduleAtFixedRate(() -> {
             try {
-                // 루프 밖에서 한 번만 JSON으로 직렬화
-                String heartbeatJson = objectMapper.writeValueAsString(AuctionHeartbeatEventDto.create());
-
-                emitters.forEach((auctionId, auctionEmitters) -> {
-                    auctionEmitters.forEach(emitter -> {
-                        try {
-                            sendToEmitter(
-                                    emitter,
-                                    "ping",
-                                    System.currentTimeMillis() + "_ping",
-                                    heartbeatJson
-                            );
-                        } catch (IOException e) {
-                            log.debug("하트비트 전송 실패 (연결 끊김)", e);
-                            removeEmitter(auctionId, emitter);
-                        }
-                    });
-                });
+                // 루프 밖에서 한 번만 SSE 프레임으로 인코딩 (모든 경매의 구독자가 공유)
+                AuctionStreamFrame heartbeat = AuctionStreamFrame.encode(
+                        objectMapper,
+                        "ping",
+                        null, // 핑은 클라이언트의 Last-Event-ID를 바꾸지 않도록 ID 없이 전송
+                        AuctionHeartbeatEventDto.create()
+                );
+
+                // 송신 큐가 밀린 구독자에게는 핑이 먼저 버려짐 (멀티플렉스 스트림은 경매 수와 무관하게 연결당 1회)
+                subscribers.values().forEach(auctionSubscribers ->
+                        auctionSubscribers.forEach(subscriber -> {
+                            if (!subscriber.isMultiplexed()) {
+                                subscriber.offer(heartbeat);
+                            }
+                        }));
+                streams.values().forEach(stream -> stream.subscriber().offer(heartbeat));
+
+                // 보관 시간이 지난 종료 경매 정리 (그 사이 늦은 이벤트는 모두 도착했다고 봄)
+                long expiredBefore = System.currentTimeMillis() - ENDED_RETENTION_MS;
+                endedAuctions.values().removeIf(endedAt -> endedAt < expiredBefore);
             } catch (Exception e) {
                 log.error("하트비트 직렬화 실패", e);
             }
@@ -266,4 +626,12 @@ public class AuctionBidStreamSupport {
         log.info("SSE 하트비트 스케줄러 시작 - {}초 간격", HEARTBEAT_INTERVAL);
     }
 
+    // 경매별 입찰 병합 상태 (이 객체를 락으로 사용)
+    private static final class BidCoalescer {
+        private AuctionBidEventDto pending;
+        private Long pendingEventId;
+        private long lastSentAt = System.nanoTime() - TimeUnit.DAYS.toNanos(1);
+        private boolean flushScheduled;
+    }
+
 }
\ No newline at end of file
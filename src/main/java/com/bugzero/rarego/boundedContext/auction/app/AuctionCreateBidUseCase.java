@@ -2,8 +2,9 @@ package com.bugzero.rarego.boundedContext.auction.app;
 
 import com.bugzero.rarego.boundedContext.auction.domain.Auction;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
-import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionSnapshot;
 import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.auction.domain.ProxyBid;
 import com.bugzero.rarego.boundedContext.auction.event.AuctionBidCreatedEvent;
 import com.bugzero.rarego.boundedContext.auction.out.AuctionMemberRepository;
 import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
@@ -11,26 +12,81 @@ import com.bugzero.rarego.boundedContext.auction.out.BidRepository;
 import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.response.ErrorType;
 import com.bugzero.rarego.shared.auction.dto.BidResponseDto;
+import com.bugzero.rarego.shared.auction.dto.ProxyBidResponseDto;
+import com.bugzero.rarego.shared.payment.dto.DepositHoldResponseDto;
 import com.bugzero.rarego.shared.payment.out.PaymentApiClient;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuctionCreateBidUseCase {
 
+    private static final int MAX_OPTIMISTIC_ATTEMPTS = 3;
+
     private final AuctionSupport support;
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final AuctionMemberRepository auctionMemberRepository;
     private final PaymentApiClient paymentApiClient;
+    private final AuctionDepositHoldCache depositHoldCache;
+    private final AuctionDepositHoldTracker depositHoldTracker;
+    private final AuctionSnapshotSupport snapshotSupport;
+    private final AuctionProxyBidSupport proxyBidSupport;
+    private final AuctionSoftCloseSupport softCloseSupport;
     private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 보증금 선승인 - 경매 락을 잡기 전에 호출
+     * - 인메모리 스냅샷으로 1차 검증하여 명백히 거절될 입찰(금액 부족, 종료된 경매 등)은 DB 접근 없이 거절
+     * - Hold는 (회원, 경매) 단위로 멱등이므로 재입찰 시에는 기존 예치 건을 그대로 사용
+     * - 이미 Hold가 확인된 (회원, 경매)는 결제 API 호출을 생략
+     * - 선승인 후에는 입찰 결과에 따라 confirmDeposit 또는 compensateDeposit을 반드시 호출
+     */
+    public void preAuthorizeDeposit(Long auctionId, String memberPublicId, int bidAmount) {
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
+        AuctionSnapshot snapshot = snapshotSupport.get(auctionId);
+
+        snapshot.validateBid(bidder.getId(), bidAmount, !softCloseSupport.isEnabled());
+
+        depositHoldTracker.begin(memberPublicId, auctionId, () -> holdDeposit(bidder, snapshot));
+    }
+
+    /**
+     * 자동 입찰 등록용 보증금 선승인 - 최대 금액 검증은 경매 락 구간에서 수행
+     */
+    public void preAuthorizeProxyDeposit(Long auctionId, String memberPublicId) {
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
+        AuctionSnapshot snapshot = snapshotSupport.get(auctionId);
+
+        depositHoldTracker.begin(memberPublicId, auctionId, () -> holdDeposit(bidder, snapshot));
+    }
+
+    /**
+     * 선승인 확정 - 입찰(또는 자동 입찰 등록)이 저장된 경우 호출
+     */
+    public void confirmDeposit(Long auctionId, String memberPublicId) {
+        depositHoldTracker.end(memberPublicId, auctionId, true, null);
+    }
+
+    /**
+     * 보증금 보상 - 선승인 후 락 구간에서 입찰이 거절된 경우 호출
+     * - 같은 회원의 다른 입찰 요청이 진행 중이거나, 이번 요청들이 새로 만든 Hold가 아니면 유지
+     * - 이 경매에 유효한 입찰 기록이나 자동 입찰 등록이 있으면 보증금을 유지
+     * - 해제 실패 시에도 경매 종료 시점의 일괄 환급에서 정리되므로 예외를 전파하지 않음
+     */
+    public void compensateDeposit(Long auctionId, String memberPublicId) {
+        depositHoldTracker.end(memberPublicId, auctionId, false, () -> releaseDeposit(auctionId, memberPublicId));
+    }
+
+    // 보증금은 preAuthorizeDeposit에서 선승인되므로 락 구간에서는 검증과 저장만 수행
     @Transactional
     public BidResponseDto createBid(Long auctionId, String memberPublicId, int bidAmount) {
         // 1. 회원 조회
@@ -39,67 +95,150 @@ public class AuctionCreateBidUseCase {
         // 2. 경매 조회 (비관적 락)
         Auction auction = support.getAuctionWithLock(auctionId);
 
-        // 3. 유효성 검증
-        validateBid(auction, bidder, bidAmount);
+        // 3. 유효성 검증 (락을 잡은 최신 상태 기준)
+        auction.validateBid(bidder.getId(), bidAmount);
 
-        // 현재는 경매 시작 금액의 10%만 보증금으로 책정
-        int depositAmount = (int) (auction.getStartPrice() * 0.1);
+        // 4. 입찰 정보 저장
+        Bid bid = saveBid(auction, bidder.getId(), bidAmount);
 
-        // 보증금 Hold (유효성 검증 통과 후 보증금 Hold)
-        paymentApiClient.holdDeposit(depositAmount, memberPublicId, auctionId);
+        // 5. 현재가/최고 입찰자/입찰 수 갱신 (IDENTITY 전략이라 저장 직후 bidId 확보됨)
+        auction.applyBid(bid);
 
-        // 4. 현재가 갱신
-        auction.updateCurrentPrice(bidAmount);
+        // 6. 자동 입찰 응찰 (응답의 현재가는 경합 해소 후 기준)
+        resolveProxyBids(auction);
 
-        // 5. 입찰 정보 저장 (bidder.getId() 사용)
-        Bid bid = Bid.builder()
-                .auctionId(auctionId)
-                .bidderId(bidder.getId())
-                .bidAmount(bidAmount)
-                .build();
+        // 7. 마감 직전 입찰이면 종료 시간 연장
+        softCloseSupport.extend(auction, bid.getBidTime());
 
-        bidRepository.save(bid);
+        return BidResponseDto.from(bid, bidder.getPublicId(), Long.valueOf(auction.getCurrentPrice()));
+    }
 
-        eventPublisher.publishEvent(
-                AuctionBidCreatedEvent.of(auctionId, bidder.getId(), bidAmount)
-        );
+    /**
+     * 자동 입찰 등록 (최대 금액 위임)
+     * - 경매 락 구간에서 등록 후 자동 입찰 간 경합을 바로 해소
+     * - 보증금은 preAuthorizeProxyDeposit에서 선승인됨
+     */
+    @Transactional
+    public ProxyBidResponseDto registerProxyBid(Long auctionId, String memberPublicId, int maxAmount) {
+        // 1. 회원 조회
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
 
-        return BidResponseDto.from(
-                bid,
-                bidder.getPublicId(),
-                Long.valueOf(auction.getCurrentPrice())
-        );
-    }
+        // 2. 경매 조회 (비관적 락)
+        Auction auction = support.getAuctionWithLock(auctionId);
+
+        // 3. 유효성 검증 (현재 최고 입찰자는 최대 금액만 상향)
+        auction.validateProxyBid(bidder.getId(), maxAmount);
+
+        // 4. 자동 입찰 등록 후 경합 해소
+        ProxyBid proxyBid = proxyBidSupport.register(auctionId, bidder.getId(), maxAmount);
+        Bid lastAutoBid = resolveProxyBids(auction);
 
-    private void validateBid(Auction auction, AuctionMember bidder, int bidAmount) {
-        // 경매가 진행중이 아닐 때 입찰 방지
-        if (auction.getStatus() != AuctionStatus.IN_PROGRESS) {
-            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매가 진행 중인 상태가 아닙니다.");
+        // 5. 자동 입찰이 실제로 들어간 경우에만 마감 연장 판단
+        if (lastAutoBid != null) {
+            softCloseSupport.extend(auction, lastAutoBid.getBidTime());
         }
 
-        // 판매자 본인 입찰 방지 (ID 비교)
-        if (auction.getSellerId().equals(bidder.getId())) {
-            throw new CustomException(ErrorType.AUCTION_SELLER_CANNOT_BID, "본인 경매에는 입찰할 수 없습니다.");
+        return ProxyBidResponseDto.from(proxyBid, auction, memberPublicId);
+    }
+
+    /**
+     * 낙관적 입찰 (auction.bid.mode=OPTIMISTIC)
+     * - 경매 행을 잠그지 않고 version 조건부 UPDATE로 현재가를 반영
+     * - 충돌 시 최신 행을 다시 읽어 재검증 후 재시도
+     * - READ_COMMITTED: 같은 트랜잭션 안에서 재조회할 때 다른 입찰의 커밋 결과를 읽기 위함
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BidResponseDto createBidOptimistic(Long auctionId, String memberPublicId, int bidAmount) {
+        // 1. 회원 조회
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
+
+        for (int attempt = 1; attempt <= MAX_OPTIMISTIC_ATTEMPTS; attempt++) {
+            // 2. 경매 조회 (락 없음, 조건부 UPDATE 실패 후에는 영속성 컨텍스트가 비워져 최신 행을 읽음)
+            Auction auction = support.findAuctionById(auctionId);
+
+            // 3. 유효성 검증 (보증금은 선승인됨)
+            auction.validateBid(bidder.getId(), bidAmount);
+
+            // 4. 조회한 version 그대로일 때만 현재가/최고 입찰자/입찰 수 갱신
+            int updated = auctionRepository.compareAndSetLeadingBid(
+                    auctionId, auction.getVersion(), bidder.getId(), bidAmount);
+            if (updated == 1) {
+                // 5. 입찰 정보 저장 후 최고 입찰 ID 기록
+                Bid bid = saveBid(auction, bidder.getId(), bidAmount);
+                auctionRepository.updateHighestBidId(auctionId, bid.getId());
+
+                // 조건부 UPDATE가 반영한 행과 같은 상태로 맞춤 (준영속 상태라 추가 쓰기 없음)
+                auction.applyBid(bid);
+
+                // 마감 직전 입찰이면 종료 시간 연장 (더 늦은 종료 시간으로만 갱신되는 조건부 UPDATE)
+                if (softCloseSupport.extend(auction, bid.getBidTime())) {
+                    auctionRepository.extendEndTime(auctionId, auction.getEndTime());
+                }
+
+                return BidResponseDto.from(bid, bidder.getPublicId(), Long.valueOf(auction.getCurrentPrice()));
+            }
+
+            log.debug("경매 {} 낙관적 입찰 충돌 - 재시도 {}/{}", auctionId, attempt, MAX_OPTIMISTIC_ATTEMPTS);
         }
 
-        // 연속 입찰 방지 (현재 최고 입찰자 = 본인이면 거절)
-        Optional<Bid> lastBid = bidRepository.findTopByAuctionIdOrderByBidTimeDesc(auction.getId());
-        if (lastBid.isPresent() && lastBid.get().getBidderId().equals(bidder.getId())) {
-            throw new CustomException(ErrorType.AUCTION_ALREADY_HIGHEST_BIDDER, "연속 입찰은 불가합니다.");
+        throw new CustomException(ErrorType.AUCTION_BID_CONFLICT);
+    }
+
+    // 이번 호출로 새 Hold가 만들어졌으면 true (이미 Hold된 경우 false)
+    private boolean holdDeposit(AuctionMember bidder, AuctionSnapshot snapshot) {
+        if (depositHoldCache.isHeld(bidder.getId(), snapshot.auctionId())) {
+            return false;
         }
 
-        // 경매 입찰 가능한 시간인지에 대한 검증
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(auction.getStartTime()) || now.isAfter(auction.getEndTime())) {
-            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매 시간이 아닙니다.");
+        DepositHoldResponseDto response = paymentApiClient.holdDeposit(
+                snapshot.calculateDepositAmount(), bidder.getPublicId(), snapshot.auctionId());
+        depositHoldCache.markHeld(bidder.getId(), snapshot.auctionId());
+        return response.created();
+    }
+
+    private void releaseDeposit(Long auctionId, String memberPublicId) {
+        AuctionMember bidder = support.getPublicMember(memberPublicId);
+        if (bidRepository.existsByAuctionIdAndBidderId(auctionId, bidder.getId())
+                || proxyBidSupport.isRegistered(auctionId, bidder.getId())) {
+            return;
         }
 
-        // 입찰 금액 검증
-        int minimumBid = lastBid.isEmpty() ? auction.getStartPrice()
-                : auction.getCurrentPrice() + auction.getTickSize();
+        depositHoldCache.evict(bidder.getId(), auctionId);
+        try {
+            paymentApiClient.releaseDeposit(memberPublicId, auctionId);
+        } catch (Exception e) {
+            log.warn("경매 {} 보증금 선승인 해제 실패 - memberPublicId: {}", auctionId, memberPublicId, e);
+        }
+    }
 
-        if (bidAmount < minimumBid) {
-            throw new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW, "입찰 금액이 유효하지 않습니다.");
+    // 자동 입찰끼리의 경합을 한 요청 안에서 최종 상태까지 반영 (매 단계마다 적어도 하나의 자동 입찰이 소진되므로 종료됨)
+    // 마지막으로 들어간 자동 입찰을 반환 (없으면 null)
+    private Bid resolveProxyBids(Auction auction) {
+        Bid lastBid = null;
+        List<AuctionProxyBidSupport.AutoBid> autoBids = proxyBidSupport.plan(auction);
+        while (!autoBids.isEmpty()) {
+            for (AuctionProxyBidSupport.AutoBid autoBid : autoBids) {
+                lastBid = saveBid(auction, autoBid.bidderId(), autoBid.bidAmount());
+                auction.applyBid(lastBid);
+            }
+            autoBids = proxyBidSupport.plan(auction);
         }
+        return lastBid;
+    }
+
+    private Bid saveBid(Auction auction, Long bidderId, int bidAmount) {
+        Bid bid = Bid.builder()
+                .auctionId(auction.getId())
+                .bidderId(bidderId)
+                .bidAmount(bidAmount)
+                .build();
+
+        bidRepository.save(bid);
+
+        eventPublisher.publishEvent(
+                AuctionBidCreatedEvent.of(auction.getId(), bidderId, bidAmount)
+        );
+
+        return bid;
     }
 }
@@ -0,0 +1,52 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보증금 Hold 확인 캐시
+ * - Hold가 확인된 (회원, 경매)를 기억해 재입찰 시 결제 API 호출을 생략
+ * - 보상 해제, 경매 종료/유찰, 결제 기한 초과(몰수) 시 무효화
+ * - 최대 크기를 넘으면 새 항목은 기억하지 않음 (결제 API가 멱등이므로 캐시 누락은 안전)
+ */
+@Component
+@Slf4j
+public class AuctionDepositHoldCache {
+
+    private final Set<Key> held = ConcurrentHashMap.newKeySet();
+
+    @Value("${auction.deposit-hold-cache.max-size:100000}")
+    private int maxSize = 100_000;
+
+    public boolean isHeld(Long memberId, Long auctionId) {
+        return held.contains(new Key(memberId, auctionId));
+    }
+
+    public void markHeld(Long memberId, Long auctionId) {
+        if (held.size() >= maxSize) {
+            log.debug("보증금 Hold 캐시가 가득 차 기록하지 않음 - memberId: {}, auctionId: {}", memberId, auctionId);
+            return;
+        }
+        held.add(new Key(memberId, auctionId));
+    }
+
+    public void evict(Long memberId, Long auctionId) {
+        held.remove(new Key(memberId, auctionId));
+    }
+
+    // 경매 종료 시 해당 경매의 모든 항목 제거
+    public void evictAuction(Long auctionId) {
+        held.removeIf(key -> key.auctionId().equals(auctionId));
+    }
+
+    public int size() {
+        return held.size();
+    }
+
+    private record Key(Long memberId, Long auctionId) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 선승인 중인 보증금 추적 - (회원, 경매)별 진행 중인 입찰 요청 수와 그 요청들이 새로 만든 Hold 여부를 기록
+ * - 같은 회원의 동시 입찰 중 하나가 거절되어도 다른 요청이 쓰는 Hold를 해제하지 않도록
+ *   마지막 요청이 거절로 끝날 때만, 그리고 요청들이 새로 만든 Hold일 때만 해제를 판단
+ * - Hold 요청과 해제 판단은 같은 키 안에서 직렬화되어, 해제 중인 Hold를 새 요청이 기존 Hold로 착각하지 않음
+ * - 락 구간에서 결제 API를 호출하므로 가상 스레드(시퀀서 레인)를 고정시키지 않도록 ReentrantLock 사용
+ */
+@Component
+public class AuctionDepositHoldTracker {
+
+    private final Map<Key, Pending> pendings = new ConcurrentHashMap<>();
+
+    /**
+     * 입찰 요청 시작 - hold는 새 Hold를 만들었으면 true를 반환 (예외 시 요청 수를 되돌리고 전파)
+     */
+    public void begin(String memberPublicId, Long auctionId, BooleanSupplier hold) {
+        Key key = new Key(memberPublicId, auctionId);
+        while (true) {
+            Pending pending = pendings.computeIfAbsent(key, k -> new Pending());
+            pending.lock.lock();
+            try {
+                // 해제 판단을 마치고 빠진 항목이면 새 항목으로 다시 시작
+                if (pending.retired) {
+                    continue;
+                }
+
+                pending.inFlight++;
+                try {
+                    if (hold.getAsBoolean()) {
+                        pending.created = true;
+                    }
+                } catch (RuntimeException e) {
+                    finish(key, pending, true, null);
+                    throw e;
+                }
+                return;
+            } finally {
+                pending.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 입찰 요청 종료 - 마지막 요청이 거절로 끝났고 새로 만든 Hold가 있으면 release 실행
+     * (release는 키 락 안에서 실행되므로 그동안 같은 회원의 새 요청은 Hold 요청 전에 대기)
+     */
+    public void end(String memberPublicId, Long auctionId, boolean accepted, Runnable release) {
+        Key key = new Key(memberPublicId, auctionId);
+        Pending pending = pendings.get(key);
+        if (pending == null) {
+            return;
+        }
+
+        pending.lock.lock();
+        try {
+            if (!pending.retired) {
+                finish(key, pending, accepted, release);
+            }
+        } finally {
+            pending.lock.unlock();
+        }
+    }
+
+    public int size() {
+        return pendings.size();
+    }
+
+    // helper method
+
+    private void finish(Key key, Pending pending, boolean accepted, Runnable release) {
+        if (--pending.inFlight > 0) {
+            return;
+        }
+
+        try {
+            if (!accepted && pending.created && release != null) {
+                release.run();
+            }
+        } finally {
+            pending.retired = true;
+            pendings.remove(key, pending);
+        }
+    }
+
+    private record Key(String memberPublicId, Long auctionId) {
+    }
+
+    private static final class Pending {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int inFlight;
+        private boolean created;
+        private boolean retired;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bugzero.rarego.boundedContext.auction.app;
 
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionBidMode;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionOrderStatus;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
@@ -7,6 +8,8 @@ import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionAddBookmarkRespon
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionBookmarkListResponseDto;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionRemoveBookmarkResponseDto;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionWithdrawResponseDto;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
 import com.bugzero.rarego.global.response.PagedResponseDto;
 import com.bugzero.rarego.global.response.SuccessResponseDto;
 import com.bugzero.rarego.global.response.SuccessType;
@@ -16,8 +19,10 @@ import com.bugzero.rarego.shared.product.dto.ProductAuctionRequestDto;
 import com.bugzero.rarego.shared.product.dto.ProductAuctionUpdateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -36,11 +41,73 @@ public class AuctionFacade {
     private final AuctionUpdateAuctionUseCase auctionUpdateAuctionUseCase;
     private final AuctionDeleteAuctionUseCase auctionDeleteAuctionUseCase;
     private final AuctionDetermineStartAuctionUseCase auctionDetermineStartAuctionUseCase;
+    private final AuctionBidSequencer auctionBidSequencer;
+    private final AuctionBidRateLimiter bidRateLimiter;
+    private final AuctionBidIdempotencyCache bidIdempotencyCache;
+
+    @Value("${auction.bid.mode:LOCK}")
+    private AuctionBidMode bidMode = AuctionBidMode.LOCK;
 
     // 쓰기 작업 (입찰 생성)
-    @Transactional
+    // 입찰 경로별로 트랜잭션을 직접 관리하므로 여기서는 트랜잭션을 열지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SuccessResponseDto<BidResponseDto> createBid(Long auctionId, String memberPublicId, int bidAmount) {
-        BidResponseDto result = auctionCreateBidUseCase.createBid(auctionId, memberPublicId, bidAmount);
+        return createBid(auctionId, memberPublicId, bidAmount, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SuccessResponseDto<BidResponseDto> createBid(Long auctionId, String memberPublicId, int bidAmount,
+                                                        String idempotencyKey) {
+        // 멱등 키 재시도는 유입 제어/보증금 선승인/경매 락을 거치지 않고 이전 결과로 응답
+        BidResponseDto result = bidIdempotencyCache.execute(memberPublicId, auctionId, idempotencyKey, bidAmount, () -> {
+            // 유입 제어 (보증금 선승인/경매 락 이전에 429로 거절)
+            bidRateLimiter.acquire(auctionId, memberPublicId);
+            return routeBid(auctionId, memberPublicId, bidAmount);
+        });
+        return SuccessResponseDto.from(SuccessType.CREATED, result);
+    }
+
+    // 입찰 경로 선택 (auction.bid.mode, 기본값 LOCK)
+    private BidResponseDto routeBid(Long auctionId, String memberPublicId, int bidAmount) {
+        // 1. 스냅샷 사전 검증 + 보증금 선승인 (경매 락 밖에서 처리하여 거절될 입찰과 결제 API 지연이 락 구간에 들어오지 않도록 함)
+        auctionCreateBidUseCase.preAuthorizeDeposit(auctionId, memberPublicId, bidAmount);
+
+        // 시퀀서는 레인의 저장 체인에서 직접 확정/보상
+        if (bidMode == AuctionBidMode.SEQUENCER) {
+            return auctionBidSequencer.submit(auctionId, memberPublicId, bidAmount);
+        }
+
+        // 2. 락(또는 조건부 UPDATE) 구간에서 확정, 거절되면(트랜잭션 롤백 포함) 선승인 보상
+        BidResponseDto result;
+        try {
+            result = bidMode == AuctionBidMode.OPTIMISTIC
+                    ? auctionCreateBidUseCase.createBidOptimistic(auctionId, memberPublicId, bidAmount)
+                    : auctionCreateBidUseCase.createBid(auctionId, memberPublicId, bidAmount);
+        } catch (RuntimeException e) {
+            auctionCreateBidUseCase.compensateDeposit(auctionId, memberPublicId);
+            throw e;
+        }
+        auctionCreateBidUseCase.confirmDeposit(auctionId, memberPublicId);
+        return result;
+    }
+
+    // 자동 입찰 등록 (경합 해소가 경매 락 구간에서 이뤄지므로 LOCK 모드에서만 지원)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SuccessResponseDto<ProxyBidResponseDto> registerProxyBid(Long auctionId, String memberPublicId, int maxAmount) {
+        if (bidMode != AuctionBidMode.LOCK) {
+            throw new CustomException(ErrorType.AUCTION_PROXY_BID_UNSUPPORTED);
+        }
+        bidRateLimiter.acquire(auctionId, memberPublicId);
+
+        auctionCreateBidUseCase.preAuthorizeProxyDeposit(auctionId, memberPublicId);
+        ProxyBidResponseDto result;
+        try {
+            result = auctionCreateBidUseCase.registerProxyBid(auctionId, memberPublicId, maxAmount);
+        } catch (RuntimeException e) {
+            auctionCreateBidUseCase.compensateDeposit(auctionId, memberPublicId);
+            throw e;
+        }
+        auctionCreateBidUseCase.confirmDeposit(auctionId, memberPublicId);
         return SuccessResponseDto.from(SuccessType.CREATED, result);
     }
 
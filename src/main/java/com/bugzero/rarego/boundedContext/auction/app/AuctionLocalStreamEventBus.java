@@ -0,0 +1,21 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 스트림 이벤트 버스 (기본값) - 이 인스턴스에 연결된 구독자에게만 전달
+ */
+@Component
+@ConditionalOnProperty(name = "auction.stream.bus", havingValue = "LOCAL", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AuctionLocalStreamEventBus implements AuctionStreamEventBus {
+
+    private final AuctionBidStreamSupport streamSupport;
+
+    @Override
+    public void publish(AuctionStreamMessage message) {
+        streamSupport.deliver(message);
+    }
+}
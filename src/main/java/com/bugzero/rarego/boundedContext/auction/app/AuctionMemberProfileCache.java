@@ -0,0 +1,92 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 프로필 캐시 (id → 닉네임/publicId)
+ * - SSE 브로드캐스트용 닉네임 조회를 DB 없이 처리 (없으면 한 번만 조회해서 기억)
+ * - 회원 가입/수정 동기화(MemberJoinedEvent/MemberUpdatedEvent) 결과로 갱신, 탈퇴 회원은 제거
+ * - 최대 크기를 넘으면 임의의 항목 하나를 비우고 기록 (누락 시 DB 조회로 복구되므로 안전)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionMemberProfileCache {
+
+    private final AuctionMemberRepository auctionMemberRepository;
+
+    @Value("${auction.member-profile-cache.max-size:100000}")
+    private int maxSize = 100_000;
+
+    private final Map<Long, Profile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * 회원 프로필 조회 (캐시에 없으면 DB에서 읽어 기록)
+     */
+    public Optional<Profile> get(Long memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+
+        Profile cached = profiles.get(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return auctionMemberRepository.findById(memberId)
+                .map(this::put);
+    }
+
+    /**
+     * 닉네임 조회 (회원이 없으면 null)
+     */
+    public String getNickname(Long memberId) {
+        return get(memberId).map(Profile::nickname).orElse(null);
+    }
+
+    /**
+     * 동기화된 회원 정보로 갱신 (탈퇴 회원은 제거)
+     */
+    public Profile put(AuctionMember member) {
+        Profile profile = new Profile(member.getNickname(), member.getPublicId());
+        if (member.isDeleted()) {
+            profiles.remove(member.getId());
+            return profile;
+        }
+
+        if (profiles.size() >= maxSize && !profiles.containsKey(member.getId())) {
+            evictOne();
+        }
+        profiles.put(member.getId(), profile);
+        return profile;
+    }
+
+    public void evict(Long memberId) {
+        profiles.remove(memberId);
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    // helper method
+
+    private void evictOne() {
+        Iterator<Long> iterator = profiles.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public record Profile(String nickname, String publicId) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamOutbox;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionStreamOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DB 아웃박스 폴링 스트림 이벤트 버스 (auction.stream.bus=OUTBOX, 다중 인스턴스용)
+ * - publish: 아웃박스 테이블에 1행 기록 (어느 인스턴스에서 커밋된 입찰이든 같은 테이블로 모임)
+ * - poll: 인스턴스마다 마지막으로 읽은 ID 이후를 batch-size 만큼 ID 순으로 읽어 자기 구독자에게 전달
+ *   (폴링 1회당 쿼리 1번이므로 입찰량과 무관하게 DB 부하가 일정)
+ * - 아웃박스 행 ID를 SSE 이벤트 ID로 전달하여 어느 인스턴스에 재연결해도 Last-Event-ID가 같은 이벤트를 가리킴
+ * - ID 사이에 빈 구간이 있으면 앞선 트랜잭션이 아직 커밋 전일 수 있으므로 gap-grace-ms 동안은 다음 폴링까지 대기
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.stream.bus", havingValue = "OUTBOX")
+@RequiredArgsConstructor
+public class AuctionOutboxStreamEventBus implements AuctionStreamEventBus {
+
+    private final AuctionStreamOutboxRepository outboxRepository;
+    private final AuctionBidStreamSupport streamSupport;
+
+    @Value("${auction.stream.outbox.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${auction.stream.outbox.gap-grace-ms:2000}")
+    private long gapGraceMs = 2000;
+
+    @Value("${auction.stream.outbox.retention-minutes:10}")
+    private long retentionMinutes = 10;
+
+    // 마지막으로 전달한 아웃박스 ID (폴링 스레드에서만 갱신, 첫 폴링 시 현재 최대 ID로 초기화)
+    private volatile Long lastSeenId;
+
+    @Override
+    public void publish(AuctionStreamMessage message) {
+        outboxRepository.save(AuctionStreamOutbox.builder()
+                .eventType(message.type())
+                .auctionId(message.auctionId())
+                .amount(message.amount())
+                .memberName(message.memberName())
+                .eventTime(message.time())
+                .build());
+    }
+
+    /**
+     * 아웃박스에서 새 이벤트를 한 배치 읽어 이 인스턴스의 구독자에게 전달 - 전달 건수 반환
+     */
+    public int poll() {
+        if (lastSeenId == null) {
+            lastSeenId = outboxRepository.findMaxId();
+            log.info("스트림 아웃박스 폴링 시작 - 시작 ID: {}", lastSeenId);
+        }
+
+        List<AuctionStreamOutbox> rows =
+                outboxRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime graceCutoff = LocalDateTime.now().minusNanos(gapGraceMs * 1_000_000L);
+        long cursor = lastSeenId;
+        int delivered = 0;
+
+        for (AuctionStreamOutbox row : rows) {
+            // 빈 구간 뒤의 최근 이벤트는 앞선 ID가 커밋될 때까지 보류 (롤백된 ID면 유예 시간 후 건너뜀)
+            if (row.getId() != cursor + 1 && row.getCreatedAt() != null && row.getCreatedAt().isAfter(graceCutoff)) {
+                break;
+            }
+
+            deliver(row);
+            cursor = row.getId();
+            delivered++;
+        }
+
+        lastSeenId = cursor;
+        return delivered;
+    }
+
+    /**
+     * 보존 기간이 지난 아웃박스 이벤트 삭제 (모든 인스턴스가 이미 읽은 구간)
+     */
+    @Transactional
+    public int purge() {
+        int deleted = outboxRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.info("스트림 아웃박스 정리 - {}건 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    // helper method
+
+    private void deliver(AuctionStreamOutbox row) {
+        try {
+            streamSupport.deliver(new AuctionStreamMessage(
+                    row.getEventType(),
+                    row.getAuctionId(),
+                    row.getAmount(),
+                    row.getMemberName(),
+                    row.getEventTime(),
+                    row.getId()
+            ));
+        } catch (Exception e) {
+            // 한 이벤트 전달 실패로 폴링 커서가 멈추지 않도록 로그만 남김
+            log.error("스트림 아웃박스 이벤트 전달 실패 - outboxId: {}", row.getId(), e);
+        }
+    }
+}
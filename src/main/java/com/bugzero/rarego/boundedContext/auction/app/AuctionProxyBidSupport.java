@@ -0,0 +1,182 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.ProxyBid;
+import com.bugzero.rarego.boundedContext.auction.out.ProxyBidRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동 입찰(최대 금액 위임) 지원
+ * - 경매별 자동 입찰을 최대 금액 내림차순, 등록 순서 오름차순의 우선순위 구조로 메모리에 보관 (DB가 원본, 최초 접근 시 적재)
+ * - 새 입찰이 들어올 때마다 최고 입찰자와 가장 강한 도전자만 비교해 다음 자동 입찰을 계산하므로
+ *   수동 입찰을 반복하는 입찰 경쟁이 요청 한 번 안에서 최종 상태로 정리됨
+ * - 경매 락(LOCK 모드) 구간에서만 호출됨
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionProxyBidSupport {
+
+    private final ProxyBidRepository proxyBidRepository;
+
+    // auctionId별 자동 입찰 우선순위 구조
+    private final Map<Long, ProxyBidBook> books = new ConcurrentHashMap<>();
+
+    /**
+     * 자동 입찰 등록 또는 최대 금액 상향
+     */
+    public ProxyBid register(Long auctionId, Long bidderId, int maxAmount) {
+        ProxyBid proxyBid = proxyBidRepository.findByAuctionIdAndBidderId(auctionId, bidderId)
+                .map(existing -> {
+                    existing.raise(maxAmount);
+                    return existing;
+                })
+                .orElseGet(() -> proxyBidRepository.save(ProxyBid.builder()
+                        .auctionId(auctionId)
+                        .bidderId(bidderId)
+                        .maxAmount(maxAmount)
+                        .build()));
+
+        ProxyBidBook book = book(auctionId);
+        synchronized (book) {
+            book.put(bidderId, maxAmount);
+        }
+        evictOnRollback(auctionId);
+
+        return proxyBid;
+    }
+
+    public boolean isRegistered(Long auctionId, Long bidderId) {
+        return proxyBidRepository.existsByAuctionIdAndBidderId(auctionId, bidderId);
+    }
+
+    /**
+     * 현재 경매 상태에 대해 자동으로 넣어야 할 다음 입찰 목록 (비어 있으면 경합 종료)
+     */
+    public List<AutoBid> plan(Auction auction) {
+        ProxyBidBook book = book(auction.getId());
+        synchronized (book) {
+            Long leaderId = auction.getLastBidderId();
+            int minimumBid = auction.getMinimumBid();
+
+            Candidate challenger = book.strongestChallenger(leaderId, minimumBid);
+            if (challenger == null) {
+                return List.of();
+            }
+
+            // 첫 입찰은 시작가로
+            if (leaderId == null) {
+                return List.of(new AutoBid(challenger.bidderId(), minimumBid));
+            }
+
+            int tickSize = auction.getTickSize();
+            int leaderMax = Math.max(book.maxAmountOf(leaderId), auction.getCurrentPrice());
+
+            // 최고 입찰자가 방어: 도전자는 최대 금액까지, 최고 입찰자는 그보다 한 호가 위로
+            // (최대 금액은 int 상한까지 허용되므로 한 호가를 더한 비교는 long으로 - 통과하면 leaderMax 이하라 int 범위)
+            if (leaderMax >= (long) challenger.maxAmount() + tickSize) {
+                return List.of(
+                        new AutoBid(challenger.bidderId(), challenger.maxAmount()),
+                        new AutoBid(leaderId, challenger.maxAmount() + tickSize)
+                );
+            }
+
+            // 최대 금액 차이가 한 호가 미만이면 도전자는 최대 금액까지 올리고,
+            // 최고 입찰자는 한 호가를 더할 수 없으므로 같은 금액으로 방어 (먼저 위임한 최고 입찰자 우선)
+            if (leaderMax >= challenger.maxAmount()) {
+                return List.of(
+                        new AutoBid(challenger.bidderId(), challenger.maxAmount()),
+                        new AutoBid(leaderId, Math.min(leaderMax, challenger.maxAmount()))
+                );
+            }
+
+            // 도전자가 역전: 최고 입찰자의 최대 금액보다 한 호가 위 (도전자 최대 금액 한도)
+            return List.of(new AutoBid(challenger.bidderId(),
+                    (int) Math.min(challenger.maxAmount(), (long) leaderMax + tickSize)));
+        }
+    }
+
+    public void evict(Long auctionId) {
+        books.remove(auctionId);
+    }
+
+    // helper method
+
+    private ProxyBidBook book(Long auctionId) {
+        return books.computeIfAbsent(auctionId, id -> ProxyBidBook.from(proxyBidRepository.findAllByAuctionIdOrderByUpdatedAtAsc(id)));
+    }
+
+    // 등록 트랜잭션이 롤백되면 메모리 구조를 버리고 다음 접근 시 DB 기준으로 다시 적재
+    private void evictOnRollback(Long auctionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(auctionId);
+                }
+            }
+        });
+    }
+
+    public record AutoBid(Long bidderId, int bidAmount) {
+    }
+
+    private record Candidate(Long bidderId, int maxAmount, long sequence) {
+    }
+
+    private static final class ProxyBidBook {
+
+        private final TreeSet<Candidate> candidates = new TreeSet<>(
+                Comparator.comparingInt(Candidate::maxAmount).reversed()
+                        .thenComparingLong(Candidate::sequence)
+        );
+        private final Map<Long, Candidate> byBidder = new HashMap<>();
+        private long nextSequence;
+
+        static ProxyBidBook from(List<ProxyBid> proxyBids) {
+            ProxyBidBook book = new ProxyBidBook();
+            proxyBids.forEach(proxyBid -> book.put(proxyBid.getBidderId(), proxyBid.getMaxAmount()));
+            return book;
+        }
+
+        // 최대 금액을 올리면 같은 금액 안에서는 뒤 순서로 밀림
+        void put(Long bidderId, int maxAmount) {
+            Candidate previous = byBidder.remove(bidderId);
+            if (previous != null) {
+                candidates.remove(previous);
+            }
+
+            Candidate candidate = new Candidate(bidderId, maxAmount, nextSequence++);
+            candidates.add(candidate);
+            byBidder.put(bidderId, candidate);
+        }
+
+        int maxAmountOf(Long bidderId) {
+            Candidate candidate = byBidder.get(bidderId);
+            return candidate == null ? 0 : candidate.maxAmount();
+        }
+
+        // 최고 입찰자를 제외하고 최소 입찰 금액 이상을 낼 수 있는 가장 강한 자동 입찰
+        Candidate strongestChallenger(Long leaderId, int minimumBid) {
+            for (Candidate candidate : candidates) {
+                if (candidate.bidderId().equals(leaderId)) {
+                    continue;
+                }
+                return candidate.maxAmount() >= minimumBid ? candidate : null;
+            }
+            return null;
+        }
+    }
+}
@@ -119,17 +119,13 @@ public class AuctionReadUseCase {
         Map<Long, AuctionOrder> orderMap = auctionOrderRepository.findAllByAuctionIdIn(auctionIds).stream()
                 .collect(Collectors.toMap(AuctionOrder::getAuctionId, Function.identity()));
 
-        // 입찰 횟수 정보
-        Map<Long, Integer> bidCountMap = bidRepository.countByAuctionIdIn(auctionIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Long) row[1]).intValue()));
-
         // DTO 변환
         List<MySaleResponseDto> dtoList = auctions.stream()
                 .map(auction -> MySaleResponseDto.from(
                         auction,
                         productMap.get(auction.getProductId()),
                         orderMap.get(auction.getId()),
-                        bidCountMap.getOrDefault(auction.getId(), 0)))
+                        auction.getBidCount()))
                 .toList();
 
         return new PagedResponseDto<>(dtoList, PageDto.from(auctionPage));
@@ -159,11 +155,7 @@ public class AuctionReadUseCase {
                 .map(s3PresignerUrlUseCase::getPresignedGetUrl)
                 .toList();
 
-        // 2. 전체 최고가 입찰 조회
-        Bid highestBid = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auctionId)
-                .orElse(null);
-
-        // 3. 나의 마지막 입찰 조회 (로그인 시에만)
+        // 2. 나의 마지막 입찰 조회 (로그인 시에만, 최고 입찰자는 경매에 기록된 값 사용)
         Bid myLastBid = null;
         if (member != null) {
             myLastBid = bidRepository.findTopByAuctionIdAndBidderIdOrderByBidAmountDesc(auctionId, member.getId())
@@ -172,13 +164,12 @@ public class AuctionReadUseCase {
 
         Long memberId = (member != null) ? member.getId() : null;
 
-        // 4. DTO 변환 (memberId가 null이면 DTO 내부에서 기본값 false/null 처리)
+        // 3. DTO 변환 (memberId가 null이면 DTO 내부에서 기본값 false/null 처리)
         return AuctionDetailResponseDto.from(
                 auction,
                 product.getName(),
                 product.getDescription(),
                 imageUrls,
-                highestBid,
                 myLastBid,
                 memberId);
     }
@@ -257,18 +248,12 @@ public class AuctionReadUseCase {
             return new PagedResponseDto<>(Collections.emptyList(), PageDto.from(auctionPage));
         }
 
-        // 4. Bulk Fetching & 매핑
-        Set<Long> auctionIds = auctions.stream().map(Auction::getId).collect(Collectors.toSet());
+        // 4. Bulk Fetching & 매핑 (입찰 수는 경매 행의 bidCount 사용)
         Set<Long> productIds = auctions.stream().map(Auction::getProductId).collect(Collectors.toSet());
 
         Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
                 .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-        Map<Long, Integer> bidCountMap = bidRepository.countByAuctionIdIn(auctionIds).stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> ((Long) row[1]).intValue()));
-
         // 이미지 매핑 (기존 로직 유지)
         List<ProductImage> images = productImageRepository.findAllByProductIdIn(productIds);
         Map<Long, String> thumbnailMap = images.stream()
@@ -283,9 +268,8 @@ public class AuctionReadUseCase {
                 .map(auction -> {
                     Product product = productMap.get(auction.getProductId());
                     String thumbnail = thumbnailMap.get(auction.getProductId());
-                    int bidCount = bidCountMap.getOrDefault(auction.getId(), 0);
 
-                    return AuctionListResponseDto.from(auction, product, thumbnail, bidCount);
+                    return AuctionListResponseDto.from(auction, product, thumbnail, auction.getBidCount());
                 })
                 .toList();
 
@@ -392,15 +376,11 @@ public class AuctionReadUseCase {
         if (auctions.isEmpty())
             return Collections.emptyList();
 
-        Set<Long> auctionIds = auctions.stream().map(Auction::getId).collect(Collectors.toSet());
         Set<Long> productIds = auctions.stream().map(Auction::getProductId).collect(Collectors.toSet());
 
         Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
                 .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-        Map<Long, Integer> bidCountMap = bidRepository.countByAuctionIdIn(auctionIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Long) row[1]).intValue()));
-
         List<ProductImage> images = productImageRepository.findAllByProductIdIn(productIds);
         Map<Long, String> thumbnailMap = images.stream()
                 .sorted(Comparator.comparingInt(ProductImage::getSortOrder))
@@ -414,7 +394,7 @@ public class AuctionReadUseCase {
                         auction,
                         productMap.get(auction.getProductId()),
                         thumbnailMap.get(auction.getProductId()),
-                        bidCountMap.getOrDefault(auction.getId(), 0)))
+                        auction.getBidCount()))
                 .toList();
     }
 
@@ -485,9 +465,11 @@ public class AuctionReadUseCase {
             // 최신 순서
         } else if ("NEWEST".equalsIgnoreCase(sortStr)) {
             sort = Sort.by(Sort.Direction.DESC, "createdAt");
+            // 인기순 (경매 행의 입찰 수 기준)
+        } else if ("MOST_BIDS".equalsIgnoreCase(sortStr)) {
+            sort = Sort.by(Sort.Direction.DESC, "bidCount");
         }
-        // TODO: 인기순(MOST_BIDS)은 입찰 수 정렬이므로 DB 컬럼이 없으면 복잡함.
-        // 현재는 ID 역순(최신 등록순) 등을 기본으로 처리
+        // 그 외에는 ID 역순(최신 등록순)을 기본으로 처리
         else {
             sort = Sort.by(Sort.Direction.DESC, "id");
         }
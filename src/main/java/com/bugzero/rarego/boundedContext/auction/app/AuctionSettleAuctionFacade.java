@@ -10,6 +10,7 @@ public class AuctionSettleAuctionFacade {
 
     private final AuctionSettleExpiredUseCase auctionSettleExpiredUseCase;
     private final AuctionSettleOneUseCase auctionSettleOneUseCase;
+    private final AuctionBidSequencer auctionBidSequencer;
 
     /**
      * 만료된 모든 경매 일괄 정산 (수동 호출용)
@@ -23,6 +24,8 @@ public class AuctionSettleAuctionFacade {
      * 특정 경매 하나만 정산 (동적 스케줄링용)
      */
     public void settleOne(Long auctionId) {
+        // 시퀀서 모드에서 저장 대기 중인 입찰을 먼저 반영
+        auctionBidSequencer.drain(auctionId);
         auctionSettleOneUseCase.execute(auctionId);
     }
 }
\ No newline at end of file
@@ -39,9 +39,9 @@ public class AuctionSettleExpiredUseCase {
 
         for (Auction auction : auctions) {
             try {
-                if (support.hasBids(auction.getId())) {
+                if (support.hasBids(auction)) {
                     handleSuccess(auction);
-                    Bid winningBid = support.findWinningBid(auction.getId());
+                    Bid winningBid = support.findWinningBid(auction);
                     details.add(AuctionAutoSettleResponseDto.SettlementDetail.success(
                             auction.getId(),
                             winningBid.getBidderId()));
@@ -71,7 +71,7 @@ public class AuctionSettleExpiredUseCase {
     }
 
     private void handleSuccess(Auction auction) {
-        Bid winningBid = support.findWinningBid(auction.getId());
+        Bid winningBid = support.findWinningBid(auction);
 
         auction.end();
         auctionRepository.save(auction);
@@ -30,7 +30,9 @@ public class AuctionSettleOneUseCase {
 
     @Transactional
     public void execute(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
+        // 입찰 경로와 같은 행 락으로 직렬화 - 락 없이 읽으면 그 사이 커밋된 입찰의 version 변경으로
+        // 정산이 낙관적 락 예외로 실패하고, 휠 예약도 이미 빠져 경매가 진행 중으로 남음
+        Auction auction = auctionRepository.findByIdWithLock(auctionId)
                 .orElseThrow(() -> new CustomException(ErrorType.AUCTION_NOT_FOUND));
 
         // 상태 검증
@@ -51,7 +53,7 @@ public class AuctionSettleOneUseCase {
         }
 
         // 입찰 여부에 따라 처리
-        if (support.hasBids(auctionId)) {
+        if (support.hasBids(auction)) {
             handleSuccess(auction);
             log.info("경매 {} 낙찰 처리 완료", auctionId);
         } else {
@@ -73,7 +75,7 @@ public class AuctionSettleOneUseCase {
     }
 
     private void handleSuccess(Auction auction) {
-        Bid winningBid = support.findWinningBid(auction.getId());
+        Bid winningBid = support.findWinningBid(auction);
 
         auction.end();
         auctionRepository.save(auction);
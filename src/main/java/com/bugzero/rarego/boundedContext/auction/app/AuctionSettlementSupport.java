@@ -30,12 +30,21 @@ public class AuctionSettlementSupport {
         );
     }
 
-    public boolean hasBids(Long auctionId) {
-        return bidRepository.existsByAuctionId(auctionId);
+    // 경매에 기록된 입찰 수로 판단하고, 최고 입찰 ID가 비어 있는 행(백필 누락 등)은 AUCTION_BID로 확인
+    public boolean hasBids(Auction auction) {
+        if (auction.hasBids()) {
+            return true;
+        }
+        return auction.getHighestBidId() == null && bidRepository.existsByAuctionId(auction.getId());
     }
 
-    public Bid findWinningBid(Long auctionId) {
-        return bidRepository.findTopByAuctionIdOrderByBidAmountDescBidTimeAsc(auctionId)
+    // 경매에 기록된 최고 입찰 ID로 단건 조회하고, 비어 있으면 AUCTION_BID 정렬 조회로 대체
+    public Bid findWinningBid(Auction auction) {
+        if (auction.getHighestBidId() == null) {
+            return bidRepository.findTopByAuctionIdOrderByBidAmountDescBidTimeAsc(auction.getId())
+                    .orElseThrow(() -> new CustomException(ErrorType.BID_NOT_FOUND));
+        }
+        return bidRepository.findById(auction.getHighestBidId())
                 .orElseThrow(() -> new CustomException(ErrorType.BID_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
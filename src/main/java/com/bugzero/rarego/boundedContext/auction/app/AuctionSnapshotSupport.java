@@ -0,0 +1,101 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionSnapshot;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 경매의 인메모리 스냅샷 보관소
+ * - 입찰 커밋 이벤트로 현재가/최고 입찰자를 갱신, 종료/유찰/수정 시 제거
+ * - 이벤트를 놓치는 경우(다른 인스턴스의 입찰 등)에 대비해 TTL이 지나면 DB에서 다시 적재
+ * - 같은 경매에 대한 동시 적재는 하나로 합쳐 DB 조회 1회의 결과를 함께 사용 (재연결 폭주 대비)
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionSnapshotSupport {
+
+    private final AuctionSupport support;
+
+    private final Map<Long, AuctionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<AuctionSnapshot>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Value("${auction.bid.snapshot-ttl-seconds:5}")
+    private long ttlSeconds = 5;
+
+    public AuctionSnapshot get(Long auctionId) {
+        AuctionSnapshot snapshot = snapshots.get(auctionId);
+        if (snapshot != null && !snapshot.isOlderThan(LocalDateTime.now().minusSeconds(ttlSeconds))) {
+            return snapshot;
+        }
+        return load(auctionId);
+    }
+
+    public void applyBid(Long auctionId, Long bidderId, int bidAmount) {
+        snapshots.computeIfPresent(auctionId, (id, snapshot) -> snapshot.withBid(bidderId, bidAmount));
+    }
+
+    public void extendEndTime(Long auctionId, LocalDateTime endTime) {
+        snapshots.computeIfPresent(auctionId, (id, snapshot) -> snapshot.withEndTime(endTime));
+    }
+
+    public void evict(Long auctionId) {
+        snapshots.remove(auctionId);
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private AuctionSnapshot load(Long auctionId) {
+        CompletableFuture<AuctionSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<AuctionSnapshot> inFlight = inFlightLoads.putIfAbsent(auctionId, created);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            AuctionSnapshot loaded = loadFromDb(auctionId);
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            // 경매 없음 등 예외도 대기 중인 요청에 그대로 전달
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(auctionId, created);
+        }
+    }
+
+    private AuctionSnapshot await(CompletableFuture<AuctionSnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private AuctionSnapshot loadFromDb(Long auctionId) {
+        AuctionSnapshot loaded = AuctionSnapshot.from(support.findAuctionById(auctionId));
+
+        // 진행 중인 경매만 보관 (시작 전 경매는 시작 시점에 상태가 바뀌므로 매번 조회)
+        if (loaded.status() != AuctionStatus.IN_PROGRESS) {
+            snapshots.remove(auctionId);
+            return loaded;
+        }
+
+        // 적재 중에 더 높은 입찰이 반영되었다면 그 값을 유지 (현재가는 단조 증가)
+        return snapshots.merge(auctionId, loaded,
+                (current, fresh) -> current.currentPrice() > fresh.currentPrice() ? current : fresh);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionExtendedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 마감 직전 입찰 시 종료 시간 연장 (soft close, auction.bid.soft-close.enabled=true 일 때만 동작)
+ * - 종료 window-seconds 이내의 입찰이면 입찰 시각 + extension-seconds 까지 종료 시간을 연장
+ * - 연장은 AuctionExtendedEvent로 알리고, 커밋 후 정산 예약(데드라인 갱신)/스냅샷/SSE에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionSoftCloseSupport {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${auction.bid.soft-close.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${auction.bid.soft-close.window-seconds:60}")
+    private long windowSeconds = 60;
+
+    @Value("${auction.bid.soft-close.extension-seconds:60}")
+    private long extensionSeconds = 60;
+
+    // 연장이 가능하면 종료 시각이 뒤로 밀릴 수 있으므로 스냅샷의 종료 시각으로는 거절하지 않음
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입찰 트랜잭션 안에서 호출 - 연장되면 이벤트 발행 후 true
+     */
+    public boolean extend(Auction auction, LocalDateTime bidTime) {
+        if (!applyTo(auction, bidTime)) {
+            return false;
+        }
+
+        eventPublisher.publishEvent(new AuctionExtendedEvent(auction.getId(), auction.getEndTime()));
+        return true;
+    }
+
+    /**
+     * 이벤트 없이 인메모리 경매 상태에만 연장 반영 (시퀀서 레인용, DB 반영은 저널 커밋에서 수행)
+     */
+    public boolean applyTo(Auction auction, LocalDateTime bidTime) {
+        if (!enabled) {
+            return false;
+        }
+        return auction.extendEndTime(bidTime, Duration.ofSeconds(windowSeconds), Duration.ofSeconds(extensionSeconds));
+    }
+}
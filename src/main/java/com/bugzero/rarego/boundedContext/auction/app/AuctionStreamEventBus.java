@@ -0,0 +1,12 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+/**
+ * 스트림 이벤트 버스 - 이벤트 리스너와 SSE 구독자 레지스트리(AuctionBidStreamSupport) 사이의 전달 경로
+ * - LOCAL: 같은 프로세스의 구독자에게 바로 전달 (단일 인스턴스)
+ * - OUTBOX: DB 아웃박스에 기록하고 모든 인스턴스가 폴링해 각자의 구독자에게 전달 (다중 인스턴스)
+ * - auction.stream.bus 로 선택 (기본값 LOCAL)
+ */
+public interface AuctionStreamEventBus {
+
+    void publish(AuctionStreamMessage message);
+}
@@ -0,0 +1,72 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * SSE 형식(event/id/data 줄 + 빈 줄)으로 미리 인코딩된 이벤트 (불변)
+ * - 브로드캐스트 1회당 한 번만 직렬화/인코딩하고 모든 구독자에게 같은 바이트를 그대로 전송
+ * - byte[]는 ByteArrayHttpMessageConverter가 복사 없이 응답 스트림에 기록
+ */
+public final class AuctionStreamFrame {
+
+    // 송신 큐가 밀릴 때 버려도 되는 이벤트 (다음 입찰 이벤트가 현재가를 대체, 핑은 연결 유지용)
+    private static final Set<String> DROPPABLE_EVENTS = Set.of("bid", "ping");
+
+    private final String eventName;
+    private final String eventId;
+    private final byte[] bytes;
+    private final Set<DataWithMediaType> items;
+
+    private AuctionStreamFrame(String eventName, String eventId, byte[] bytes) {
+        this.eventName = eventName;
+        this.eventId = eventId;
+        this.bytes = bytes;
+        this.items = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    public boolean isDroppable() {
+        return DROPPABLE_EVENTS.contains(eventName);
+    }
+
+    /**
+     * 이벤트 데이터를 JSON으로 직렬화해 SSE 프레임으로 인코딩 (이미 JSON 문자열이면 그대로 사용)
+     * - eventId가 null이면 id 줄을 생략 (핑처럼 클라이언트의 Last-Event-ID를 바꾸면 안 되는 이벤트)
+     */
+    public static AuctionStreamFrame encode(ObjectMapper objectMapper, String eventName, String eventId, Object data)
+            throws JsonProcessingException {
+        String json = (data instanceof String string) ? string : objectMapper.writeValueAsString(data);
+
+        StringBuilder frame = new StringBuilder(json.length() + 64)
+                .append("event:").append(eventName).append('\n');
+        if (eventId != null) {
+            frame.append("id:").append(eventId).append('\n');
+        }
+        // 여러 줄 데이터는 줄마다 data: 접두어가 필요 (SseEmitter와 동일한 규칙)
+        frame.append("data:").append(json.replace("\n", "\ndata:")).append("\n\n");
+
+        return new AuctionStreamFrame(eventName, eventId, frame.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String eventName() {
+        return eventName;
+    }
+
+    public String eventId() {
+        return eventId;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    // SseEmitter.send(Set)에 그대로 전달하는 전송 단위 (모든 구독자가 공유)
+    Set<DataWithMediaType> items() {
+        return items;
+    }
+}
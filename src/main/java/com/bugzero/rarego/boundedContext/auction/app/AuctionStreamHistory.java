@@ -0,0 +1,76 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경매 스트림 1개의 이벤트 이력 (고정 크기 링 버퍼)
+ * - 이벤트 ID는 경매별로 단조 증가하는 순번 (LOCAL 버스는 1부터 연속, OUTBOX 버스는 아웃박스 행 ID라 건너뛸 수 있음)
+ * - 재연결한 클라이언트의 Last-Event-ID 이후 이벤트를 DB 조회 없이 메모리에서 재전송
+ * - 동기화는 호출 측(AuctionBidStreamSupport)이 이 객체를 락으로 사용해 처리
+ */
+final class AuctionStreamHistory {
+
+    private final AuctionStreamFrame[] ring;
+    private final long[] sequences;
+    private long appended;
+    private long lastSequence;
+    private long evictedSequence;
+
+    AuctionStreamHistory(int capacity) {
+        this.ring = new AuctionStreamFrame[capacity];
+        this.sequences = new long[capacity];
+    }
+
+    /**
+     * 마지막으로 기록된 이벤트 순번 (기록된 이벤트가 없으면 0)
+     */
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * 주어진 순번(lastSequence보다 커야 함)으로 인코딩된 프레임을 기록 - 버퍼가 가득 차면 가장 오래된 프레임을 덮어씀
+     */
+    void append(long sequence, AuctionStreamFrame frame) {
+        if (sequence <= lastSequence) {
+            throw new IllegalArgumentException("이벤트 순번은 단조 증가해야 합니다: " + sequence);
+        }
+
+        int index = (int) (appended % ring.length);
+        if (appended >= ring.length) {
+            evictedSequence = sequences[index];
+        }
+        ring[index] = frame;
+        sequences[index] = sequence;
+        appended++;
+        lastSequence = sequence;
+    }
+
+    /**
+     * 주어진 순번 이후의 프레임을 오래된 순으로 반환 (이미 덮어써진 구간은 남아있는 것부터)
+     * - 현재 순번보다 큰 값(재시작 전 서버가 발급한 ID 등)이면 재전송하지 않음
+     */
+    List<AuctionStreamFrame> framesAfter(long sequence) {
+        if (sequence < 0 || sequence >= lastSequence) {
+            return List.of();
+        }
+
+        long from = Math.max(0, appended - ring.length);
+        List<AuctionStreamFrame> frames = new ArrayList<>();
+        for (long i = from; i < appended; i++) {
+            int index = (int) (i % ring.length);
+            if (sequences[index] > sequence) {
+                frames.add(ring[index]);
+            }
+        }
+        return frames;
+    }
+
+    /**
+     * 주어진 순번 이후 이벤트 중 버퍼에서 이미 밀려난 것이 있는지 여부
+     */
+    boolean hasGapAfter(long sequence) {
+        return sequence < evictedSequence;
+    }
+}
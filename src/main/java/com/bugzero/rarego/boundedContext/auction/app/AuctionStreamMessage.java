@@ -0,0 +1,33 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 버스로 노드 간에 전달되는 스트림 이벤트 (SSE 프레임 인코딩 전 원본 값)
+ * - BID: amount=입찰가, memberName=입찰자, time=입찰 시각
+ * - EXTEND: time=연장된 종료 시각
+ * - END: amount=최종가, memberName=낙찰자 (유찰이면 null)
+ * - eventId: 모든 인스턴스에서 같은 SSE 이벤트 ID로 쓸 값 (OUTBOX는 아웃박스 행 ID, LOCAL은 null이라 인스턴스가 순번 발급)
+ */
+public record AuctionStreamMessage(
+        AuctionStreamEventType type,
+        Long auctionId,
+        Integer amount,
+        String memberName,
+        LocalDateTime time,
+        Long eventId
+) {
+    public static AuctionStreamMessage bid(Long auctionId, Integer bidAmount, String bidderName, LocalDateTime bidTime) {
+        return new AuctionStreamMessage(AuctionStreamEventType.BID, auctionId, bidAmount, bidderName, bidTime, null);
+    }
+
+    public static AuctionStreamMessage extended(Long auctionId, LocalDateTime endTime) {
+        return new AuctionStreamMessage(AuctionStreamEventType.EXTEND, auctionId, null, null, endTime, null);
+    }
+
+    public static AuctionStreamMessage ended(Long auctionId, Integer finalPrice, String winnerName) {
+        return new AuctionStreamMessage(AuctionStreamEventType.END, auctionId, finalPrice, winnerName, null, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 경매를 한 SSE 연결로 받는 멀티플렉스 스트림
+ * - 구독자(송신 큐)는 하나이고, 구독 중인 각 경매의 구독자 목록에 같은 인스턴스로 등록됨
+ * - 구독 경매 추가/해제는 재연결 없이 streamId로 요청
+ */
+final class AuctionStreamMultiplex {
+
+    private final String streamId;
+    private final String ownerPublicId;
+    private final AuctionStreamSubscriber subscriber;
+    private final Set<Long> auctionIds = ConcurrentHashMap.newKeySet();
+
+    AuctionStreamMultiplex(String streamId, String ownerPublicId, AuctionStreamSubscriber subscriber) {
+        this.streamId = streamId;
+        this.ownerPublicId = ownerPublicId;
+        this.subscriber = subscriber;
+    }
+
+    String streamId() {
+        return streamId;
+    }
+
+    AuctionStreamSubscriber subscriber() {
+        return subscriber;
+    }
+
+    Set<Long> auctionIds() {
+        return auctionIds;
+    }
+
+    /**
+     * 로그인 상태로 연 스트림은 본인만 구독을 변경할 수 있음 (비로그인 스트림은 streamId를 아는 클라이언트만)
+     */
+    boolean isAccessibleBy(String publicId) {
+        return ownerPublicId == null || ownerPublicId.equals(publicId);
+    }
+}
@@ -0,0 +1,198 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 구독자 1명의 송신 큐
+ * - 브로드캐스트/하트비트 스레드는 큐에 넣기만 하고, 실제 전송은 구독자별 비동기 writer가 순서대로 수행
+ *   (느린 연결은 자기 writer만 막히고 다른 구독자 전송에는 영향 없음)
+ * - 큐가 가득 차면 오래된 중간 가격 갱신/핑부터 버림 (최신 입찰 이벤트가 이전 값을 대체)
+ * - 큐가 일정 시간 이상 계속 가득 차 있으면 느린 구독자로 보고 연결 종료
+ * - 여러 경매를 한 연결로 받는 멀티플렉스 스트림이면 streamId를 가지며, 각 경매의 구독자 목록에 같은 인스턴스로 등록됨
+ */
+@Slf4j
+final class AuctionStreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final String streamId;
+    private final Executor writer;
+    private final int capacity;
+    private final long slowConsumerTimeoutNanos;
+    private final Runnable onClose;
+
+    // 아래 필드는 this 로 보호
+    private final ArrayDeque<AuctionStreamFrame> queue;
+    private boolean draining;
+    private boolean closing;
+    private boolean closed;
+    private long fullSince;
+    private long dropped;
+
+    AuctionStreamSubscriber(SseEmitter emitter, Executor writer, int capacity, long slowConsumerTimeoutMs,
+                            Runnable onClose) {
+        this(emitter, null, writer, capacity, slowConsumerTimeoutMs, onClose);
+    }
+
+    AuctionStreamSubscriber(SseEmitter emitter, String streamId, Executor writer, int capacity,
+                            long slowConsumerTimeoutMs, Runnable onClose) {
+        this.emitter = emitter;
+        this.streamId = streamId;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.slowConsumerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(slowConsumerTimeoutMs);
+        this.onClose = onClose;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 멀티플렉스 스트림 ID (경매 1개 구독이면 null)
+     */
+    String streamId() {
+        return streamId;
+    }
+
+    boolean isMultiplexed() {
+        return streamId != null;
+    }
+
+    /**
+     * 프레임을 송신 큐에 추가 (호출 스레드에서 블로킹하지 않음) - 큐에 들어가면 true
+     */
+    boolean offer(AuctionStreamFrame frame) {
+        boolean startDrain;
+        synchronized (this) {
+            if (closed || closing) {
+                return false;
+            }
+
+            if (queue.size() >= capacity) {
+                long now = System.nanoTime();
+                if (fullSince == 0) {
+                    fullSince = now;
+                } else if (now - fullSince > slowConsumerTimeoutNanos) {
+                    return evictLocked("송신 큐가 " + TimeUnit.NANOSECONDS.toMillis(now - fullSince) + "ms 동안 가득 참");
+                }
+
+                if (!makeRoom()) {
+                    dropped++;
+                    // 버릴 수 없는 이벤트(연결/연장/종료)를 넣을 자리가 없으면 재연결을 유도
+                    if (!frame.isDroppable()) {
+                        return evictLocked("송신 큐에 " + frame.eventName() + " 이벤트를 넣을 수 없음");
+                    }
+                    return false;
+                }
+            }
+
+            queue.addLast(frame);
+            startDrain = !draining;
+            draining = true;
+        }
+
+        if (startDrain) {
+            writer.execute(this::drain);
+        }
+        return true;
+    }
+
+    /**
+     * 남은 프레임을 모두 보낸 뒤 연결 종료 (경매 종료 이벤트 이후)
+     */
+    void completeAfterDrain() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closing = true;
+            if (draining) {
+                return;
+            }
+            closed = true;
+        }
+        emitter.complete();
+    }
+
+    synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    synchronized long droppedCount() {
+        return dropped;
+    }
+
+    // helper method
+
+    // 큐 앞쪽(오래된 것)부터 버릴 수 있는 프레임(중간 가격 갱신/핑) 하나를 제거
+    private boolean makeRoom() {
+        Iterator<AuctionStreamFrame> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isDroppable()) {
+                iterator.remove();
+                dropped++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        while (true) {
+            AuctionStreamFrame frame;
+            boolean complete = false;
+            synchronized (this) {
+                frame = closed ? null : queue.pollFirst();
+                if (frame == null) {
+                    draining = false;
+                    if (closing && !closed) {
+                        closed = true;
+                        complete = true;
+                    }
+                } else {
+                    fullSince = 0;
+                }
+            }
+
+            if (frame == null) {
+                if (complete) {
+                    emitter.complete();
+                }
+                return;
+            }
+
+            try {
+                emitter.send(frame.items());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패 (연결 끊김) - event: {}", frame.eventName(), e);
+                synchronized (this) {
+                    closed = true;
+                    draining = false;
+                    queue.clear();
+                }
+                onClose.run();
+                return;
+            }
+        }
+    }
+
+    // 느린 구독자 연결 종료 (this 락 보유 상태에서 호출, 종료 콜백은 emitter 쪽에서 비동기로 이어짐)
+    private boolean evictLocked(String reason) {
+        closed = true;
+        queue.clear();
+        log.warn("느린 SSE 구독자 연결 종료 - {} (누락 {}건)", reason, dropped);
+        writer.execute(() -> {
+            emitter.complete();
+            onClose.run();
+        });
+        return false;
+    }
+}
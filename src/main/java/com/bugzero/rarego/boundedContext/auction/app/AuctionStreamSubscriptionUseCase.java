@@ -0,0 +1,63 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionBookmarkRepository;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidRepository;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 멀티플렉스 스트림 구독 대상 경매 결정
+ * - 요청한 경매 ID 중 아직 끝나지 않은 경매만 구독 (존재하지 않는 ID로 이력 버퍼가 생기지 않도록)
+ * - "내 관심 경매", "내가 입찰 중인 경매"는 로그인 회원 기준으로 조회해 합침
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuctionStreamSubscriptionUseCase {
+
+    private static final List<AuctionStatus> STREAMABLE_STATUSES =
+            List.of(AuctionStatus.SCHEDULED, AuctionStatus.IN_PROGRESS);
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionBookmarkRepository auctionBookmarkRepository;
+    private final BidRepository bidRepository;
+    private final AuctionSupport auctionSupport;
+
+    public Set<Long> resolveAuctionIds(String publicId, Collection<Long> auctionIds, boolean bookmarks,
+                                       boolean activeBids) {
+        Set<Long> candidates = new HashSet<>();
+        if (auctionIds != null) {
+            candidates.addAll(auctionIds);
+        }
+
+        if (bookmarks || activeBids) {
+            if (publicId == null) {
+                throw new CustomException(ErrorType.AUTH_UNAUTHORIZED);
+            }
+            AuctionMember member = auctionSupport.getPublicMember(publicId);
+
+            if (bookmarks) {
+                candidates.addAll(auctionBookmarkRepository.findAuctionIdsByMemberId(member.getId()));
+            }
+            if (activeBids) {
+                candidates.addAll(bidRepository.findInProgressAuctionIdsByBidderId(member.getId()));
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(auctionRepository.findIdsByIdInAndStatusIn(candidates, STREAMABLE_STATUSES));
+    }
+}
@@ -1,5 +1,6 @@
 package com.bugzero.rarego.boundedContext.auction.domain;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -47,6 +48,21 @@ public class Auction extends BaseIdAndTime {
     @Column(nullable = false)
     private int tickSize;
 
+    // 현재 최고 입찰자 (입찰 트랜잭션에서 현재가와 함께 갱신, 입찰이 없으면 null)
+    private Long lastBidderId;
+
+    // 누적 입찰 수 (목록 조회 시 AUCTION_BID 집계 대신 사용)
+    @Column(nullable = false)
+    private int bidCount;
+
+    // 현재 최고 입찰 ID (낙찰 처리 시 AUCTION_BID 정렬 조회 대신 사용)
+    private Long highestBidId;
+
+    // 낙관적 입찰(조건부 UPDATE) 충돌 감지용
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     // 입찰 가격 갱신
     @Builder
     public Auction(Long productId, Long sellerId, LocalDateTime startTime,  Integer durationDays, LocalDateTime endTime, int startPrice) {
@@ -84,6 +100,72 @@ public class Auction extends BaseIdAndTime {
         this.status = AuctionStatus.IN_PROGRESS;
     }
 
+    // 입찰 유효성 검증 (최고 입찰자가 없으면 첫 입찰)
+    public void validateBid(Long bidderId, int bidAmount) {
+        validateBiddable(bidderId);
+
+        // 연속 입찰 방지 (현재 최고 입찰자 = 본인이면 거절)
+        if (lastBidderId != null && lastBidderId.equals(bidderId)) {
+            throw new CustomException(ErrorType.AUCTION_ALREADY_HIGHEST_BIDDER, "연속 입찰은 불가합니다.");
+        }
+
+        // 입찰 금액 검증
+        validateBidAmount(bidAmount, getMinimumBid());
+    }
+
+    // 자동 입찰 등록 검증 (현재 최고 입찰자는 입찰 없이 최대 금액만 올릴 수 있음)
+    public void validateProxyBid(Long bidderId, int maxAmount) {
+        validateBiddable(bidderId);
+
+        int minimumMaxAmount = Objects.equals(lastBidderId, bidderId)
+                ? (int) Math.min(Integer.MAX_VALUE, (long) this.currentPrice + 1)
+                : getMinimumBid();
+        if (maxAmount < minimumMaxAmount) {
+            throw new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW, "자동 입찰 최대 금액이 유효하지 않습니다.");
+        }
+    }
+
+    // 다음 입찰의 최소 금액 (최고 입찰자가 없으면 시작가)
+    public int getMinimumBid() {
+        return minimumBid(this.lastBidderId, this.startPrice,
+                this.currentPrice != null ? this.currentPrice : this.startPrice, this.tickSize);
+    }
+
+    public int calculateDepositAmount() {
+        return depositAmount(this.startPrice);
+    }
+
+    // 입찰 반영 - 현재가, 최고 입찰자, 입찰 수, 최고 입찰 ID를 한 번에 갱신
+    public void applyBid(Bid bid) {
+        applyBid(bid.getId(), bid.getBidderId(), bid.getBidAmount());
+    }
+
+    // 엔티티 없이 저장된 입찰(일괄 INSERT)을 반영할 때 사용
+    public void applyBid(Long bidId, Long bidderId, int bidAmount) {
+        updateCurrentPrice(bidAmount);
+        this.lastBidderId = bidderId;
+        this.highestBidId = bidId;
+        this.bidCount++;
+    }
+
+    // 마감 직전 입찰 시 종료 시간 연장 (soft close) - 종료까지 window 이내의 입찰이면 입찰 시각 + extension 까지 연장
+    public boolean extendEndTime(LocalDateTime bidTime, Duration window, Duration extension) {
+        if (bidTime.plus(window).isBefore(this.endTime)) {
+            return false;
+        }
+
+        LocalDateTime extendedEndTime = bidTime.plus(extension);
+        if (!extendedEndTime.isAfter(this.endTime)) {
+            return false;
+        }
+        this.endTime = extendedEndTime;
+        return true;
+    }
+
+    public boolean hasBids() {
+        return this.bidCount > 0;
+    }
+
     // 입찰 가격 갱신
     public void updateCurrentPrice(int price) {
         if (this.currentPrice == null || price > this.currentPrice) {
@@ -116,6 +198,59 @@ public class Auction extends BaseIdAndTime {
         this.status = AuctionStatus.WITHDRAWN;
     }
 
+    // 진행 상태, 판매자 여부, 입찰 가능 시간 검증
+    private void validateBiddable(Long bidderId) {
+        // 경매가 진행중이 아닐 때 입찰 방지
+        validateInProgress(this.status);
+
+        // 판매자 본인 입찰 방지 (ID 비교)
+        validateNotSeller(this.sellerId, bidderId);
+
+        // 경매 입찰 가능한 시간인지에 대한 검증
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(this.startTime)) {
+            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매 시간이 아닙니다.");
+        }
+        validateNotEnded(this.endTime, now);
+    }
+
+    // 아래 규칙은 AuctionSnapshot의 사전 검증과 공유 (스냅샷이 늦더라도 거절 결과가 바뀌지 않는 규칙만)
+
+    static void validateInProgress(AuctionStatus status) {
+        if (status != AuctionStatus.IN_PROGRESS) {
+            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매가 진행 중인 상태가 아닙니다.");
+        }
+    }
+
+    static void validateNotSeller(Long sellerId, Long bidderId) {
+        if (Objects.equals(sellerId, bidderId)) {
+            throw new CustomException(ErrorType.AUCTION_SELLER_CANNOT_BID, "본인 경매에는 입찰할 수 없습니다.");
+        }
+    }
+
+    static void validateNotEnded(LocalDateTime endTime, LocalDateTime now) {
+        if (now.isAfter(endTime)) {
+            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "경매 시간이 아닙니다.");
+        }
+    }
+
+    static void validateBidAmount(int bidAmount, int minimumBid) {
+        if (bidAmount < minimumBid) {
+            throw new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW, "입찰 금액이 유효하지 않습니다.");
+        }
+    }
+
+    // 다음 입찰의 최소 금액 (최고 입찰자가 없으면 시작가)
+    static int minimumBid(Long lastBidderId, int startPrice, int currentPrice, int tickSize) {
+        // int 상한 근처의 현재가에서 음수로 넘치지 않도록 상한에서 멈춤
+        return lastBidderId == null ? startPrice : (int) Math.min(Integer.MAX_VALUE, (long) currentPrice + tickSize);
+    }
+
+    // 현재는 경매 시작 금액의 10%만 보증금으로 책정
+    static int depositAmount(int startPrice) {
+        return (int) (startPrice * 0.1);
+    }
+
     // 호가단위 결정
     private int determineTickSize(int startPrice) {
         if (startPrice < 10000) {
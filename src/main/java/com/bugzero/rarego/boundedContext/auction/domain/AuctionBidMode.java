@@ -0,0 +1,10 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+public enum AuctionBidMode {
+    // 경매 행 비관적 락 (기본값)
+    LOCK,
+    // 경매별 단일 작성자 시퀀서 (인메모리 검증 + 순차 비동기 저장)
+    SEQUENCER,
+    // version 기반 조건부 UPDATE (락 없이 충돌 시 재시도)
+    OPTIMISTIC,
+}
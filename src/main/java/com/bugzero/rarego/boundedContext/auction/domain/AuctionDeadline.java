@@ -0,0 +1,12 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정산 예약 복구용 경매 종료 시간 (엔티티를 적재하지 않는 조회 결과)
+ */
+public record AuctionDeadline(
+        Long auctionId,
+        LocalDateTime endTime
+) {
+}
@@ -0,0 +1,83 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 사전 검증용 경매 스냅샷 (불변)
+ * - 커밋된 입찰 이벤트로 갱신되므로 실제 값보다 늦을 수는 있어도 앞서지는 않음
+ * - 현재가는 단조 증가하므로 스냅샷 기준으로 거절되는 금액은 실제로도 거절됨
+ * - 최종 판단은 항상 DB(락/조건부 UPDATE) 경로에서 수행
+ */
+public record AuctionSnapshot(
+        Long auctionId,
+        Long sellerId,
+        AuctionStatus status,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int startPrice,
+        int currentPrice,
+        int tickSize,
+        Long lastBidderId,
+        LocalDateTime loadedAt
+) {
+    public static AuctionSnapshot from(Auction auction) {
+        return new AuctionSnapshot(
+                auction.getId(),
+                auction.getSellerId(),
+                auction.getStatus(),
+                auction.getStartTime(),
+                auction.getEndTime(),
+                auction.getStartPrice(),
+                auction.getCurrentPrice() != null ? auction.getCurrentPrice() : auction.getStartPrice(),
+                auction.getTickSize(),
+                auction.getLastBidderId(),
+                LocalDateTime.now()
+        );
+    }
+
+    // 커밋된 입찰 반영 (이벤트 순서가 뒤바뀌어도 더 높은 금액만 반영)
+    public AuctionSnapshot withBid(Long bidderId, int bidAmount) {
+        if (this.lastBidderId != null && bidAmount <= this.currentPrice) {
+            return this;
+        }
+        return new AuctionSnapshot(auctionId, sellerId, status, startTime, endTime, startPrice,
+                bidAmount, tickSize, bidderId, loadedAt);
+    }
+
+    // 마감 연장 반영 (이벤트 순서가 뒤바뀌어도 더 늦은 종료 시간만 반영)
+    public AuctionSnapshot withEndTime(LocalDateTime extendedEndTime) {
+        if (!extendedEndTime.isAfter(this.endTime)) {
+            return this;
+        }
+        return new AuctionSnapshot(auctionId, sellerId, status, startTime, extendedEndTime, startPrice,
+                currentPrice, tickSize, lastBidderId, loadedAt);
+    }
+
+    public boolean isOlderThan(LocalDateTime threshold) {
+        return this.loadedAt.isBefore(threshold);
+    }
+
+    public void validateBid(Long bidderId, int bidAmount) {
+        validateBid(bidderId, bidAmount, true);
+    }
+
+    /**
+     * 명백히 거절될 입찰을 DB 접근 없이 걸러냄 (규칙 구현은 Auction과 공유)
+     * - 스냅샷이 늦어도 결과가 같은 규칙만 적용: 진행 상태(시작 전 경매는 보관하지 않음), 판매자, 종료 시각, 최소 금액
+     * - 종료 시각은 마감 연장(soft close)이 켜져 있으면 늦은 스냅샷보다 실제가 더 뒤일 수 있으므로
+     *   endTimeFinal=false 로 호출하여 락 구간의 Auction.validateBid에서만 판단
+     * - 연속 입찰 여부는 최고 입찰자가 그 사이 바뀌었을 수 있으므로 락 구간의 Auction.validateBid에서만 판단
+     */
+    public void validateBid(Long bidderId, int bidAmount, boolean endTimeFinal) {
+        Auction.validateInProgress(this.status);
+        Auction.validateNotSeller(this.sellerId, bidderId);
+        if (endTimeFinal) {
+            Auction.validateNotEnded(this.endTime, LocalDateTime.now());
+        }
+        Auction.validateBidAmount(bidAmount, Auction.minimumBid(lastBidderId, startPrice, currentPrice, tickSize));
+    }
+
+    public int calculateDepositAmount() {
+        return Auction.depositAmount(this.startPrice);
+    }
+}
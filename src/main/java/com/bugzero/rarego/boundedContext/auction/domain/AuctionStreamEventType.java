@@ -0,0 +1,10 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+public enum AuctionStreamEventType {
+    // 입찰 (현재가/입찰자 갱신)
+    BID,
+    // 마감 연장
+    EXTEND,
+    // 경매 종료 (낙찰/유찰/결제 타임아웃)
+    END,
+}
@@ -0,0 +1,46 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import java.time.LocalDateTime;
+
+import com.bugzero.rarego.global.jpa.entity.BaseIdAndTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 인스턴스 간 SSE 팬아웃용 스트림 이벤트 아웃박스 (보존 기간이 지나면 삭제)
+@Entity
+@Table(name = "AUCTION_STREAM_OUTBOX")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AuctionStreamOutbox extends BaseIdAndTime {
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private AuctionStreamEventType eventType;
+
+	@Column(nullable = false)
+	private Long auctionId;
+
+	private Integer amount;
+
+	private String memberName;
+
+	private LocalDateTime eventTime;
+
+	@Builder
+	public AuctionStreamOutbox(AuctionStreamEventType eventType, Long auctionId, Integer amount, String memberName,
+		LocalDateTime eventTime) {
+		this.eventType = eventType;
+		this.auctionId = auctionId;
+		this.amount = amount;
+		this.memberName = memberName;
+		this.eventTime = eventTime;
+	}
+}
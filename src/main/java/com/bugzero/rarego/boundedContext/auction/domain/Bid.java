@@ -37,4 +37,11 @@ public class Bid extends BaseIdAndTime {
 		this.bidAmount = bidAmount;
 		this.bidTime = LocalDateTime.now();
 	}
+
+	// 입찰 로그(WAL) 재생 시 원래 입찰 시각을 유지해서 복원
+	public static Bid restore(Long auctionId, Long bidderId, int bidAmount, LocalDateTime bidTime) {
+		Bid bid = new Bid(auctionId, bidderId, bidAmount);
+		bid.bidTime = bidTime;
+		return bid;
+	}
 }
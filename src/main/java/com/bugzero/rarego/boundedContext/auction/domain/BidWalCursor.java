@@ -0,0 +1,43 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import com.bugzero.rarego.global.jpa.entity.BaseManualIdAndTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 입찰 WAL에서 DB에 반영된 마지막 시퀀스 (입찰 저장과 같은 트랜잭션에서 갱신되며 재생/재시도의 멱등성 기준)
+@Entity
+@Table(name = "AUCTION_BID_WAL_CURSOR")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+public class BidWalCursor extends BaseManualIdAndTime {
+
+	// 입찰 시퀀서는 단일 인스턴스 기준이므로 행 하나만 사용
+	public static final Long SINGLETON_ID = 1L;
+
+	@Column(nullable = false)
+	private long appliedSeq;
+
+	public static BidWalCursor create() {
+		return BidWalCursor.builder()
+			.id(SINGLETON_ID)
+			.appliedSeq(0L)
+			.build();
+	}
+
+	public boolean isApplied(long seq) {
+		return seq <= this.appliedSeq;
+	}
+
+	public void advance(long seq) {
+		if (seq > this.appliedSeq) {
+			this.appliedSeq = seq;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.bugzero.rarego.boundedContext.auction.domain;
+
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.jpa.entity.BaseIdAndTime;
+import com.bugzero.rarego.global.response.ErrorType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 자동 입찰 (입찰자가 위임한 최대 금액까지 서버가 최소 호가로 대신 입찰)
+@Entity
+@Table(
+	name = "AUCTION_PROXY_BID",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_proxy_bid_auction_bidder", columnNames = {"auction_id", "bidder_id"})
+	}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class ProxyBid extends BaseIdAndTime {
+
+	@Column(nullable = false)
+	private Long auctionId;
+
+	@Column(nullable = false)
+	private Long bidderId;
+
+	@Column(nullable = false)
+	private int maxAmount;
+
+	@Builder
+	public ProxyBid(Long auctionId, Long bidderId, int maxAmount) {
+		this.auctionId = auctionId;
+		this.bidderId = bidderId;
+		this.maxAmount = maxAmount;
+	}
+
+	// 최대 금액은 올리기만 가능
+	public void raise(int maxAmount) {
+		if (maxAmount <= this.maxAmount) {
+			throw new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW, "자동 입찰 최대 금액은 기존 금액보다 커야 합니다.");
+		}
+		this.maxAmount = maxAmount;
+	}
+}
@@ -0,0 +1,15 @@
+package com.bugzero.rarego.boundedContext.auction.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 직전 입찰로 경매 종료 시간이 연장되었을 때 발행되는 이벤트 (soft close)
+ *
+ * @param auctionId 경매 ID
+ * @param endTime   연장된 종료 시간
+ */
+public record AuctionExtendedEvent(
+        Long auctionId,
+        LocalDateTime endTime
+) {
+}
@@ -0,0 +1,52 @@
+package com.bugzero.rarego.boundedContext.auction.in;
+
+import com.bugzero.rarego.boundedContext.auction.app.AuctionBidJournal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 시작 시 입찰 WAL에서 DB에 반영되지 못한 입찰을 복구
+ * - 웹 서버가 요청을 받기 전(더 낮은 lifecycle phase)에 실행되어 복구 전에 새 입찰이 기록되거나
+ *   시퀀서 레인이 복구 전 경매 상태를 적재하지 않도록 함
+ * - 정산 예약 복구(AuctionSchedulerInitializer, ApplicationReadyEvent)보다 먼저 실행되어 복구된 입찰 기준으로 정산되도록 함
+ * - 복구에 실패하면 재생하지 못한 입찰을 건너뛴 채 입찰을 받지 않도록 기동을 중단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionBidRecoveryInitializer implements SmartLifecycle {
+
+    // 웹 서버 시작(SmartLifecycle.DEFAULT_PHASE - 1024)보다 앞선 phase
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    private final AuctionBidJournal bidJournal;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (bidJournal.isWriteAheadLogged()) {
+            log.info("입찰 WAL 복구 시작...");
+            int recovered = bidJournal.recover();
+            log.info("입찰 WAL 복구 완료 - 복구: {}건", recovered);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -1,19 +1,34 @@
 package com.bugzero.rarego.boundedContext.auction.in;
 
 import com.bugzero.rarego.boundedContext.auction.app.AuctionBidStreamSupport;
-import com.bugzero.rarego.boundedContext.auction.domain.Auction;
-import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionSnapshotSupport;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionStreamSubscriptionUseCase;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionSnapshot;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionStreamSubscriptionRequestDto;
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionStreamSubscriptionResponseDto;
 import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.global.response.SuccessResponseDto;
+import com.bugzero.rarego.global.response.SuccessType;
+import com.bugzero.rarego.global.security.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Set;
+
 /**
  * 경매 실시간 입찰 스트림 API
  */
@@ -24,39 +39,91 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class AuctionBidStreamController {
 
     private final AuctionBidStreamSupport streamSupport;
-    private final AuctionRepository auctionRepository;
-
-    private static final int MAX_SUBSCRIBERS_PER_AUCTION = 1000; // 경매당 최대 구독자 수
+    private final AuctionSnapshotSupport snapshotSupport;
+    private final AuctionStreamSubscriptionUseCase streamSubscriptionUseCase;
 
     /**
      * 경매 실시간 입찰 이벤트 구독
      *
      * @param auctionId 경매 ID
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 수신 이벤트 ID (이후 이벤트를 재전송)
      * @return SSE Emitter
      */
     // TODO: 비즈니스 로직이 많아서 리팩토링 필요
     @GetMapping(value = "/{auctionId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable Long auctionId) {
-        log.info("경매 {} 스트림 구독 요청", auctionId);
-
-        // 1. 경매 존재 여부 확인
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new CustomException(ErrorType.AUCTION_NOT_FOUND));
-
-        // 2. 구독자 수 제한 확인
-        int currentSubscribers = streamSupport.getAuctionSubscribers(auctionId);
-        if (currentSubscribers >= MAX_SUBSCRIBERS_PER_AUCTION) {
-            log.warn("경매 {} 구독자 수 한도 초과 - 현재: {}", auctionId, currentSubscribers);
-            throw new CustomException(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED);
+    public SseEmitter subscribe(
+            @PathVariable Long auctionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        log.info("경매 {} 스트림 구독 요청 - Last-Event-ID: {}", auctionId, lastEventId);
+
+        // 1. 경매 존재 여부 확인 (입찰/정산 이벤트로 갱신되는 스냅샷 사용, 없을 때만 DB 조회)
+        AuctionSnapshot auction = snapshotSupport.get(auctionId);
+
+        // 종료/회수된 경매는 보낼 이벤트가 없으므로 구독을 받지 않음 (멀티플렉스 구독과 같은 기준)
+        if (auction.status() != AuctionStatus.SCHEDULED && auction.status() != AuctionStatus.IN_PROGRESS) {
+            throw new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS, "종료된 경매는 구독할 수 없습니다.");
         }
 
-        // 3. 현재가 조회 (최신 입찰가 또는 시작가)
-        Integer currentPrice = auction.getCurrentPrice() != null
-                ? auction.getCurrentPrice()
-                : auction.getStartPrice();
+        // 2. 현재가 조회 (최신 입찰가 또는 시작가)
+        Integer currentPrice = auction.currentPrice();
+
+        // 3. SSE 구독 시작 (경매당 구독자 수 한도는 멀티플렉스 구독과 함께 AuctionBidStreamSupport에서 확인)
+        return streamSupport.subscribe(auctionId, currentPrice, lastEventId);
+    }
+
+    /**
+     * 여러 경매 실시간 이벤트를 한 연결로 구독 (멀티플렉스 스트림)
+     * - 연결 이벤트의 streamId로 구독 경매를 재연결 없이 추가/해제
+     *
+     * @param auctionIds 구독할 경매 ID 목록
+     * @param bookmarks  내 관심 경매 포함 여부 (로그인 필요)
+     * @param activeBids 내가 입찰 중인 경매 포함 여부 (로그인 필요)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMultiplex(
+            @RequestParam(required = false) Set<Long> auctionIds,
+            @RequestParam(defaultValue = "false") boolean bookmarks,
+            @RequestParam(defaultValue = "false") boolean activeBids,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        String publicId = principal != null ? principal.publicId() : null;
+        Set<Long> resolved = streamSubscriptionUseCase.resolveAuctionIds(publicId, auctionIds, bookmarks, activeBids);
+
+        log.info("멀티플렉스 스트림 구독 요청 - 경매 {}건", resolved.size());
+        return streamSupport.subscribeMultiplex(publicId, resolved);
+    }
+
+    /**
+     * 멀티플렉스 스트림에 구독 경매 추가
+     */
+    @PostMapping("/stream/{streamId}/subscriptions")
+    public SuccessResponseDto<AuctionStreamSubscriptionResponseDto> addStreamSubscriptions(
+            @PathVariable String streamId,
+            @RequestBody AuctionStreamSubscriptionRequestDto request,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        String publicId = principal != null ? principal.publicId() : null;
+        Set<Long> resolved = streamSubscriptionUseCase.resolveAuctionIds(
+                publicId, request.auctionIds(), request.bookmarks(), request.activeBids());
+
+        Set<Long> subscribed = streamSupport.addSubscriptions(streamId, publicId, resolved);
+        return SuccessResponseDto.from(SuccessType.OK, AuctionStreamSubscriptionResponseDto.of(streamId, subscribed));
+    }
+
+    /**
+     * 멀티플렉스 스트림에서 구독 경매 해제
+     */
+    @DeleteMapping("/stream/{streamId}/subscriptions")
+    public SuccessResponseDto<AuctionStreamSubscriptionResponseDto> removeStreamSubscriptions(
+            @PathVariable String streamId,
+            @RequestParam Set<Long> auctionIds,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        String publicId = principal != null ? principal.publicId() : null;
 
-        // 4. SSE 구독 시작
-        return streamSupport.subscribe(auctionId, currentPrice);
+        Set<Long> subscribed = streamSupport.removeSubscriptions(streamId, publicId, auctionIds);
+        return SuccessResponseDto.from(SuccessType.OK, AuctionStreamSubscriptionResponseDto.of(streamId, subscribed));
     }
 
     /**
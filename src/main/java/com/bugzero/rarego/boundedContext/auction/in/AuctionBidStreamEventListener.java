@@ -1,10 +1,12 @@
 package com.bugzero.rarego.boundedContext.auction.in;
 
-import com.bugzero.rarego.boundedContext.auction.app.AuctionBidStreamSupport;
-import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionMemberProfileCache;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionStreamEventBus;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionStreamMessage;
 import com.bugzero.rarego.boundedContext.auction.event.AuctionBidCreatedEvent;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionExtendedEvent;
 import com.bugzero.rarego.boundedContext.auction.event.AuctionFailedEvent;
-import com.bugzero.rarego.boundedContext.auction.out.AuctionMemberRepository;
+import com.bugzero.rarego.global.config.AsyncConfig;
 import com.bugzero.rarego.shared.auction.event.AuctionEndedEvent;
 import com.bugzero.rarego.shared.payment.event.PaymentTimeoutEvent;
 import lombok.RequiredArgsConstructor;
@@ -16,38 +18,40 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 입찰/경매 종료 이벤트를 SSE 스트림으로 브로드캐스트
+ * - 스트림 이벤트 버스(auction.stream.bus)를 거쳐 전달되므로 다중 인스턴스에서도 모든 노드의 구독자가 수신
+ * - 입찰 이벤트는 밀리면 버려도 되는 전용 Executor, 마감 연장/종료 이벤트는 누락 없이 처리하는 Executor에서 실행
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionBidStreamEventListener {
 
-    private final AuctionBidStreamSupport streamSupport;
-    private final AuctionMemberRepository memberRepository;
+    private final AuctionStreamEventBus streamEventBus;
+    private final AuctionMemberProfileCache memberProfileCache;
 
     /**
      * 입찰 생성 이벤트 → SSE 브로드캐스트
      * 트랜잭션 커밋 후 실행되어야 안전함
      */
-    @Async
+    @Async(AsyncConfig.STREAM_BROADCAST_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onBidCreated(AuctionBidCreatedEvent event) {
         try {
             log.info("입찰 이벤트 수신 - auctionId: {}, bidderId: {}",
                     event.auctionId(), event.bidderId());
 
-            // 입찰자 닉네임 조회
-            String bidderName = memberRepository.findById(event.bidderId())
-                    .map(AuctionMember::getNickname)
+            // 입찰자 닉네임 조회 (프로필 캐시, 캐시에 없을 때만 DB 조회)
+            String bidderName = memberProfileCache.get(event.bidderId())
+                    .map(AuctionMemberProfileCache.Profile::nickname)
                     .orElse("익명");
 
             // SSE 브로드캐스트
-            streamSupport.broadcastBid(
+            streamEventBus.publish(AuctionStreamMessage.bid(
                     event.auctionId(),
                     event.bidAmount(),
                     bidderName,
                     event.bidTime()
-            );
+            ));
 
         } catch (Exception e) {
             log.error("입찰 이벤트 브로드캐스트 실패 - auctionId: {}", event.auctionId(), e);
@@ -55,10 +59,26 @@ public class AuctionBidStreamEventListener {
         }
     }
 
+    /**
+     * 마감 연장 이벤트 → SSE 브로드캐스트 (클라이언트 카운트다운 갱신)
+     */
+    @Async(AsyncConfig.STREAM_CONTROL_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuctionExtended(AuctionExtendedEvent event) {
+        try {
+            log.info("마감 연장 이벤트 수신 - auctionId: {}, endTime: {}", event.auctionId(), event.endTime());
+
+            streamEventBus.publish(AuctionStreamMessage.extended(event.auctionId(), event.endTime()));
+
+        } catch (Exception e) {
+            log.error("마감 연장 이벤트 브로드캐스트 실패 - auctionId: {}", event.auctionId(), e);
+        }
+    }
+
     /**
      * 경매 낙찰 이벤트 → SSE 브로드캐스트 (경매 종료)
      */
-    @Async
+    @Async(AsyncConfig.STREAM_CONTROL_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onAuctionEnded(AuctionEndedEvent event) {
         try {
@@ -67,17 +87,17 @@ public class AuctionBidStreamEventListener {
 
             // 낙찰자 닉네임 조회
             String winnerName = event.winnerId() != null
-                    ? memberRepository.findById(event.winnerId())
-                    .map(AuctionMember::getNickname)
+                    ? memberProfileCache.get(event.winnerId())
+                    .map(AuctionMemberProfileCache.Profile::nickname)
                     .orElse("익명")
                     : null;
 
             // SSE 브로드캐스트
-            streamSupport.broadcastAuctionEnded(
+            streamEventBus.publish(AuctionStreamMessage.ended(
                     event.auctionId(),
                     event.finalPrice(),
                     winnerName
-            );
+            ));
 
         } catch (Exception e) {
             log.error("경매 종료 이벤트 브로드캐스트 실패 - auctionId: {}", event.auctionId(), e);
@@ -87,25 +107,25 @@ public class AuctionBidStreamEventListener {
     /**
      * 경매 유찰 이벤트 → SSE 브로드캐스트 (경매 종료, 낙찰자 없음)
      */
-    @Async
+    @Async(AsyncConfig.STREAM_CONTROL_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onAuctionFailed(AuctionFailedEvent event) {
         try {
             log.info("경매 유찰 이벤트 수신 - auctionId: {}", event.auctionId());
 
             // SSE 브로드캐스트 (낙찰자 없음)
-            streamSupport.broadcastAuctionEnded(
+            streamEventBus.publish(AuctionStreamMessage.ended(
                     event.auctionId(),
                     0,  // 유찰이므로 최종가 0
                     null  // 낙찰자 없음
-            );
+            ));
 
         } catch (Exception e) {
             log.error("경매 유찰 이벤트 브로드캐스트 실패 - auctionId: {}", event.auctionId(), e);
         }
     }
 
-    @Async
+    @Async(AsyncConfig.STREAM_CONTROL_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onPaymentTimeout(PaymentTimeoutEvent event) {
         try {
@@ -113,11 +133,11 @@ public class AuctionBidStreamEventListener {
                     event.auctionId(), event.buyerId());
 
             // SSE 브로드캐스트 (경매 실패로 처리)
-            streamSupport.broadcastAuctionEnded(
+            streamEventBus.publish(AuctionStreamMessage.ended(
                     event.auctionId(),
                     0, // 유찰과 동일하게 처리
                     null // 낙찰자 없음 (타임아웃)
-            );
+            ));
 
         } catch (Exception e) {
             log.error("결제 타임아웃 이벤트 브로드캐스트 실패 - auctionId: {}", event.auctionId(), e);
@@ -49,7 +49,7 @@ public class AuctionController {
         return auctionFacade.getAuctionDetail(auctionId, memberPublicId);
     }
 
-    @Operation(summary = "입찰하기", description = "특정 경매에 입찰을 진행합니다. (판매자 본인 입찰 불가)")
+    @Operation(summary = "입찰하기", description = "특정 경매에 입찰을 진행합니다. (판매자 본인 입찰 불가, 같은 멱등 키로 재시도하면 이전 결과 반환)")
     @PostMapping("/{auctionId}/bids")
     @ResponseStatus(HttpStatus.CREATED)
     public SuccessResponseDto<BidResponseDto> createBid(
@@ -60,11 +60,27 @@ public class AuctionController {
         SuccessResponseDto<BidResponseDto> response = auctionFacade.createBid(
                 auctionId,
                 principal.publicId(),
-                bidRequestDto.bidAmount().intValue()
+                bidRequestDto.bidAmount().intValue(),
+                bidRequestDto.idempotencyKey()
         );
         return response;
     }
 
+    @Operation(summary = "자동 입찰 등록", description = "최대 금액을 위임하면 경쟁 입찰이 들어올 때마다 최소 호가로 대신 입찰합니다. (최고 입찰자는 최대 금액 상향만 가능)")
+    @PostMapping("/{auctionId}/proxy-bids")
+    @ResponseStatus(HttpStatus.CREATED)
+    public SuccessResponseDto<ProxyBidResponseDto> registerProxyBid(
+            @PathVariable Long auctionId,
+            @Valid @RequestBody ProxyBidRequestDto proxyBidRequestDto,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        return auctionFacade.registerProxyBid(
+                auctionId,
+                principal.publicId(),
+                proxyBidRequestDto.maxAmount().intValue()
+        );
+    }
+
     @Operation(summary = "입찰 기록 조회", description = "해당 경매의 실시간 입찰 내역(로그)을 조회합니다.")
     @GetMapping("/{auctionId}/bids")
     public PagedResponseDto<BidLogResponseDto> getBids(
@@ -353,8 +353,8 @@ public class AuctionDataInit implements CommandLineRunner {
 
         bidRepository.save(bid);
 
-        // 경매 현재가 갱신
-        auction.updateCurrentPrice(amount);
+        // 경매 현재가/최고 입찰자/입찰 수 갱신
+        auction.applyBid(bid);
         auctionRepository.save(auction);
     }
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.bugzero.rarego.boundedContext.auction.in;
 
+import com.bugzero.rarego.boundedContext.auction.app.AuctionBidSequencer;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionDepositHoldCache;
 import com.bugzero.rarego.boundedContext.auction.app.AuctionFacade;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionMemberProfileCache;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionProxyBidSupport;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionSnapshotSupport;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionBidCreatedEvent;
 import com.bugzero.rarego.boundedContext.auction.event.AuctionCreatedEvent;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionExtendedEvent;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionFailedEvent;
 import com.bugzero.rarego.boundedContext.auction.event.AuctionUpdatedEvent;
+import com.bugzero.rarego.shared.auction.event.AuctionEndedEvent;
 import com.bugzero.rarego.shared.member.event.MemberJoinedEvent;
 import com.bugzero.rarego.shared.member.event.MemberUpdatedEvent;
+import com.bugzero.rarego.shared.payment.event.PaymentTimeoutEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -25,6 +35,11 @@ public class AuctionEventListener {
 
     private final AuctionScheduler scheduler;
     private final AuctionFacade auctionFacade;
+    private final AuctionDepositHoldCache depositHoldCache;
+    private final AuctionSnapshotSupport snapshotSupport;
+    private final AuctionProxyBidSupport proxyBidSupport;
+    private final AuctionMemberProfileCache memberProfileCache;
+    private final AuctionBidSequencer bidSequencer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onAuctionCreated(AuctionCreatedEvent event) {
@@ -51,6 +66,8 @@ public class AuctionEventListener {
             }
 
             log.info("경매 수정 이벤트 수신 - auctionId: {}", event.auctionId());
+            snapshotSupport.evict(event.auctionId());
+            bidSequencer.evict(event.auctionId());
             scheduler.cancelSchedule(event.auctionId());
             scheduler.scheduleSettlement(event.auctionId(), event.newEndTime());
 
@@ -62,12 +79,53 @@ public class AuctionEventListener {
     @TransactionalEventListener(phase = AFTER_COMMIT)
     @Transactional(propagation = REQUIRES_NEW)
     public void onMemberCreated(MemberJoinedEvent event) {
-        auctionFacade.syncMember(event.memberDto());
+        memberProfileCache.put(auctionFacade.syncMember(event.memberDto()));
     }
 
+    // 동기화 결과(지연 이벤트면 기존 값)로 닉네임 캐시 갱신
     @TransactionalEventListener(phase = AFTER_COMMIT)
     @Transactional(propagation = REQUIRES_NEW)
     public void onMemberUpdated(MemberUpdatedEvent event) {
-        auctionFacade.syncMember(event.memberDto());
+        memberProfileCache.put(auctionFacade.syncMember(event.memberDto()));
+    }
+
+    // 커밋된 입찰을 스냅샷에 반영 (입찰 스레드에서 커밋 직후 동기 처리)
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onBidCreated(AuctionBidCreatedEvent event) {
+        snapshotSupport.applyBid(event.auctionId(), event.bidderId(), event.bidAmount());
+    }
+
+    // 마감 연장(soft close) - 정산 예약은 데드라인만 갱신하고 스냅샷의 종료 시간도 함께 연장
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onAuctionExtended(AuctionExtendedEvent event) {
+        try {
+            snapshotSupport.extendEndTime(event.auctionId(), event.endTime());
+            scheduler.extendDeadline(event.auctionId(), event.endTime());
+        } catch (Exception e) {
+            log.error("경매 {} 마감 연장 이벤트 처리 실패", event.auctionId(), e);
+        }
+    }
+
+    // 경매 종료/유찰 시 보증금이 환급되거나 사용되므로 Hold 캐시 무효화, 스냅샷/시퀀서 레인 제거
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onAuctionEnded(AuctionEndedEvent event) {
+        depositHoldCache.evictAuction(event.auctionId());
+        snapshotSupport.evict(event.auctionId());
+        bidSequencer.evict(event.auctionId());
+        proxyBidSupport.evict(event.auctionId());
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onAuctionFailed(AuctionFailedEvent event) {
+        depositHoldCache.evictAuction(event.auctionId());
+        snapshotSupport.evict(event.auctionId());
+        bidSequencer.evict(event.auctionId());
+        proxyBidSupport.evict(event.auctionId());
+    }
+
+    // 결제 기한 초과로 보증금 몰수
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onPaymentTimeout(PaymentTimeoutEvent event) {
+        depositHoldCache.evict(event.buyerId(), event.auctionId());
     }
 }
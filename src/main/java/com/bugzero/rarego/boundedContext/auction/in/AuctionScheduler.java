@@ -3,34 +3,74 @@ package com.bugzero.rarego.boundedContext.auction.in;
 import com.bugzero.rarego.boundedContext.auction.app.AuctionSettleAuctionFacade;
 import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.response.ErrorType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * 경매별 종료 시간에 맞춰 동적으로 정산을 예약하는 스케줄러
+ * 경매별 종료 시간에 맞춰 정산을 예약하는 스케줄러
+ * - 경매마다 ScheduledFuture를 만들지 않고 계층형 타이밍 휠(1초 해상도)에 등록 - 예약/취소/연장 O(1)
+ * - 전용 틱 스레드가 1초마다 휠을 진행시키고, 만료된 경매는 별도 정산 워커 풀에서 처리
+ *   (정산이 오래 걸려도 다음 틱이 밀리지 않음)
+ * - 마감 연장(soft close)은 휠 안에서 항목 위치만 옮기고, 이미 만료되어 넘어간 뒤의 연장은 새로 예약
+ * - 정산 지연(정산 시작 시각 - 종료 시각)은 auction.settlement.lag 메트릭으로 노출
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionScheduler {
 
-    private final TaskScheduler taskScheduler;
     private final AuctionSettleAuctionFacade facade;
 
-    private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final long TICK_INTERVAL_MS = 1000;
+
+    private final AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(System.currentTimeMillis());
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger pendingSettlements = new AtomicInteger();
+
+    private final Timer settlementLag = Timer.builder("auction.settlement.lag")
+            .description("경매 종료 시각 대비 정산 시작 지연")
+            .register(Metrics.globalRegistry);
+
+    @Value("${auction.settlement-scheduler.worker-threads:4}")
+    private int workerThreads = 4;
+
+    private ExecutorService settlementWorkers;
+
+    @PostConstruct
+    public void start() {
+        settlementWorkers = Executors.newFixedThreadPool(workerThreads);
+        ticker.scheduleAtFixedRate(this::tick, TICK_INTERVAL_MS, TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("auction.settlement.scheduled", wheel, AuctionSettlementTimingWheel::size)
+                .description("정산 예약된 경매 수")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("auction.settlement.pending", pendingSettlements, AtomicInteger::get)
+                .description("만료되어 정산 대기/진행 중인 경매 수")
+                .register(Metrics.globalRegistry);
+    }
 
     /**
-     * 경매 종료 시간에 맞춰 정산 작업 예약
+     * 경매 종료 시간에 맞춰 정산 작업 예약 (이미 예약되어 있으면 새 시각으로 옮김)
      */
     public void scheduleSettlement(Long auctionId, LocalDateTime endTime) {
         if (auctionId == null || endTime == null) {
@@ -39,28 +79,18 @@ public class AuctionScheduler {
         }
 
         try {
-            cancelSchedule(auctionId);
-
-            ZoneId zone = ZoneId.of("Asia/Seoul");
-            Instant executionTime = endTime.atZone(zone).toInstant();
-            Instant now = java.time.ZonedDateTime.now(zone).toInstant();
+            long deadline = endTime.atZone(ZONE).toInstant().toEpochMilli();
 
-            if (executionTime.isBefore(now)) {
+            if (!wheel.schedule(auctionId, deadline)) {
                 log.warn("경매 {}의 종료 시간이 이미 지났습니다. 즉시 정산을 실행합니다.", auctionId);
-                executeSettlement(auctionId);
+                dispatch(auctionId, deadline);
                 return;
             }
 
-            ScheduledFuture<?> future = taskScheduler.schedule(
-                    () -> executeSettlement(auctionId),
-                    executionTime);
-
-            scheduledTasks.put(auctionId, future);
-
             log.info("경매 {}의 정산이 {}에 예약되었습니다.", auctionId, endTime);
 
         } catch (RejectedExecutionException e) {
-            log.error("스케줄러 용량 초과로 경매 {} 예약 실패", auctionId, e);
+            log.error("정산 워커 용량 초과로 경매 {} 예약 실패", auctionId, e);
             throw new CustomException(ErrorType.SCHEDULER_CAPACITY_EXCEEDED);
         } catch (CustomException e) {
             throw e;
@@ -70,17 +100,39 @@ public class AuctionScheduler {
         }
     }
 
-    private void executeSettlement(Long auctionId) {
-        try {
-            log.info("경매 {} 정산 시작", auctionId);
-            facade.settleOne(auctionId);
-            log.info("경매 {} 정산 완료", auctionId);
+    /**
+     * 마감 연장 반영 - 예약된 항목을 연장된 시각의 칸으로 옮김
+     * (이 인스턴스에 예약이 없거나 이미 만료되어 정산으로 넘어간 뒤라면 새로 예약)
+     */
+    public void extendDeadline(Long auctionId, LocalDateTime endTime) {
+        if (auctionId == null || endTime == null) {
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("경매 {} 정산 실패", auctionId, e);
+        if (!wheel.extend(auctionId, endTime.atZone(ZONE).toInstant().toEpochMilli())) {
+            scheduleSettlement(auctionId, endTime);
+            return;
+        }
+
+        log.debug("경매 {}의 종료 시간이 {}(으)로 연장되었습니다.", auctionId, endTime);
+    }
+
+    /**
+     * 이미 종료된 경매를 예약 없이 바로 정산 워커에 넘기고, 정산이 끝나면 완료되는 future 반환
+     * (서버 시작 시 복구처럼 한꺼번에 몰리는 정산을 묶음 단위로 기다릴 때 사용, 정산 실패 시 예외로 완료)
+     * - 그 사이 이벤트로 새로 예약되었다면 정산하지 않고 그 예약을 따름
+     */
+    public CompletableFuture<Void> settleNow(Long auctionId, LocalDateTime endTime) {
+        if (auctionId == null || endTime == null) {
+            log.error("auctionId 또는 endTime이 null입니다. auctionId: {}, endTime: {}", auctionId, endTime);
+            throw new CustomException(ErrorType.INVALID_INPUT);
+        }
 
-        } finally {
-            scheduledTasks.remove(auctionId);
+        try {
+            return dispatch(auctionId, endTime.atZone(ZONE).toInstant().toEpochMilli());
+        } catch (RejectedExecutionException e) {
+            log.error("정산 워커 용량 초과로 경매 {} 정산 실패", auctionId, e);
+            throw new CustomException(ErrorType.SCHEDULER_CAPACITY_EXCEEDED);
         }
     }
 
@@ -89,16 +141,13 @@ public class AuctionScheduler {
             return;
         }
 
-        ScheduledFuture<?> future = scheduledTasks.remove(auctionId);
-        if (future != null && !future.isDone()) {
-            future.cancel(false);
+        if (wheel.cancel(auctionId)) {
             log.info("경매 {}의 정산 예약을 취소했습니다.", auctionId);
         }
     }
 
     public int getScheduledTaskCount() {
-        scheduledTasks.entrySet().removeIf(entry -> entry.getValue().isDone());
-        return scheduledTasks.size();
+        return wheel.size();
     }
 
     public boolean isScheduled(Long auctionId) {
@@ -106,7 +155,76 @@ public class AuctionScheduler {
             return false;
         }
 
-        ScheduledFuture<?> future = scheduledTasks.get(auctionId);
-        return future != null && !future.isDone();
+        return wheel.contains(auctionId);
+    }
+
+    /**
+     * 애플리케이션 종료 시 틱 스레드를 멈추고 진행 중인 정산을 마무리
+     */
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        if (settlementWorkers == null) {
+            return;
+        }
+
+        settlementWorkers.shutdown();
+        try {
+            if (!settlementWorkers.awaitTermination(30, TimeUnit.SECONDS)) {
+                settlementWorkers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            settlementWorkers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 틱 스레드 - 현재 시각까지 휠을 진행시키고 만료된 경매를 정산 워커에 넘김
+    void tick() {
+        advance(System.currentTimeMillis());
+    }
+
+    void advance(long nowMillis) {
+        try {
+            List<AuctionSettlementTimingWheel.Entry> expired = wheel.advanceTo(nowMillis);
+            for (AuctionSettlementTimingWheel.Entry entry : expired) {
+                dispatch(entry.auctionId(), entry.deadlineMillis());
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 scheduleAtFixedRate가 이후 틱을 멈추므로 여기서 처리
+            log.error("정산 타이밍 휠 진행 중 오류 발생", e);
+        }
+    }
+
+    private CompletableFuture<Void> dispatch(Long auctionId, long deadlineMillis) {
+        pendingSettlements.incrementAndGet();
+        try {
+            return CompletableFuture.runAsync(() -> executeSettlement(auctionId, deadlineMillis), settlementWorkers)
+                    .whenComplete((result, e) -> pendingSettlements.decrementAndGet());
+        } catch (RejectedExecutionException e) {
+            pendingSettlements.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void executeSettlement(Long auctionId, long deadlineMillis) {
+        // 워커에 넘어간 뒤 연장/재예약되었다면 새 예약 시각에 정산
+        if (wheel.contains(auctionId)) {
+            log.info("경매 {}의 종료 시간이 변경되어 정산을 새 예약 시각으로 미룹니다.", auctionId);
+            return;
+        }
+
+        settlementLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - deadlineMillis)));
+
+        try {
+            log.info("경매 {} 정산 시작", auctionId);
+            facade.settleOne(auctionId);
+            log.info("경매 {} 정산 완료", auctionId);
+
+        } catch (Exception e) {
+            // 틱에서 넘긴 정산은 future를 보지 않으므로 여기서 로그를 남기고, settleNow 호출자에게는 future로 전달
+            log.error("경매 {} 정산 실패", auctionId, e);
+            throw e;
+        }
     }
-}
\ No newline at end of file
+}
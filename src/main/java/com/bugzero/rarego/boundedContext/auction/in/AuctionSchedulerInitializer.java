@@ -1,21 +1,24 @@
 package com.bugzero.rarego.boundedContext.auction.in;
 
-import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionDeadline;
 import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 서버 시작 시 진행 중인 경매들의 정산 예약을 복구
+ * - 락 없이 ID 키셋 페이지로 모든 진행 중 경매를 훑으므로 복구 중에도 입찰이 막히지 않음
+ * - 종료 시간이 남은 경매는 스케줄러에 등록, 이미 지난 경매는 페이지 단위로 정산 워커에서 병렬 정산
  */
 @Component
 @RequiredArgsConstructor
@@ -25,46 +28,69 @@ public class AuctionSchedulerInitializer {
     private final AuctionRepository auctionRepository;
     private final AuctionScheduler scheduler;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Value("${auction.settlement-scheduler.recovery-page-size:1000}")
+    private int pageSize = 1000;
+
     @EventListener(ApplicationReadyEvent.class)
     public void initializeSchedules() {
         log.info("경매 정산 스케줄 복구 시작...");
+        long startedAt = System.currentTimeMillis();
 
-        try {
-            LocalDateTime now = LocalDateTime.now();
+        int scheduled = 0;
+        int expired = 0;
+        int failed = 0;
 
-            // 진행 중인 모든 경매 조회
-            List<Auction> inProgressAuctions = auctionRepository.findExpiredInProgressAuctionsWithLock(
-                    LocalDateTime.now().plusYears(100), // 미래 시간으로 조회하여 모든 진행중 경매 가져오기
-                    PageRequest.of(0, 1000)
-            );
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<AuctionDeadline> page = auctionRepository.findInProgressDeadlinesAfter(
+                        lastId, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
 
-            if (inProgressAuctions.isEmpty()) {
-                log.info("복구할 진행 중인 경매가 없습니다.");
-                return;
-            }
+                LocalDateTime now = LocalDateTime.now();
+                List<CompletableFuture<Void>> settlements = new ArrayList<>();
 
-            int scheduled = 0;
-            int expired = 0;
+                for (AuctionDeadline deadline : page) {
+                    try {
+                        if (deadline.endTime().isAfter(now)) {
+                            // 조회 이후 도착한 연장 이벤트가 먼저 예약했을 수 있으므로 더 늦은 시간만 반영
+                            scheduler.extendDeadline(deadline.auctionId(), deadline.endTime());
+                            scheduled++;
+                        } else {
+                            settlements.add(scheduler.settleNow(deadline.auctionId(), deadline.endTime()));
+                            expired++;
+                        }
+                    } catch (Exception e) {
+                        failed++;
+                        log.error("경매 {} 예약 복구 실패", deadline.auctionId(), e);
+                    }
+                }
 
-            for (Auction auction : inProgressAuctions) {
-                try {
-                    if (auction.getEndTime().isAfter(now)) {
-                        scheduler.scheduleSettlement(auction.getId(), auction.getEndTime());
-                        scheduled++;
-                    } else {
-                        scheduler.scheduleSettlement(auction.getId(), auction.getEndTime());
-                        expired++;
+                // 이번 페이지의 정산이 끝난 뒤 다음 페이지로 (정산 대기열이 한꺼번에 쌓이지 않도록)
+                // 실패한 정산은 워커에서 로그를 남기고 예외로 완료되므로 여기서는 건수만 집계
+                CompletableFuture.allOf(settlements.toArray(CompletableFuture[]::new))
+                        .exceptionally(e -> null)
+                        .join();
+                for (CompletableFuture<Void> settlement : settlements) {
+                    if (settlement.isCompletedExceptionally()) {
+                        expired--;
+                        failed++;
                     }
-                } catch (Exception e) {
-                    log.error("경매 {} 예약 복구 실패", auction.getId(), e);
+                }
+
+                lastId = page.get(page.size() - 1).auctionId();
+                if (page.size() < pageSize) {
+                    break;
                 }
             }
 
-            log.info("경매 정산 스케줄 복구 완료 - 예약: {}건, 즉시 실행: {}건", scheduled, expired);
+            log.info("경매 정산 스케줄 복구 완료 - 예약: {}건, 즉시 정산: {}건, 실패: {}건, 소요: {}ms",
+                    scheduled, expired, failed, System.currentTimeMillis() - startedAt);
 
         } catch (Exception e) {
-            log.error("경매 정산 스케줄 복구 중 오류 발생", e);
+            log.error("경매 정산 스케줄 복구 중 오류 발생 - 예약: {}건, 즉시 정산: {}건", scheduled, expired, e);
         }
     }
-}
\ No newline at end of file
+}
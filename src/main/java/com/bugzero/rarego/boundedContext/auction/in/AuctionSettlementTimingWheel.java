@@ -0,0 +1,218 @@
+package com.bugzero.rarego.boundedContext.auction.in;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 정산 예약용 계층형 타이밍 휠 (1초 해상도)
+ * - 레벨마다 64칸, 위 레벨의 한 칸은 아래 레벨 전체 범위 (1초 / 64초 / 약 68분 / 약 73시간)
+ * - 예약/취소/연장은 칸의 이중 연결 리스트에 붙이고 떼는 O(1) 연산 (예약된 경매 수와 무관)
+ * - 시간이 흐르면 위 레벨 칸의 항목을 아래 레벨로 내려보내고, 0레벨 칸에 도달한 항목을 만료 처리
+ * - 최상위 레벨 범위(약 194일)를 넘는 예약은 가장 먼 칸에 두었다가 내려올 때 다시 배치
+ * - 동기화는 이 객체를 락으로 사용 (모든 연산이 짧으므로 단일 락으로 충분)
+ */
+final class AuctionSettlementTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long TICK_MS = 1000;
+
+    private final Entry[][] buckets = new Entry[LEVELS][SLOTS];
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // 마지막으로 처리한 틱 (epoch seconds)
+    private long currentTick;
+
+    AuctionSettlementTimingWheel(long nowMillis) {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                buckets[level][slot] = Entry.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(nowMillis, TICK_MS);
+    }
+
+    /**
+     * 종료 시각에 정산 예약 (이미 예약되어 있으면 새 시각으로 옮김)
+     * - 종료 시각이 이미 지난 틱이면 예약하지 않고 false (호출 측에서 즉시 처리)
+     */
+    synchronized boolean schedule(long auctionId, long deadlineMillis) {
+        cancel(auctionId);
+
+        long deadlineTick = Math.ceilDiv(deadlineMillis, TICK_MS);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+
+        Entry entry = new Entry(auctionId, deadlineMillis, deadlineTick);
+        entries.put(auctionId, entry);
+        place(entry);
+        return true;
+    }
+
+    /**
+     * 예약된 경매의 종료 시각을 더 늦은 값으로만 옮김 - 예약이 없으면(이미 만료 포함) false
+     */
+    synchronized boolean extend(long auctionId, long deadlineMillis) {
+        Entry entry = entries.get(auctionId);
+        if (entry == null) {
+            return false;
+        }
+
+        if (deadlineMillis > entry.deadlineMillis) {
+            unlink(entry);
+            entry.deadlineMillis = deadlineMillis;
+            entry.deadlineTick = Math.ceilDiv(deadlineMillis, TICK_MS);
+            place(entry);
+        }
+        return true;
+    }
+
+    synchronized boolean cancel(long auctionId) {
+        Entry entry = entries.remove(auctionId);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    synchronized boolean contains(long auctionId) {
+        return entries.containsKey(auctionId);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 주어진 시각까지 1틱씩 진행하며 만료된 항목을 틱 순서대로 반환 (휠에서는 제거됨)
+     * - 틱 스레드가 밀렸다면 밀린 틱을 모두 처리하므로 만료가 누락되지 않음
+     */
+    synchronized List<Entry> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, TICK_MS);
+        if (targetTick <= currentTick) {
+            return List.of();
+        }
+
+        List<Entry> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 이번 틱에 시작하는 위 레벨 칸을 먼저 아래 레벨로 내려보냄
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    for (Entry entry : drain(buckets[level][(int) ((currentTick >>> shift) & SLOT_MASK)])) {
+                        if (entry.deadlineTick <= currentTick) {
+                            expire(entry, expired);
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+
+            for (Entry entry : drain(buckets[0][(int) (currentTick & SLOT_MASK)])) {
+                expire(entry, expired);
+            }
+        }
+        return expired;
+    }
+
+    // helper method
+
+    // 종료 틱이 들어가는 가장 낮은 레벨의 칸에 연결 (호출 전 deadlineTick > currentTick 보장)
+    private void place(Entry entry) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            long levelStart = (currentTick >>> shift) << shift;
+            if (entry.deadlineTick < levelStart + ((long) SLOTS << shift)) {
+                link(buckets[level][(int) ((entry.deadlineTick >>> shift) & SLOT_MASK)], entry);
+                return;
+            }
+        }
+
+        int topShift = SLOT_BITS * (LEVELS - 1);
+        long farthest = (currentTick >>> topShift) + SLOTS - 1;
+        link(buckets[LEVELS - 1][(int) (farthest & SLOT_MASK)], entry);
+    }
+
+    private void expire(Entry entry, List<Entry> expired) {
+        entries.remove(entry.auctionId, entry);
+        expired.add(entry);
+    }
+
+    private static void link(Entry head, Entry entry) {
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    private static void unlink(Entry entry) {
+        if (entry.prev == null) {
+            return;
+        }
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static List<Entry> drain(Entry head) {
+        if (head.next == head) {
+            return List.of();
+        }
+
+        List<Entry> drained = new ArrayList<>();
+        Entry entry = head.next;
+        while (entry != head) {
+            Entry next = entry.next;
+            entry.prev = null;
+            entry.next = null;
+            drained.add(entry);
+            entry = next;
+        }
+        head.prev = head;
+        head.next = head;
+        return drained;
+    }
+
+    /**
+     * 예약 항목 (칸의 원형 이중 연결 리스트 노드, 각 칸의 머리는 sentinel)
+     */
+    static final class Entry {
+
+        private final long auctionId;
+        private long deadlineMillis;
+        private long deadlineTick;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(long auctionId, long deadlineMillis, long deadlineTick) {
+            this.auctionId = auctionId;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private static Entry sentinel() {
+            Entry head = new Entry(0, 0, 0);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        long auctionId() {
+            return auctionId;
+        }
+
+        long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+}
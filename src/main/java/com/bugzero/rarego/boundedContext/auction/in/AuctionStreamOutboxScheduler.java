@@ -0,0 +1,40 @@
+package com.bugzero.rarego.boundedContext.auction.in;
+
+import com.bugzero.rarego.boundedContext.auction.app.AuctionOutboxStreamEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트림 아웃박스 폴링/정리 스케줄러 (auction.stream.bus=OUTBOX 일 때만 등록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.stream.bus", havingValue = "OUTBOX")
+@RequiredArgsConstructor
+public class AuctionStreamOutboxScheduler {
+
+	private final AuctionOutboxStreamEventBus outboxStreamEventBus;
+
+	// 이전 폴링이 끝난 뒤 poll-interval-ms 후 다음 배치 조회
+	@Scheduled(fixedDelayString = "${auction.stream.outbox.poll-interval-ms:200}")
+	public void poll() {
+		try {
+			outboxStreamEventBus.poll();
+		} catch (Exception e) {
+			log.error("스트림 아웃박스 폴링 실패", e);
+		}
+	}
+
+	// 1분마다 보존 기간이 지난 이벤트 삭제
+	@Scheduled(cron = "30 * * * * *")
+	public void purge() {
+		try {
+			outboxStreamEventBus.purge();
+		} catch (Exception e) {
+			log.error("스트림 아웃박스 정리 실패", e);
+		}
+	}
+}
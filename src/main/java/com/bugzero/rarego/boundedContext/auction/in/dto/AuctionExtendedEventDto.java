@@ -0,0 +1,27 @@
+package com.bugzero.rarego.boundedContext.auction.in.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuctionExtendedEventDto(
+        Long auctionId,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime endTime,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime serverTime
+) {
+    public String getType() {
+        return "AUCTION_EXTENDED";
+    }
+
+    public static AuctionExtendedEventDto create(Long auctionId, LocalDateTime endTime) {
+        return new AuctionExtendedEventDto(
+                auctionId,
+                endTime,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.bugzero.rarego.boundedContext.auction.in.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AuctionStreamConnectEventDto(
+        String streamId,
+        Set<Long> auctionIds,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime serverTime,
+        String message
+) {
+    public String getType() {
+        return "STREAM_CONNECT";
+    }
+
+    public static AuctionStreamConnectEventDto create(String streamId, Set<Long> auctionIds) {
+        return new AuctionStreamConnectEventDto(
+                streamId,
+                auctionIds,
+                LocalDateTime.now(),
+                "연결되었습니다."
+        );
+    }
+}
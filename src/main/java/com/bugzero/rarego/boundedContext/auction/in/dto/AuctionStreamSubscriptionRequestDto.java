@@ -0,0 +1,10 @@
+package com.bugzero.rarego.boundedContext.auction.in.dto;
+
+import java.util.Set;
+
+public record AuctionStreamSubscriptionRequestDto(
+        Set<Long> auctionIds,
+        boolean bookmarks,  // 내 관심 경매 포함
+        boolean activeBids  // 내가 입찰 중인 진행 경매 포함
+) {
+}
@@ -0,0 +1,11 @@
+package com.bugzero.rarego.boundedContext.auction.in.dto;
+
+import java.util.Set;
+
+public record AuctionStreamSubscriptionResponseDto(
+        String streamId,
+        Set<Long> auctionIds) {
+    public static AuctionStreamSubscriptionResponseDto of(String streamId, Set<Long> auctionIds) {
+        return new AuctionStreamSubscriptionResponseDto(streamId, auctionIds);
+    }
+}
@@ -4,7 +4,10 @@ import com.bugzero.rarego.boundedContext.auction.domain.AuctionBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AuctionBookmarkRepository extends JpaRepository<AuctionBookmark, Long> {
@@ -13,4 +16,8 @@ public interface AuctionBookmarkRepository extends JpaRepository<AuctionBookmark
     Optional<AuctionBookmark> findByAuctionIdAndMemberId(Long auctionId, Long memberId);
 
     Page<AuctionBookmark> findAllByMemberId(Long memberId, Pageable pageable);
+
+    // 회원의 관심 경매 ID 목록 (멀티플렉스 스트림 구독용)
+    @Query("SELECT b.auctionId FROM AuctionBookmark b WHERE b.memberId = :memberId")
+    List<Long> findAuctionIdsByMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
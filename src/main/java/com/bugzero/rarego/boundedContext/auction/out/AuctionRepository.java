@@ -10,10 +10,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionDeadline;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
 
 import jakarta.persistence.LockModeType;
@@ -24,6 +26,57 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, JpaSpec
     @Query("select a from Auction a where a.id = :id")
     Optional<Auction> findByIdWithLock(@Param("id") Long id);
 
+    // 낙관적 입찰 반영 - 조회 시점의 version이 그대로일 때만 현재가/최고 입찰자/입찰 수 갱신 (락 대기 없음)
+    // 첫 입찰은 시작가와 같은 금액이 허용되므로 current_price <= bidAmount 조건 사용
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                UPDATE Auction a
+                SET a.currentPrice = :bidAmount,
+                    a.lastBidderId = :bidderId,
+                    a.bidCount = a.bidCount + 1,
+                    a.version = a.version + 1
+                WHERE a.id = :auctionId
+                AND a.version = :version
+                AND a.currentPrice <= :bidAmount
+                AND a.status = 'IN_PROGRESS'
+            """)
+    int compareAndSetLeadingBid(
+            @Param("auctionId") Long auctionId,
+            @Param("version") long version,
+            @Param("bidderId") Long bidderId,
+            @Param("bidAmount") int bidAmount
+    );
+
+    // 시퀀서 저널 반영 - 배치 안에서 경매별 마지막(최고) 입찰로 현재가/최고 입찰자/입찰 수를 한 번에 갱신
+    // version 대신 진행 중 여부와 현재가만 조건으로 두어, 한 경매의 동시 변경이 배치 전체를 되돌리지 않음
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                UPDATE Auction a
+                SET a.currentPrice = :bidAmount,
+                    a.lastBidderId = :bidderId,
+                    a.bidCount = a.bidCount + :bidCount,
+                    a.version = a.version + 1
+                WHERE a.id = :auctionId
+                AND a.currentPrice <= :bidAmount
+                AND a.status = 'IN_PROGRESS'
+            """)
+    int applyJournaledBids(
+            @Param("auctionId") Long auctionId,
+            @Param("bidderId") Long bidderId,
+            @Param("bidAmount") int bidAmount,
+            @Param("bidCount") int bidCount
+    );
+
+    // 낙관적 입찰 저장 후 최고 입찰 ID 기록 (같은 트랜잭션에서 이미 행을 갱신했으므로 version 증가 없음)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Auction a SET a.highestBidId = :bidId WHERE a.id = :auctionId")
+    void updateHighestBidId(@Param("auctionId") Long auctionId, @Param("bidId") Long bidId);
+
+    // 마감 연장(soft close) - 동시에 들어온 입찰끼리 순서가 뒤바뀌어도 더 늦은 종료 시간만 반영
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Auction a SET a.endTime = :endTime WHERE a.id = :auctionId AND a.endTime < :endTime")
+    int extendEndTime(@Param("auctionId") Long auctionId, @Param("endTime") LocalDateTime endTime);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
                 SELECT a FROM Auction a
@@ -34,9 +87,33 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, JpaSpec
             @Param("now") LocalDateTime now,
             Pageable pageable
     );
+
+    // 정산 예약 복구용 - 락 없이 ID 기준 키셋 페이지로 진행 중인 경매의 종료 시간만 조회
+    @Query("""
+                SELECT new com.bugzero.rarego.boundedContext.auction.domain.AuctionDeadline(a.id, a.endTime)
+                FROM Auction a
+                WHERE a.status = 'IN_PROGRESS'
+                AND a.id > :lastId
+                ORDER BY a.id
+            """)
+    List<AuctionDeadline> findInProgressDeadlinesAfter(
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
     Optional<Auction> findByProductId(Long productId);
 
-    List<Auction> findAllByStatusAndStartTimeBefore(AuctionStatus status, LocalDateTime now);
+    // 시작 시간이 된 예정 경매를 한 번에 시작 - 엔티티 dirty checking(@Version) 대신 조건부 UPDATE로 처리하여
+    // 그 사이 수정된 경매 하나 때문에 나머지 경매의 시작까지 롤백되지 않음
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+                UPDATE Auction a
+                SET a.status = 'IN_PROGRESS',
+                    a.version = a.version + 1
+                WHERE a.status = 'SCHEDULED'
+                AND a.startTime < :now
+            """)
+    int startScheduledAuctions(@Param("now") LocalDateTime now);
 
     //삭제가 되지 않은 경매 정보만 반환
     Optional<Auction> findByIdAndDeletedIsFalse(Long auctionId);
@@ -44,6 +121,13 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>, JpaSpec
     //경매일정이 확정되지 않은 경매 정보만 반환
     Optional<Auction> findByProductIdAndStartTimeIsNull(Long productId);
 
+    // 주어진 ID 중 해당 상태인 경매 ID만 반환 (멀티플렉스 스트림 구독 대상 검증)
+    @Query("SELECT a.id FROM Auction a WHERE a.id IN :ids AND a.status IN :statuses")
+    List<Long> findIdsByIdInAndStatusIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("statuses") Collection<AuctionStatus> statuses
+    );
+
     // 필터링 없는 조건
     Page<Auction> findAllByProductIdIn(Collection<Long> productIds, Pageable pageable);
 
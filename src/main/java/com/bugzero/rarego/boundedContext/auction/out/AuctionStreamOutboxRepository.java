@@ -0,0 +1,25 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuctionStreamOutboxRepository extends JpaRepository<AuctionStreamOutbox, Long> {
+
+    // 마지막으로 읽은 ID 이후 이벤트를 ID 순으로 한 배치만 조회
+    List<AuctionStreamOutbox> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 기동 시 이전 이벤트를 다시 보내지 않도록 시작 위치로 사용
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM AuctionStreamOutbox o")
+    Long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM AuctionStreamOutbox o WHERE o.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,68 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입찰 일괄 저장소
+ * - JPA는 IDENTITY 전략에서 INSERT를 배치로 묶지 못하므로 multi-row INSERT를 직접 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class BidBulkRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO auction_bid (auction_id, bidder_id, bid_amount, bid_time, deleted, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 입찰 목록을 한 번의 INSERT로 저장하고 생성된 ID를 입력 순서대로 반환
+     * (단일 multi-row INSERT의 AUTO_INCREMENT 값은 행 순서대로 연속 할당됨)
+     */
+    public List<Long> insertAll(List<Bid> bids) {
+        if (bids.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(bids.size(), ROW_PLACEHOLDER));
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (Bid bid : bids) {
+                ps.setLong(index++, bid.getAuctionId());
+                ps.setLong(index++, bid.getBidderId());
+                ps.setInt(index++, bid.getBidAmount());
+                ps.setObject(index++, bid.getBidTime());
+                ps.setObject(index++, now);
+                ps.setObject(index++, now);
+            }
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(BidBulkRepository::extractId)
+                .toList();
+    }
+
+    private static Long extractId(Map<String, Object> keys) {
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+}
@@ -24,6 +24,9 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 
     boolean existsByAuctionId(Long auctionId);
 
+    // 해당 경매에 회원의 입찰 기록이 있는지 (보증금 보상 여부 판단)
+    boolean existsByAuctionIdAndBidderId(Long auctionId, Long bidderId);
+
     // 가장 높은 입찰 1개만 (같은 금액이면 먼저 입찰한 것)
     Optional<Bid> findTopByAuctionIdOrderByBidAmountDescBidTimeAsc(Long auctionId);
 
@@ -73,6 +76,16 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     @Query("SELECT b.auctionId, COUNT(b) FROM Bid b WHERE b.auctionId IN :auctionIds GROUP BY b.auctionId")
     List<Object[]> countByAuctionIdIn(@Param("auctionIds") Collection<Long> auctionIds);
 
+    // 회원이 입찰한 진행 중 경매 ID 목록 (멀티플렉스 스트림 구독용)
+    @Query("""
+                SELECT DISTINCT b.auctionId
+                FROM Bid b
+                JOIN Auction a ON b.auctionId = a.id
+                WHERE b.bidderId = :bidderId
+                AND a.status = 'IN_PROGRESS'
+            """)
+    List<Long> findInProgressAuctionIdsByBidderId(@Param("bidderId") Long bidderId);
+
     // 해당 경매의 최고가 입찰 1건 조회
     Optional<Bid> findTopByAuctionIdOrderByBidAmountDesc(Long auctionId);
 
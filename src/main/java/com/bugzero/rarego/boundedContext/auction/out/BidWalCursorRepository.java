@@ -0,0 +1,19 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.bugzero.rarego.boundedContext.auction.domain.BidWalCursor;
+
+import jakarta.persistence.LockModeType;
+
+public interface BidWalCursorRepository extends JpaRepository<BidWalCursor, Long> {
+    // 저널 flush와 재시작 복구가 겹쳐도 반영 시퀀스가 뒤로 가지 않도록 행 락을 잡고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from BidWalCursor c where c.id = :id")
+    Optional<BidWalCursor> findByIdWithLock(@Param("id") Long id);
+}
@@ -0,0 +1,277 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승인된 입찰의 로컬 선행 기록 로그(WAL) - auction.bid.wal.enabled=true 일 때만 동작
+ * - 입찰 1건을 고정 길이 레코드로 메모리 매핑된 세그먼트 파일에 추가하고 force 후 반환
+ * - DB 커밋이 끝난 시퀀스는 checkpoint 파일에 기록하고, checkpoint 이하만 담긴 세그먼트는 삭제(compaction)
+ * - 재시작 시 checkpoint 이후 레코드를 읽어 DB에 반영되지 못한 입찰을 복구
+ */
+@Component
+@Slf4j
+public class BidWriteAheadLog {
+
+    // seq(8) + auctionId(8) + bidderId(8) + bidAmount(4) + bidTime(8) + crc(4)
+    private static final int RECORD_SIZE = 40;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    @Value("${auction.bid.wal.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${auction.bid.wal.dir:./data/bid-wal}")
+    private String dir = "./data/bid-wal";
+
+    @Value("${auction.bid.wal.segment-size-mb:64}")
+    private int segmentSizeMb = 64;
+
+    private Path directory;
+
+    // 세그먼트 시작 시퀀스 -> 파일 (마지막 항목이 현재 기록 중인 세그먼트)
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private MappedByteBuffer segment;
+    private MappedByteBuffer checkpoint;
+    private long checkpointSeq;
+    private long nextSeq;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            directory = Paths.get(dir);
+            Files.createDirectories(directory);
+
+            checkpoint = map(directory.resolve(CHECKPOINT_FILE), Long.BYTES);
+            checkpointSeq = checkpoint.getLong(0);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(BidWriteAheadLog::isSegment)
+                        .forEach(path -> segments.put(parseStartSeq(path), path));
+            }
+
+            long lastSeq = checkpointSeq;
+            for (LoggedBid loggedBid : readAll()) {
+                lastSeq = Math.max(lastSeq, loggedBid.seq());
+            }
+            nextSeq = lastSeq + 1;
+
+            // 재시작마다 새 세그먼트에 이어서 기록 (이전 세그먼트는 복구 후 compaction 대상)
+            openSegment();
+            log.info("입찰 WAL 열기 완료 - dir: {}, checkpoint: {}, nextSeq: {}", directory, checkpointSeq, nextSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 WAL을 열 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 입찰을 로그에 추가하고 디스크 반영(force)까지 끝난 시퀀스를 반환
+     */
+    public synchronized long append(Bid bid) {
+        if (segment.remaining() < RECORD_SIZE) {
+            rollSegment();
+        }
+
+        long seq = nextSeq++;
+        int position = segment.position();
+
+        segment.putLong(seq);
+        segment.putLong(bid.getAuctionId());
+        segment.putLong(bid.getBidderId());
+        segment.putInt(bid.getBidAmount());
+        segment.putLong(toEpochMilli(bid.getBidTime()));
+        segment.putInt(crc(segment, position));
+        segment.force(position, RECORD_SIZE);
+
+        return seq;
+    }
+
+    /**
+     * DB 커밋이 끝난 시퀀스까지 checkpoint 이동 후 불필요한 세그먼트 정리
+     */
+    public synchronized void checkpoint(long seq) {
+        if (seq <= checkpointSeq) {
+            return;
+        }
+
+        checkpoint.putLong(0, seq);
+        checkpoint.force();
+        checkpointSeq = seq;
+
+        compact();
+    }
+
+    /**
+     * DB에 반영된 시퀀스 이후부터 이어서 기록 (로그 디렉터리가 비워져 시퀀스가 처음부터 다시 시작된 경우)
+     * - 그대로 두면 새 입찰이 이미 반영된 시퀀스로 기록되어 재생 시 건너뛰어짐
+     */
+    public synchronized void continueAfter(long appliedSeq) {
+        if (appliedSeq < nextSeq) {
+            return;
+        }
+
+        log.warn("입찰 WAL 시퀀스가 DB 반영 시퀀스보다 뒤처져 있습니다. nextSeq: {} -> {}", nextSeq, appliedSeq + 1);
+        nextSeq = appliedSeq + 1;
+        checkpoint(appliedSeq);
+        rollSegment();
+    }
+
+    /**
+     * checkpoint 이후(아직 DB 반영이 확인되지 않은) 레코드를 시퀀스 순으로 반환
+     */
+    public synchronized List<LoggedBid> readAfterCheckpoint() {
+        try {
+            return readAll().stream()
+                    .filter(loggedBid -> loggedBid.seq() > checkpointSeq)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 WAL을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    // helper method
+
+    private List<LoggedBid> readAll() throws IOException {
+        List<LoggedBid> loggedBids = new ArrayList<>();
+        for (Path path : segments.values()) {
+            readSegment(path, loggedBids);
+        }
+        return loggedBids;
+    }
+
+    private void readSegment(Path path, List<LoggedBid> loggedBids) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= RECORD_SIZE) {
+                int position = buffer.position();
+                long seq = buffer.getLong();
+                // 0으로 채워진 영역부터는 미기록 구간
+                if (seq == 0) {
+                    return;
+                }
+
+                long auctionId = buffer.getLong();
+                long bidderId = buffer.getLong();
+                int bidAmount = buffer.getInt();
+                long bidTime = buffer.getLong();
+                int crc = buffer.getInt();
+
+                // force 전에 중단되어 일부만 기록된 레코드는 버림
+                if (crc != crc(buffer, position)) {
+                    log.warn("입찰 WAL 손상 레코드 발견 - file: {}, seq: {}", path.getFileName(), seq);
+                    return;
+                }
+
+                loggedBids.add(new LoggedBid(seq, auctionId, bidderId, bidAmount, toLocalDateTime(bidTime)));
+            }
+        }
+    }
+
+    private void rollSegment() {
+        segment.force();
+        try {
+            openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 WAL 세그먼트를 만들 수 없습니다.", e);
+        }
+        compact();
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", nextSeq) + SEGMENT_SUFFIX);
+        segment = map(path, (long) segmentSizeMb * 1024 * 1024);
+        segments.put(nextSeq, path);
+    }
+
+    // 다음 세그먼트의 시작 시퀀스 - 1 이 checkpoint 이하이면 해당 세그먼트의 모든 레코드는 DB에 반영됨
+    private void compact() {
+        while (segments.size() > 1) {
+            Long secondStartSeq = segments.higherKey(segments.firstKey());
+            if (secondStartSeq - 1 > checkpointSeq) {
+                return;
+            }
+
+            Path path = segments.pollFirstEntry().getValue();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("입찰 WAL 세그먼트 삭제 실패 - {}", path.getFileName(), e);
+            }
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static int crc(MappedByteBuffer buffer, int position) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.slice(position, CRC_OFFSET));
+        return (int) crc32.getValue();
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long parseStartSeq(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    public record LoggedBid(long seq, long auctionId, long bidderId, int bidAmount, LocalDateTime bidTime) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import com.bugzero.rarego.boundedContext.auction.domain.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Long> {
+    // 최대 금액을 마지막으로 바꾼 순서 (같은 금액이면 먼저 등록한 쪽이 우선)
+    List<ProxyBid> findAllByAuctionIdOrderByUpdatedAtAsc(Long auctionId);
+
+    Optional<ProxyBid> findByAuctionIdAndBidderId(Long auctionId, Long bidderId);
+
+    boolean existsByAuctionIdAndBidderId(Long auctionId, Long bidderId);
+}
@@ -17,6 +17,7 @@ import com.bugzero.rarego.global.response.PagedResponseDto;
 import com.bugzero.rarego.shared.member.domain.MemberDto;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldRequestDto;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldResponseDto;
+import com.bugzero.rarego.shared.payment.dto.DepositReleaseRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,6 +47,13 @@ public class PaymentFacade {
         return paymentHoldDepositUseCase.holdDeposit(request);
     }
 
+    /**
+     * 보증금 선승인 해제 (입찰 거절 시 보상)
+     */
+    public void releaseDeposit(DepositReleaseRequestDto request) {
+        paymentReleaseDepositUseCase.releaseDeposit(request);
+    }
+
     /**
      * 보증금 환급 (낙찰자 제외)
      */
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.bugzero.rarego.boundedContext.payment.domain.Deposit;
+import com.bugzero.rarego.boundedContext.payment.domain.DepositStatus;
 import com.bugzero.rarego.boundedContext.payment.domain.PaymentMember;
 import com.bugzero.rarego.boundedContext.payment.domain.PaymentTransaction;
 import com.bugzero.rarego.boundedContext.payment.domain.ReferenceType;
@@ -30,9 +31,11 @@ public class PaymentHoldDepositUseCase {
 		PaymentMember member = paymentSupport.findMemberByPublicId(request.memberPublicId());
 		Long memberId = member.getId();
 
-		// 1. 멱등성 체크 (memberId로 조회)
+		// 1. 멱등성 체크 (memberId로 조회, 입찰 거절로 해제된 건은 다시 예치)
 		return depositRepository.findByMemberIdAndAuctionId(memberId, request.auctionId())
-			.map(DepositHoldResponseDto::from)
+			.map(deposit -> deposit.getStatus() == DepositStatus.RELEASED
+				? executeRehold(member, deposit)
+				: DepositHoldResponseDto.from(deposit))
 			.orElseGet(() -> executeHold(member, request));
 	}
 
@@ -46,18 +49,32 @@ public class PaymentHoldDepositUseCase {
 		depositRepository.save(deposit);
 
 		// 4. 이력 기록
+		saveHoldTransaction(member, wallet, deposit);
+
+		return DepositHoldResponseDto.from(deposit, true);
+	}
+
+	private DepositHoldResponseDto executeRehold(PaymentMember member, Deposit deposit) {
+		Wallet wallet = paymentSupport.findWalletByMemberIdForUpdate(member.getId());
+		wallet.hold(deposit.getAmount());
+
+		deposit.rehold();
+		saveHoldTransaction(member, wallet, deposit);
+
+		return DepositHoldResponseDto.from(deposit, true);
+	}
+
+	private void saveHoldTransaction(PaymentMember member, Wallet wallet, Deposit deposit) {
 		PaymentTransaction transaction = PaymentTransaction.builder()
 			.member(member)
 			.wallet(wallet)
 			.transactionType(WalletTransactionType.DEPOSIT_HOLD)
 			.balanceDelta(0)
-			.holdingDelta(request.amount())
+			.holdingDelta(deposit.getAmount())
 			.balanceAfter(wallet.getBalance())
 			.referenceType(ReferenceType.DEPOSIT)
 			.referenceId(deposit.getId())
 			.build();
 		transactionRepository.save(transaction);
-
-		return DepositHoldResponseDto.from(deposit);
 	}
 }
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.bugzero.rarego.boundedContext.payment.domain.Deposit;
 import com.bugzero.rarego.boundedContext.payment.domain.DepositStatus;
+import com.bugzero.rarego.boundedContext.payment.domain.PaymentMember;
 import com.bugzero.rarego.boundedContext.payment.domain.PaymentTransaction;
 import com.bugzero.rarego.boundedContext.payment.domain.ReferenceType;
 import com.bugzero.rarego.boundedContext.payment.domain.Wallet;
@@ -17,6 +18,7 @@ import com.bugzero.rarego.boundedContext.payment.out.DepositRepository;
 import com.bugzero.rarego.boundedContext.payment.out.PaymentTransactionRepository;
 import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.payment.dto.DepositReleaseRequestDto;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +63,19 @@ public class PaymentReleaseDepositUseCase {
         log.info("경매 {} 보증금 환급 완료: {}명", auctionId, depositsToRelease.size());
     }
 
+    // 입찰이 거절된 회원의 선승인 보증금 해제 (HOLD 상태일 때만 처리하므로 중복 호출에 안전)
+    @Transactional
+    public void releaseDeposit(DepositReleaseRequestDto request) {
+        PaymentMember member = paymentSupport.findMemberByPublicId(request.memberPublicId());
+
+        depositRepository.findByMemberIdAndAuctionId(member.getId(), request.auctionId())
+                .filter(deposit -> deposit.getStatus() == DepositStatus.HOLD)
+                .ifPresent(deposit -> {
+                    Wallet wallet = paymentSupport.findWalletByMemberIdForUpdate(member.getId());
+                    transactionRepository.save(releaseDeposit(deposit, wallet));
+                });
+    }
+
     private List<Deposit> findDepositsToRelease(Long auctionId, Long winnerId) {
         if (winnerId == null) {
             // 유찰인 경우: 모든 HOLD 상태 보증금 환급
@@ -60,6 +60,14 @@ public class Deposit extends BaseIdAndTime {
 		this.status = DepositStatus.RELEASED;
 	}
 
+	// 입찰 거절로 해제된 보증금을 재입찰 시 다시 예치
+	public void rehold() {
+		if (this.status != DepositStatus.RELEASED) {
+			throw new CustomException(ErrorType.ALREADY_USED_DEPOSIT);
+		}
+		this.status = DepositStatus.HOLD;
+	}
+
 	public void use() {
 		if (this.status != DepositStatus.HOLD) {
 			throw new CustomException(ErrorType.ALREADY_USED_DEPOSIT);
@@ -6,6 +6,7 @@ import com.bugzero.rarego.global.response.SuccessResponseDto;
 import com.bugzero.rarego.global.response.SuccessType;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldRequestDto;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldResponseDto;
+import com.bugzero.rarego.shared.payment.dto.DepositReleaseRequestDto;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,6 +29,14 @@ public class InternalPaymentController {
         return SuccessResponseDto.from(SuccessType.CREATED, paymentFacade.holdDeposit(request));
     }
 
+    @Operation(summary = "보증금 선승인 해제", description = "입찰이 거절된 회원의 보증금 예치를 해제합니다")
+    @PostMapping("/deposits/release")
+    public SuccessResponseDto<Void> releaseDeposit(
+            @Valid @RequestBody DepositReleaseRequestDto request) {
+        paymentFacade.releaseDeposit(request);
+        return SuccessResponseDto.from(SuccessType.OK);
+    }
+
     @Operation(summary = "환불 처리", description = "운영자가 결제 완료된 건을 환불 처리합니다")
     @PostMapping("/refunds/{auctionId}")
     public SuccessResponseDto<RefundResponseDto> processRefund(
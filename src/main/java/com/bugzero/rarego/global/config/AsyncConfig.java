@@ -1,15 +1,112 @@
 package com.bugzero.rarego.global.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
- * 비동기 처리 활성화
- * SSE 이벤트 브로드캐스트를 위해 필요
+ * 비동기 처리 활성화 및 작업 종류별 전용 Executor
+ * - streamBroadcastExecutor: 입찰 SSE 브로드캐스트 (가득 차면 버림 - 다음 입찰 이벤트가 현재가를 대체)
+ * - streamControlExecutor: 마감 연장/종료/유찰 SSE 브로드캐스트 (가득 차면 호출 스레드에서 실행 - 대체할 이벤트가 없어 누락 불가)
+ * - applicationTaskExecutor: 이름을 지정하지 않은 @Async (큐 상한을 두고 가득 차면 호출 스레드에서 실행)
+ * - 회원 복제본 동기화, 보증금 해제/수수료 징수 리스너는 커밋 직후 같은 스레드에서 동기로 처리 (비동기 대상 아님)
+ * - 모두 ThreadPoolTaskExecutor 이므로 actuator 메트릭(executor.active/queued/completed, name 태그)으로 노출
  */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
-    // @Async 활성화만 하면 됨
-    // 기본 Executor 사용
-}
\ No newline at end of file
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String STREAM_BROADCAST_EXECUTOR = "streamBroadcastExecutor";
+    public static final String STREAM_CONTROL_EXECUTOR = "streamControlExecutor";
+
+    @Value("${async.stream-broadcast.core-size:4}")
+    private int streamBroadcastCoreSize = 4;
+
+    @Value("${async.stream-broadcast.max-size:16}")
+    private int streamBroadcastMaxSize = 16;
+
+    @Value("${async.stream-broadcast.queue-capacity:2000}")
+    private int streamBroadcastQueueCapacity = 2000;
+
+    @Value("${async.stream-broadcast.virtual-threads:false}")
+    private boolean streamBroadcastVirtualThreads = false;
+
+    @Value("${async.stream-control.core-size:2}")
+    private int streamControlCoreSize = 2;
+
+    @Value("${async.stream-control.max-size:4}")
+    private int streamControlMaxSize = 4;
+
+    @Value("${async.stream-control.queue-capacity:500}")
+    private int streamControlQueueCapacity = 500;
+
+    @Value("${async.task.core-size:8}")
+    private int taskCoreSize = 8;
+
+    @Value("${async.task.max-size:8}")
+    private int taskMaxSize = 8;
+
+    @Value("${async.task.queue-capacity:1000}")
+    private int taskQueueCapacity = 1000;
+
+    /**
+     * 이름을 지정하지 않은 @Async 와 기타 비동기 작업용 기본 Executor
+     * (전용 Executor 빈을 등록하면 스프링 부트 기본 applicationTaskExecutor가 생성되지 않으므로 직접 등록)
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        return createExecutor("task-", taskCoreSize, taskMaxSize, taskQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * SSE 브로드캐스트 - virtual-threads=true 면 I/O 대기 위주인 작업을 가상 스레드로 처리
+     */
+    @Bean(name = STREAM_BROADCAST_EXECUTOR)
+    public ThreadPoolTaskExecutor streamBroadcastExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("stream-broadcast-", streamBroadcastCoreSize,
+                streamBroadcastMaxSize, streamBroadcastQueueCapacity, discardWithLog(STREAM_BROADCAST_EXECUTOR));
+        executor.setVirtualThreads(streamBroadcastVirtualThreads);
+        return executor;
+    }
+
+    @Bean(name = STREAM_CONTROL_EXECUTOR)
+    public ThreadPoolTaskExecutor streamControlExecutor() {
+        return createExecutor("stream-control-", streamControlCoreSize, streamControlMaxSize,
+                streamControlQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패 - {}", method.getName(), e);
+    }
+
+    // helper method
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int coreSize, int maxSize,
+                                                  int queueCapacity, RejectedExecutionHandler rejectedHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    private RejectedExecutionHandler discardWithLog(String name) {
+        return (task, pool) -> log.warn("{} 가득 참 - 작업 버림 (active: {}, queued: {})",
+                name, pool.getActiveCount(), pool.getQueue().size());
+    }
+}
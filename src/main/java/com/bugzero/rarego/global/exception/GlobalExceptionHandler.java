@@ -2,6 +2,7 @@ package com.bugzero.rarego.global.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -24,6 +25,17 @@ public class GlobalExceptionHandler {
 			.body(body);
 	}
 
+	// 락 없이 읽은 경매(수정/삭제 등)를 그 사이 입찰이 먼저 갱신한 경우 - 500 대신 재시도 가능한 충돌로 응답
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<ExceptionResponseDto> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+		log.warn("ObjectOptimisticLockingFailureException 발생: {}", e.getMessage());
+		ExceptionResponseDto body = ExceptionResponseDto.from(ErrorType.AUCTION_BID_CONFLICT,
+			"다른 요청과 동시에 변경되어 처리하지 못했습니다. 다시 시도해주세요.");
+		return ResponseEntity
+			.status(ErrorType.AUCTION_BID_CONFLICT.getHttpStatus())
+			.body(body);
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ExceptionResponseDto> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
 		log.error("MethodArgumentNotValidException 발생: {}", e.getMessage());
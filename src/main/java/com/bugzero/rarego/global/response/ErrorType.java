@@ -86,6 +86,12 @@ public enum ErrorType {
     AUCTION_WITHDRAW_PAYMENT_IN_PROGRESS(400, 2512, "결제 진행 중인 경매는 판매 포기할 수 없습니다."),
     AUCTION_WITHDRAW_NOT_INSPECTED(400, 2513, "검수 전 경매는 판매 포기할 수 없습니다."),
     BOOKMARK_UNAUTHORIZED_ACCESS(403, 2514, "요청한 사용자가 북마크의 memberId와 일치하지 않습니다."),
+    AUCTION_BID_CONFLICT(409, 2515, "동시에 입찰이 몰려 처리하지 못했습니다. 다시 시도해주세요."),
+    AUCTION_PROXY_BID_UNSUPPORTED(400, 2516, "현재 입찰 모드에서는 자동 입찰을 사용할 수 없습니다."),
+    AUCTION_BID_RATE_LIMITED(429, 2517, "입찰 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUCTION_IDEMPOTENCY_KEY_REUSED(422, 2518, "이미 다른 입찰 요청에 사용된 멱등 키입니다."),
+    AUCTION_STREAM_NOT_FOUND(404, 2519, "구독 스트림을 찾을 수 없습니다."),
+    AUCTION_STREAM_AUCTION_LIMIT_EXCEEDED(400, 2520, "스트림 1개당 구독 가능한 경매 수를 초과했습니다."),
 
 	// Product (3000 ~ 3999)
 	PRODUCT_NOT_FOUND(404, 3001, "상품이 존재하지 않습니다."),
@@ -45,7 +45,6 @@ public record AuctionDetailResponseDto(
 		String productName,
 		String productDescription,
 		List<String> imageUrls,
-		Bid highestBid,
 		Bid myLastBid,
 		Long currentMemberId
 	) {
@@ -63,13 +62,16 @@ public record AuctionDetailResponseDto(
 			currentPrice,
 			auction.getTickSize());
 
+		// 최고 입찰자는 경매에 기록된 값 사용 (입찰이 없으면 null)
+		Long highestBidderId = auction.getLastBidderId();
+
 		boolean isMyHighestBid = false;
 		boolean hasBid = false;
 		Integer myLastBidPrice = null;
 
 		// 로그인한 사용자라면 실제 값 판별
 		if (currentMemberId != null) {
-			if (highestBid != null && highestBid.getBidderId().equals(currentMemberId)) {
+			if (highestBidderId != null && highestBidderId.equals(currentMemberId)) {
 				isMyHighestBid = true;
 			}
 
@@ -90,9 +92,8 @@ public record AuctionDetailResponseDto(
 			&& !isSeller
 			&& !isMyHighestBid;
 
-		// 첫 입찰인 경우(highestBid == null) 시작가(currentPrice)로 입찰 가능
-		int minBidPrice = (highestBid == null) ? currentPrice : currentPrice + auction.getTickSize();
-		Long highestBidderId = (highestBid != null) ? highestBid.getBidderId() : null;
+		// 첫 입찰인 경우(highestBidderId == null) 시작가(currentPrice)로 입찰 가능
+		int minBidPrice = (highestBidderId == null) ? currentPrice : currentPrice + auction.getTickSize();
 
 		BidInfo bidInfo = new BidInfo(
 			canBid,
@@ -2,10 +2,18 @@ package com.bugzero.rarego.shared.auction.dto;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 public record BidRequestDto(
         @NotNull(message = "입찰 가격은 필수입니다.")
         @Positive(message = "입찰 가격은 양수여야 합니다.")
-        Long bidAmount
+        Long bidAmount,
+
+        // 재시도 시 같은 값을 보내면 이전 결과를 그대로 돌려받음 (선택)
+        @Size(max = 64, message = "멱등 키는 64자 이하여야 합니다.")
+        String idempotencyKey
 ) {
+    public BidRequestDto(Long bidAmount) {
+        this(bidAmount, null);
+    }
 }
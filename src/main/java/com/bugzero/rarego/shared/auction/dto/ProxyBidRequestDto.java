@@ -0,0 +1,13 @@
+package com.bugzero.rarego.shared.auction.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ProxyBidRequestDto(
+        @NotNull(message = "자동 입찰 최대 금액은 필수입니다.")
+        @Positive(message = "자동 입찰 최대 금액은 양수여야 합니다.")
+        @Max(value = Integer.MAX_VALUE, message = "자동 입찰 최대 금액이 허용 범위를 초과했습니다.")
+        Long maxAmount
+) {
+}
@@ -0,0 +1,22 @@
+package com.bugzero.rarego.shared.auction.dto;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.ProxyBid;
+
+public record ProxyBidResponseDto(
+	Long auctionId,
+	String publicId,         // 입찰자 공개 ID(UUID)
+	Long maxAmount,          // 자동 입찰 최대 금액
+	Long currentPrice,       // 경합 해소 후 현재가
+	boolean leading          // 경합 해소 후 최고 입찰자 여부
+) {
+	public static ProxyBidResponseDto from(ProxyBid proxyBid, Auction auction, String publicId) {
+		return new ProxyBidResponseDto(
+			auction.getId(),
+			publicId,
+			Long.valueOf(proxyBid.getMaxAmount()),
+			Long.valueOf(auction.getCurrentPrice()),
+			proxyBid.getBidderId().equals(auction.getLastBidderId())
+		);
+	}
+}
@@ -9,13 +9,19 @@ public record DepositHoldResponseDto(
         Long auctionId,
         int amount,
         String status,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        boolean created) { // 이번 요청으로 새로 Hold 되었는지 (기존 Hold를 돌려준 경우 false)
     public static DepositHoldResponseDto from(Deposit deposit) {
+        return from(deposit, false);
+    }
+
+    public static DepositHoldResponseDto from(Deposit deposit, boolean created) {
         return new DepositHoldResponseDto(
                 deposit.getId(),
                 deposit.getAuctionId(),
                 deposit.getAmount(),
                 deposit.getStatus().name(),
-                deposit.getCreatedAt());
+                deposit.getCreatedAt(),
+                created);
     }
 }
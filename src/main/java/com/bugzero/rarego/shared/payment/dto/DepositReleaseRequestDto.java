@@ -0,0 +1,9 @@
+package com.bugzero.rarego.shared.payment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record DepositReleaseRequestDto(
+        @NotBlank String memberPublicId,
+        @NotNull Long auctionId) {
+}
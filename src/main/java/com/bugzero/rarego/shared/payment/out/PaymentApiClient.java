@@ -13,6 +13,7 @@ import com.bugzero.rarego.global.response.ErrorType;
 import com.bugzero.rarego.global.response.SuccessResponseDto;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldRequestDto;
 import com.bugzero.rarego.shared.payment.dto.DepositHoldResponseDto;
+import com.bugzero.rarego.shared.payment.dto.DepositReleaseRequestDto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
@@ -49,6 +50,21 @@ public class PaymentApiClient {
         return response.data();
     }
 
+    /**
+     * 보증금 선승인 해제 (입찰 거절 시 보상)
+     * HOLD 상태가 아니면 결제 쪽에서 무시하므로 중복 호출해도 안전
+     */
+    public void releaseDeposit(String memberPublicId, Long auctionId) {
+        DepositReleaseRequestDto request = new DepositReleaseRequestDto(memberPublicId, auctionId);
+        restClient.post()
+                .uri("/deposits/release")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, errorHandler::handle)
+                .toBodilessEntity();
+    }
+
     /**
      * 처리 중인 주문이 있는지 확인
      * PROCESSING 상태 주문이 있으면 true
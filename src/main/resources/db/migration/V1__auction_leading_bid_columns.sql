@@ -0,0 +1,20 @@
+-- 경매에 최고 입찰 상태를 보관 (목록/낙찰 처리 시 AUCTION_BID 집계·정렬 조회 대신 사용)
+ALTER TABLE auction_auction
+    ADD COLUMN last_bidder_id BIGINT NULL,
+    ADD COLUMN bid_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN highest_bid_id BIGINT NULL,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 입찰 기록으로 백필 (최고가, 동일 금액이면 먼저 입찰한 건이 최고 입찰)
+UPDATE auction_auction a
+SET bid_count      = (SELECT COUNT(*) FROM auction_bid b WHERE b.auction_id = a.id),
+    highest_bid_id = (SELECT b.id
+                      FROM auction_bid b
+                      WHERE b.auction_id = a.id
+                      ORDER BY b.bid_amount DESC, b.bid_time ASC
+                      LIMIT 1),
+    last_bidder_id = (SELECT b.bidder_id
+                      FROM auction_bid b
+                      WHERE b.auction_id = a.id
+                      ORDER BY b.bid_amount DESC, b.bid_time ASC
+                      LIMIT 1);
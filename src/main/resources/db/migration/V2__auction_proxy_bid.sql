@@ -0,0 +1,13 @@
+-- 자동 입찰 (입찰자가 위임한 최대 금액, 경매별 입찰자당 1건)
+CREATE TABLE auction_proxy_bid
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    deleted    BIT         NOT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    auction_id BIGINT      NOT NULL,
+    bidder_id  BIGINT      NOT NULL,
+    max_amount INT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_proxy_bid_auction_bidder UNIQUE (auction_id, bidder_id)
+) ENGINE = InnoDB;
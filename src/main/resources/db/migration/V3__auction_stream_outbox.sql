@@ -0,0 +1,17 @@
+-- 인스턴스 간 SSE 팬아웃용 스트림 이벤트 아웃박스 (ID 순으로 폴링, 보존 기간이 지나면 삭제)
+CREATE TABLE auction_stream_outbox
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    deleted     BIT          NOT NULL,
+    created_at  DATETIME(6)  NULL,
+    updated_at  DATETIME(6)  NULL,
+    event_type  VARCHAR(20)  NOT NULL,
+    auction_id  BIGINT       NOT NULL,
+    amount      INT          NULL,
+    member_name VARCHAR(255) NULL,
+    event_time  DATETIME(6)  NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 보존 기간 정리 (created_at < cutoff 삭제)
+CREATE INDEX idx_stream_outbox_created_at ON auction_stream_outbox (created_at);
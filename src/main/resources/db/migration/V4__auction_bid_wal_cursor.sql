@@ -0,0 +1,10 @@
+-- 입찰 WAL에서 DB에 반영된 마지막 시퀀스 (재생 시 이미 반영된 레코드를 건너뛰는 기준, 행 1개)
+CREATE TABLE auction_bid_wal_cursor
+(
+    id          BIGINT      NOT NULL,
+    deleted     BIT         NOT NULL,
+    created_at  DATETIME(6) NULL,
+    updated_at  DATETIME(6) NULL,
+    applied_seq BIGINT      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
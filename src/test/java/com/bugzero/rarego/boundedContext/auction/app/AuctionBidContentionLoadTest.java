@@ -0,0 +1,353 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionMemberRepository;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.exception.InternalApiErrorHandler;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.payment.dto.DepositHoldResponseDto;
+import com.bugzero.rarego.shared.payment.out.PaymentApiClient;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소수의 인기 경매에 동시 입찰이 몰리는 상황의 부하 테스트 (기본 test 태스크에서 제외, ./gradlew loadTest)
+ * - 가상 스레드로 AuctionFacade.createBid를 동시에 호출하고 처리량, 지연(p50/p99/p999), 경매 락 대기 시간,
+ *   거절 사유별 비율, Hikari 커넥션 대기 스레드 수를 로그로 출력
+ * - 결제 컨텍스트는 HTTP 대신 프로세스 내 대역(InProcessPaymentApiClient)으로 대체
+ * - 입찰 경로 비교: ./gradlew loadTest -PbidMode=SEQUENCER (기본 LOCK = findByIdWithLock)
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "auction.bid.rate-limit.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "logging.level.org.hibernate.SQL=warn"
+})
+@ActiveProfiles("test")
+@Slf4j
+class AuctionBidContentionLoadTest {
+
+    private static final int AUCTIONS = Integer.getInteger("load.auctions", 4);
+    private static final int BIDDERS = Integer.getInteger("load.bidders", 200);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 4000);
+    private static final int START_PRICE = 10_000;
+
+    // 결제 대역의 보증금 Hold 지연 (실제 내부 HTTP 호출 비용 근사)
+    private static final long PAYMENT_LATENCY_MICROS = Long.getLong("load.payment-latency-micros", 2_000);
+
+    private static final LongAdder LOCK_WAIT_NANOS = new LongAdder();
+    private static final LongAdder LOCK_ACQUISITIONS = new LongAdder();
+
+    @Autowired
+    private AuctionFacade auctionFacade;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private AuctionMemberRepository auctionMemberRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("인기 경매 동시 입찰 부하 - 처리량/지연/락 대기/거절 비율/커넥션 대기 측정")
+    void concurrent_bids_on_hot_auctions() throws Exception {
+        // given
+        Long sellerId = 1L;
+        List<AuctionMember> bidders = createMembers(sellerId);
+        List<Long> auctionIds = createAuctions(sellerId);
+        Map<Long, AtomicInteger> tickets = new ConcurrentHashMap<>();
+        auctionIds.forEach(id -> tickets.put(id, new AtomicInteger()));
+        int tickSize = auctionRepository.findById(auctionIds.getFirst()).orElseThrow().getTickSize();
+
+        long[] latencies = new long[REQUESTS];
+        LongAdder accepted = new LongAdder();
+        Map<Long, Integer> acceptedMax = new ConcurrentHashMap<>();
+        Map<Long, LongAdder> acceptedCount = new ConcurrentHashMap<>();
+        Map<ErrorType, LongAdder> rejected = new EnumMap<>(ErrorType.class);
+        Arrays.stream(ErrorType.values()).forEach(type -> rejected.put(type, new LongAdder()));
+        LongAdder unexpected = new LongAdder();
+
+        LOCK_WAIT_NANOS.reset();
+        LOCK_ACQUISITIONS.reset();
+        PoolSampler poolSampler = new PoolSampler(dataSource);
+
+        // when
+        CountDownLatch ready = new CountDownLatch(1);
+        long startedAt;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    Long auctionId = auctionIds.get(random.nextInt(auctionIds.size()));
+                    AuctionMember bidder = bidders.get(random.nextInt(bidders.size()));
+                    // 경매별 번호표 순으로 금액을 올려 도착 순서가 뒤바뀌면 금액 부족으로 거절되도록 함
+                    int bidAmount = START_PRICE + tickSize * tickets.get(auctionId).incrementAndGet();
+
+                    awaitQuietly(ready);
+                    long begin = System.nanoTime();
+                    try {
+                        auctionFacade.createBid(auctionId, bidder.getPublicId(), bidAmount);
+                        accepted.increment();
+                        acceptedMax.merge(auctionId, bidAmount, Math::max);
+                        acceptedCount.computeIfAbsent(auctionId, id -> new LongAdder()).increment();
+                    } catch (CustomException e) {
+                        rejected.get(e.getErrorType()).increment();
+                    } catch (RuntimeException e) {
+                        unexpected.increment();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                });
+            }
+
+            poolSampler.start();
+            startedAt = System.nanoTime();
+            ready.countDown();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        poolSampler.stop();
+
+        // then
+        report(elapsedNanos, latencies, accepted.sum(), rejected, unexpected.sum(), poolSampler);
+
+        assertThat(accepted.sum()).isPositive();
+        assertThat(unexpected.sum()).isZero();
+        // 동시 입찰 후에도 경매별 현재가/입찰 수가 승인된 입찰과 일치해야 함
+        for (Long auctionId : auctionIds) {
+            Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+            LongAdder count = acceptedCount.get(auctionId);
+            assertThat(auction.getBidCount()).isEqualTo(count == null ? 0 : count.intValue());
+            if (count != null) {
+                assertThat(auction.getCurrentPrice()).isEqualTo(acceptedMax.get(auctionId));
+            }
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void report(long elapsedNanos, long[] latencies, long accepted, Map<ErrorType, LongAdder> rejected,
+                        long unexpected, PoolSampler poolSampler) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long lockAcquisitions = LOCK_ACQUISITIONS.sum();
+
+        StringBuilder report = new StringBuilder()
+                .append("\n===== 입찰 경합 부하 테스트 (mode: ")
+                .append(System.getProperty("auction.bid.mode", "LOCK")).append(") =====\n")
+                .append(String.format("요청: %d건 / 경매: %d개 / 입찰자: %d명 / 소요: %.2fs%n",
+                        REQUESTS, AUCTIONS, BIDDERS, elapsedSeconds))
+                .append(String.format("처리량: %.1f req/s, 승인 %.1f bids/s%n",
+                        REQUESTS / elapsedSeconds, accepted / elapsedSeconds))
+                .append(String.format("지연: p50 %.2fms / p99 %.2fms / p999 %.2fms / max %.2fms%n",
+                        millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                        millis(percentile(sorted, 0.999)), millis(sorted[sorted.length - 1])))
+                .append(String.format("경매 락 대기: 총 %.1fms / 평균 %.3fms (%d회)%n",
+                        millis(LOCK_WAIT_NANOS.sum()),
+                        lockAcquisitions == 0 ? 0.0 : millis(LOCK_WAIT_NANOS.sum() / lockAcquisitions),
+                        lockAcquisitions))
+                .append(String.format("승인: %d건 (%.1f%%)%n", accepted, ratio(accepted)));
+
+        rejected.forEach((type, count) -> {
+            if (count.sum() > 0) {
+                report.append(String.format("거절 %s: %d건 (%.1f%%)%n", type, count.sum(), ratio(count.sum())));
+            }
+        });
+        if (unexpected > 0) {
+            report.append(String.format("예상치 못한 오류: %d건%n", unexpected));
+        }
+        report.append(String.format("Hikari 커넥션 대기 스레드: 최대 %d / 평균 %.1f (표본 %d)%n",
+                poolSampler.maxPending, poolSampler.averagePending(), poolSampler.samples));
+
+        log.info("\n{}", report);
+    }
+
+    private List<AuctionMember> createMembers(Long sellerId) {
+        List<AuctionMember> members = new ArrayList<>();
+        for (long id = sellerId; id <= sellerId + BIDDERS; id++) {
+            members.add(AuctionMember.builder()
+                    .id(id)
+                    .publicId(UUID.randomUUID().toString())
+                    .email("load" + id + "@test.com")
+                    .nickname("load" + id)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        auctionMemberRepository.saveAll(members);
+        // 판매자는 입찰자에서 제외
+        return members.subList(1, members.size());
+    }
+
+    private List<Long> createAuctions(Long sellerId) {
+        List<Long> auctionIds = new ArrayList<>();
+        for (int i = 0; i < AUCTIONS; i++) {
+            Auction auction = Auction.builder()
+                    .productId(1_000L + i)
+                    .sellerId(sellerId)
+                    .startTime(LocalDateTime.now().minusHours(1))
+                    .endTime(LocalDateTime.now().plusHours(1))
+                    .durationDays(1)
+                    .startPrice(START_PRICE)
+                    .build();
+            auction.forceStartForTest();
+            auctionIds.add(auctionRepository.save(auction).getId());
+        }
+        return auctionIds;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double ratio(long count) {
+        return count * 100.0 / REQUESTS;
+    }
+
+    /**
+     * Hikari 커넥션 대기 스레드 수를 1ms 간격으로 표본 추출
+     */
+    private static final class PoolSampler {
+
+        private final HikariDataSource hikari;
+        private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        private volatile int maxPending;
+        private volatile long totalPending;
+        private volatile long samples;
+
+        PoolSampler(DataSource dataSource) throws SQLException {
+            this.hikari = dataSource.unwrap(HikariDataSource.class);
+        }
+
+        void start() {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            sampler.scheduleAtFixedRate(() -> {
+                int pending = pool.getThreadsAwaitingConnection();
+                maxPending = Math.max(maxPending, pending);
+                totalPending += pending;
+                samples++;
+            }, 0, 1, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() throws InterruptedException {
+            sampler.shutdown();
+            sampler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        double averagePending() {
+            return samples == 0 ? 0.0 : (double) totalPending / samples;
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean
+        @Primary
+        PaymentApiClient inProcessPaymentApiClient(InternalApiErrorHandler errorHandler) {
+            return new InProcessPaymentApiClient(errorHandler);
+        }
+
+        // 경매 행 비관적 락(findByIdWithLock) 획득까지 걸린 시간 측정
+        @Bean
+        static BeanPostProcessor auctionLockWaitRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof AuctionSupport)) {
+                        return bean;
+                    }
+                    ProxyFactory proxyFactory = new ProxyFactory(bean);
+                    proxyFactory.setProxyTargetClass(true);
+                    proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                        if (!invocation.getMethod().getName().equals("getAuctionWithLock")) {
+                            return invocation.proceed();
+                        }
+                        long begin = System.nanoTime();
+                        try {
+                            return invocation.proceed();
+                        } finally {
+                            LOCK_WAIT_NANOS.add(System.nanoTime() - begin);
+                            LOCK_ACQUISITIONS.increment();
+                        }
+                    });
+                    return proxyFactory.getProxy();
+                }
+            };
+        }
+    }
+
+    /**
+     * 결제 컨텍스트 대역 - 보증금 Hold/해제를 HTTP 없이 고정 지연으로 응답
+     */
+    static class InProcessPaymentApiClient extends PaymentApiClient {
+
+        private final AtomicInteger depositIds = new AtomicInteger();
+
+        InProcessPaymentApiClient(InternalApiErrorHandler errorHandler) {
+            super("http://localhost", errorHandler);
+        }
+
+        @Override
+        public DepositHoldResponseDto holdDeposit(int amount, String memberPublicId, Long auctionId) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(PAYMENT_LATENCY_MICROS));
+            return new DepositHoldResponseDto((long) depositIds.incrementAndGet(), auctionId, amount, "HOLD",
+                    LocalDateTime.now(), true);
+        }
+
+        @Override
+        public void releaseDeposit(String memberPublicId, Long auctionId) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(PAYMENT_LATENCY_MICROS));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.auction.dto.BidResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuctionBidIdempotencyCacheTest {
+
+    private final AuctionBidIdempotencyCache cache = new AuctionBidIdempotencyCache();
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Long AUCTION_ID = 1L;
+    private final String MEMBER_PUBLIC_ID = "member-uuid";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "clock", (LongSupplier) now::get);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 입찰을 다시 실행하지 않고 이전 결과 반환")
+    void execute_reuses_result() {
+        // given
+        BidResponseDto first = cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // when
+        BidResponseDto retried = cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // then
+        assertThat(retried).isSameAs(first);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 금액을 보내면 거절")
+    void execute_rejects_reused_key() {
+        // given
+        cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // when & then
+        assertThatThrownBy(() -> cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 12000, bid(12000)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않아 같은 키로 다시 실행")
+    void execute_does_not_cache_failure() {
+        // given
+        assertThatThrownBy(() -> cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, () -> {
+            throw new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW);
+        })).isInstanceOf(CustomException.class);
+
+        // when
+        cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 같은 키라도 다시 실행")
+    void execute_after_ttl() {
+        // given
+        cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(301));
+        cache.execute(MEMBER_PUBLIC_ID, AUCTION_ID, "key", 10000, bid(10000));
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    private Supplier<BidResponseDto> bid(int amount) {
+        return () -> {
+            calls.incrementAndGet();
+            return new BidResponseDto(1L, AUCTION_ID, MEMBER_PUBLIC_ID, LocalDateTime.now(), (long) amount, (long) amount);
+        };
+    }
+}
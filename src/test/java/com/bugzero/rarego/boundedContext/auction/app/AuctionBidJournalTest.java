@@ -0,0 +1,374 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.auction.domain.BidWalCursor;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionBidCreatedEvent;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidBulkRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidWalCursorRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidWriteAheadLog;
+import com.bugzero.rarego.boundedContext.auction.out.BidWriteAheadLog.LoggedBid;
+import com.bugzero.rarego.global.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBidJournalTest {
+
+    @InjectMocks
+    private AuctionBidJournal bidJournal;
+
+    @Mock
+    private BidBulkRepository bidBulkRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BidWriteAheadLog writeAheadLog;
+
+    @Mock
+    private AuctionSoftCloseSupport softCloseSupport;
+
+    @Mock
+    private BidWalCursorRepository walCursorRepository;
+
+    private final Long AUCTION_ID = 1L;
+
+    @AfterEach
+    void tearDown() {
+        bidJournal.stop();
+    }
+
+    @Test
+    @DisplayName("그룹 커밋: 모인 입찰을 한 번에 저장하고 커밋 후 bidId로 응답")
+    void flush_batch() throws Exception {
+        // given
+        Auction auction = createAuction();
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(11L, 12L));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID))).willReturn(List.of(auction));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 101L, 11000, 2)).willReturn(1);
+
+        // flush 루프 시작 전에 두 입찰을 쌓아 하나의 배치로 묶이게 함
+        CompletableFuture<Long> first = bidJournal.append(createBid(100L, 10000));
+        CompletableFuture<Long> second = bidJournal.append(createBid(101L, 11000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(11L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(12L);
+
+        verify(bidBulkRepository, times(1)).insertAll(anyList());
+        verify(auctionRepository).updateHighestBidId(AUCTION_ID, 12L);
+        verify(eventPublisher, times(2)).publishEvent(any(AuctionBidCreatedEvent.class));
+        assertThat(auction.getCurrentPrice()).isEqualTo(11000);
+        assertThat(auction.getLastBidderId()).isEqualTo(101L);
+        assertThat(auction.getHighestBidId()).isEqualTo(12L);
+        assertThat(auction.getBidCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("그룹 커밋 실패: 배치 내 모든 입찰이 실패로 완료")
+    void flush_fail() {
+        // given
+        given(transactionTemplate.execute(any())).willThrow(new IllegalStateException("db down"));
+
+        CompletableFuture<Long> ack = bidJournal.append(createBid(100L, 10000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThatThrownBy(() -> ack.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("저장 시점에 진행 중이 아닌 경매의 입찰은 저장하지 않고 실패로 완료, 나머지는 그대로 커밋")
+    void flush_skipsClosedAuction() throws Exception {
+        // given
+        Long endedAuctionId = 2L;
+        Auction auction = createAuction();
+        Auction ended = createAuction();
+        ReflectionTestUtils.setField(ended, "id", endedAuctionId);
+        ReflectionTestUtils.setField(ended, "status", AuctionStatus.ENDED);
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID, endedAuctionId))).willReturn(List.of(auction, ended));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 101L, 11000, 1)).willReturn(1);
+        given(auctionRepository.applyJournaledBids(endedAuctionId, 100L, 10000, 1)).willReturn(0);
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(12L));
+
+        Bid rejectedBid = Bid.builder().auctionId(endedAuctionId).bidderId(100L).bidAmount(10000).build();
+        CompletableFuture<Long> rejected = bidJournal.append(rejectedBid);
+        CompletableFuture<Long> stored = bidJournal.append(createBid(101L, 11000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThat(stored.get(5, TimeUnit.SECONDS)).isEqualTo(12L);
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(CustomException.class);
+        verify(bidBulkRepository).insertAll(argThat(bids -> bids.size() == 1 && bids.getFirst().getBidderId().equals(101L)));
+        verify(eventPublisher, times(1)).publishEvent(any(AuctionBidCreatedEvent.class));
+        assertThat(ended.hasBids()).isFalse();
+        assertThat(auction.getHighestBidId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("경매별 조건부 반영: 읽은 뒤 상태가 바뀐 경매의 입찰만 실패하고 같은 배치의 다른 경매는 커밋")
+    void flush_isolatesConflictPerAuction() throws Exception {
+        // given - 두 경매 모두 진행 중으로 읽혔지만 반영 직전에 다른 경매가 종료 처리된 상황
+        Long otherAuctionId = 2L;
+        Auction auction = createAuction();
+        Auction other = createAuction();
+        ReflectionTestUtils.setField(other, "id", otherAuctionId);
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID, otherAuctionId))).willReturn(List.of(auction, other));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 101L, 11000, 1)).willReturn(1);
+        given(auctionRepository.applyJournaledBids(otherAuctionId, 100L, 10000, 1)).willReturn(0);
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(12L));
+        given(softCloseSupport.extend(any(Auction.class), any(LocalDateTime.class))).willReturn(true);
+
+        Bid conflictedBid = Bid.builder().auctionId(otherAuctionId).bidderId(100L).bidAmount(10000).build();
+        CompletableFuture<Long> conflicted = bidJournal.append(conflictedBid);
+        CompletableFuture<Long> stored = bidJournal.append(createBid(101L, 11000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThat(stored.get(5, TimeUnit.SECONDS)).isEqualTo(12L);
+        assertThatThrownBy(() -> conflicted.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(CustomException.class);
+        verify(bidBulkRepository).insertAll(argThat(bids -> bids.size() == 1 && bids.getFirst().getBidderId().equals(101L)));
+        verify(auctionRepository).updateHighestBidId(AUCTION_ID, 12L);
+        verify(auctionRepository).extendEndTime(AUCTION_ID, auction.getEndTime());
+        verify(auctionRepository, never()).updateHighestBidId(otherAuctionId, 12L);
+        assertThat(other.hasBids()).isFalse();
+    }
+
+    @Test
+    @DisplayName("WAL 모드 커밋 실패: 이미 응답한 입찰이므로 실패로 돌려보내지 않고 같은 배치를 다시 기록")
+    void flush_walMode_retries() throws Exception {
+        // given
+        Auction auction = createAuction();
+        BidWalCursor cursor = BidWalCursor.create();
+        given(writeAheadLog.isEnabled()).willReturn(true);
+        given(writeAheadLog.append(any(Bid.class))).willReturn(1L);
+        given(walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)).willReturn(Optional.of(cursor));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .willThrow(new IllegalStateException("db down"))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(11L));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID))).willReturn(List.of(auction));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 100L, 10000, 1)).willReturn(1);
+        bidJournal.recover();
+
+        CompletableFuture<Long> ack = bidJournal.append(createBid(100L, 10000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThat(ack.get(5, TimeUnit.SECONDS)).isEqualTo(11L);
+        assertThat(cursor.getAppliedSeq()).isEqualTo(1L);
+        verify(writeAheadLog).checkpoint(1L);
+    }
+
+    @Test
+    @DisplayName("WAL 모드 재시도: DB에 이미 반영된 시퀀스는 다시 저장하지 않음")
+    void flush_walMode_skipsAppliedSeq() throws Exception {
+        // given - 직전 시도가 커밋되었지만 응답을 받지 못한 상황
+        Auction auction = createAuction();
+        BidWalCursor cursor = BidWalCursor.create();
+        cursor.advance(1L);
+        given(writeAheadLog.isEnabled()).willReturn(true);
+        given(writeAheadLog.append(any(Bid.class))).willReturn(1L, 2L);
+        given(walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)).willReturn(Optional.of(cursor));
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(12L));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID))).willReturn(List.of(auction));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 101L, 11000, 1)).willReturn(1);
+        bidJournal.recover();
+
+        CompletableFuture<Long> applied = bidJournal.append(createBid(100L, 10000));
+        CompletableFuture<Long> pending = bidJournal.append(createBid(101L, 11000));
+
+        // when
+        bidJournal.start();
+
+        // then
+        assertThat(applied.get(5, TimeUnit.SECONDS)).isNull();
+        assertThat(pending.get(5, TimeUnit.SECONDS)).isEqualTo(12L);
+        verify(bidBulkRepository).insertAll(argThat(bids -> bids.size() == 1 && bids.getFirst().getBidderId().equals(101L)));
+        assertThat(auction.getBidCount()).isEqualTo(1);
+        assertThat(cursor.getAppliedSeq()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("WAL 모드: 복구 중에 들어온 입찰은 복구가 끝나 로그 위치가 정해진 뒤에 기록")
+    void append_waitsForRecovery() throws Exception {
+        // given - 복구 트랜잭션이 진행 중인 상황
+        BidWalCursor cursor = BidWalCursor.create();
+        cursor.advance(5L);
+        CountDownLatch recovering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(writeAheadLog.isEnabled()).willReturn(true);
+        given(writeAheadLog.append(any(Bid.class))).willReturn(6L);
+        given(walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)).willReturn(Optional.of(cursor));
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            recovering.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+        });
+
+        CompletableFuture<Integer> recovery = CompletableFuture.supplyAsync(bidJournal::recover);
+        recovering.await(5, TimeUnit.SECONDS);
+
+        // when
+        CompletableFuture<CompletableFuture<Long>> appending = CompletableFuture.supplyAsync(
+                () -> bidJournal.append(createBid(100L, 10000)));
+
+        // then - 복구가 끝나기 전에는 WAL에 기록하지 않음
+        Thread.sleep(100);
+        assertThat(appending).isNotDone();
+        verify(writeAheadLog, never()).append(any(Bid.class));
+
+        release.countDown();
+        recovery.get(5, TimeUnit.SECONDS);
+        appending.get(5, TimeUnit.SECONDS);
+
+        InOrder inOrder = inOrder(writeAheadLog);
+        inOrder.verify(writeAheadLog).continueAfter(5L);
+        inOrder.verify(writeAheadLog).append(any(Bid.class));
+    }
+
+    @Test
+    @DisplayName("WAL 복구: DB에 반영된 시퀀스 이후의 레코드만 다시 저장")
+    void recover_missingBids() {
+        // given
+        Auction auction = createAuction();
+        auction.applyBid(11L, 100L, 10000);
+        BidWalCursor cursor = BidWalCursor.create();
+        cursor.advance(1L);
+
+        LocalDateTime bidTime = LocalDateTime.now();
+        given(writeAheadLog.isEnabled()).willReturn(true);
+        given(writeAheadLog.readAfterCheckpoint()).willReturn(List.of(
+                new LoggedBid(1L, AUCTION_ID, 100L, 10000, bidTime),
+                new LoggedBid(2L, AUCTION_ID, 101L, 11000, bidTime)
+        ));
+        given(walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)).willReturn(Optional.of(cursor));
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID))).willReturn(List.of(auction));
+        given(auctionRepository.applyJournaledBids(AUCTION_ID, 101L, 11000, 1)).willReturn(1);
+        given(bidBulkRepository.insertAll(anyList())).willReturn(List.of(12L));
+
+        // when
+        int recovered = bidJournal.recover();
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(auction.getCurrentPrice()).isEqualTo(11000);
+        assertThat(auction.getHighestBidId()).isEqualTo(12L);
+        assertThat(cursor.getAppliedSeq()).isEqualTo(2L);
+        verify(writeAheadLog).continueAfter(1L);
+        verify(writeAheadLog).checkpoint(2L);
+    }
+
+    @Test
+    @DisplayName("WAL 복구: 진행 중이 아닌 경매의 입찰은 반영하지 않고 시퀀스만 넘김")
+    void recover_skipsEndedAuction() {
+        // given
+        Auction auction = createAuction();
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.ENDED);
+        BidWalCursor cursor = BidWalCursor.create();
+
+        given(writeAheadLog.isEnabled()).willReturn(true);
+        given(writeAheadLog.readAfterCheckpoint()).willReturn(List.of(
+                new LoggedBid(1L, AUCTION_ID, 100L, 10000, LocalDateTime.now())
+        ));
+        given(walCursorRepository.findByIdWithLock(BidWalCursor.SINGLETON_ID)).willReturn(Optional.of(cursor));
+        given(transactionTemplate.execute(any())).willAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(auctionRepository.findAllById(List.of(AUCTION_ID))).willReturn(List.of(auction));
+
+        // when
+        int recovered = bidJournal.recover();
+
+        // then
+        assertThat(recovered).isZero();
+        assertThat(auction.hasBids()).isFalse();
+        assertThat(cursor.getAppliedSeq()).isEqualTo(1L);
+        verify(bidBulkRepository, never()).insertAll(anyList());
+        verify(writeAheadLog).checkpoint(1L);
+    }
+
+    private Bid createBid(Long bidderId, int amount) {
+        return Bid.builder()
+                .auctionId(AUCTION_ID)
+                .bidderId(bidderId)
+                .bidAmount(amount)
+                .build();
+    }
+
+    private Auction createAuction() {
+        Auction auction = Auction.builder()
+                .productId(50L)
+                .sellerId(200L)
+                .startPrice(10000)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .durationDays(1)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        return auction;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuctionBidRateLimiterTest {
+
+    private final AuctionBidRateLimiter rateLimiter = new AuctionBidRateLimiter();
+    private final AtomicLong now = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rateLimiter, "clock", (LongSupplier) now::get);
+    }
+
+    @Test
+    @DisplayName("회원 버킷: 순간 허용량을 넘으면 429, 시간이 지나면 다시 허용")
+    void acquire_member_limit_and_refill() {
+        // given (기본값: 5건 버스트, 초당 2건 회복)
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(1L, "member");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(1L, "member"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_BID_RATE_LIMITED);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThatCode(() -> rateLimiter.acquire(1L, "member")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("경매 버킷: 서로 다른 회원이라도 경매별 허용량을 넘으면 429")
+    void acquire_auction_limit() {
+        // given
+        ReflectionTestUtils.setField(rateLimiter, "auctionCapacity", 3);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire(1L, "member-" + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(1L, "member-3"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_BID_RATE_LIMITED);
+
+        // 다른 경매에는 영향 없음
+        assertThatCode(() -> rateLimiter.acquire(2L, "member-3")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("키 수가 한도를 넘어도 유휴 버킷 정리는 정리 주기마다 한 번만 수행")
+    void evictIdle_once_per_interval() {
+        // given
+        ReflectionTestUtils.setField(rateLimiter, "maxKeys", 1);
+        rateLimiter.acquire(1L, "member-0");
+        rateLimiter.acquire(1L, "member-1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10)); // 모든 버킷이 가득 찬(유휴) 상태
+
+        // when - 첫 정리 후 같은 주기 안의 요청은 정리하지 않음
+        rateLimiter.acquire(1L, "member-2");
+        rateLimiter.acquire(1L, "member-3");
+        rateLimiter.acquire(1L, "member-4");
+
+        // then
+        assertThat(memberBuckets()).containsOnlyKeys("member-2", "member-3", "member-4");
+
+        // when - 주기가 지난 뒤에는 다시 정리
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.acquire(1L, "member-5");
+
+        // then
+        assertThat(memberBuckets()).containsOnlyKeys("member-5");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, AtomicLong> memberBuckets() {
+        return (Map<String, AtomicLong>) ReflectionTestUtils.getField(rateLimiter, "memberBuckets");
+    }
+}
@@ -0,0 +1,234 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import com.bugzero.rarego.shared.auction.dto.BidResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionBidSequencerTest {
+
+    @InjectMocks
+    private AuctionBidSequencer sequencer;
+
+    @Mock
+    private AuctionSupport support;
+
+    @Mock
+    private AuctionCreateBidUseCase auctionCreateBidUseCase;
+
+    @Mock
+    private AuctionBidJournal bidJournal;
+
+    @Mock
+    private AuctionSoftCloseSupport softCloseSupport;
+
+    private final Long AUCTION_ID = 1L;
+    private final Long BIDDER_ID = 100L;
+    private final String BIDDER_PUBLIC_ID = "bidder-uuid";
+
+    @AfterEach
+    void tearDown() {
+        sequencer.shutdown();
+    }
+
+    @Test
+    @DisplayName("시퀀서 입찰 성공: 인메모리 검증 후 저널 커밋이 끝나면 bidId와 함께 응답")
+    void submit_success() {
+        // given
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.append(any(Bid.class))).willReturn(CompletableFuture.completedFuture(77L));
+
+        // when
+        BidResponseDto result = sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000);
+        sequencer.drain(AUCTION_ID);
+
+        // then
+        assertThat(result.bidId()).isEqualTo(77L);
+        assertThat(result.bidAmount()).isEqualTo(10000L);
+        assertThat(result.updatedCurrentPrice()).isEqualTo(10000L);
+        assertThat(sequencer.getActiveLaneCount()).isZero();
+        verify(auctionCreateBidUseCase).confirmDeposit(AUCTION_ID, BIDDER_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("시퀀서 입찰 실패: 저널 커밋 실패 시 에러 응답 후 보증금 보상")
+    void submit_fail_journal() {
+        // given
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.append(any(Bid.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+
+        // when & then
+        assertThatThrownBy(() -> sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INTERNAL_SERVER_ERROR);
+
+        sequencer.drain(AUCTION_ID);
+        verify(auctionCreateBidUseCase).compensateDeposit(AUCTION_ID, BIDDER_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("WAL 모드: 응답한 입찰의 커밋이 실패해도 DB에서 다시 적재하지 않고 인메모리 상태와 보증금 유지")
+    void submit_walMode_keepsStateOnCommitFailure() {
+        // given
+        AuctionMember otherBidder = AuctionMember.builder().publicId("other-uuid").build();
+        ReflectionTestUtils.setField(otherBidder, "id", 101L);
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.getPublicMember("other-uuid")).willReturn(otherBidder);
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.isWriteAheadLogged()).willReturn(true);
+        given(bidJournal.append(any(Bid.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        BidResponseDto first = sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000);
+        BidResponseDto second = sequencer.submit(AUCTION_ID, "other-uuid", 11000);
+        sequencer.drain(AUCTION_ID);
+
+        // then - 두 번째 입찰도 첫 입찰을 반영한 인메모리 상태에서 검증됨
+        assertThat(first.updatedCurrentPrice()).isEqualTo(10000L);
+        assertThat(second.updatedCurrentPrice()).isEqualTo(11000L);
+        verify(support, times(1)).findAuctionById(AUCTION_ID);
+        verify(auctionCreateBidUseCase, never()).compensateDeposit(any(), any());
+        verify(auctionCreateBidUseCase, times(2)).confirmDeposit(eq(AUCTION_ID), any());
+    }
+
+    @Test
+    @DisplayName("시퀀서 입찰 실패: 연속 입찰은 DB 재조회 없이 인메모리 상태로 거절")
+    void submit_fail_consecutive_bid() {
+        // given
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.append(any(Bid.class))).willReturn(CompletableFuture.completedFuture(77L));
+
+        sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000);
+
+        // when & then
+        assertThatThrownBy(() -> sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 20000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_ALREADY_HIGHEST_BIDDER);
+
+        verify(support, times(1)).findAuctionById(AUCTION_ID);
+
+        // 보증금 보상은 앞선 입찰 저장 이후 저장 체인에서 판단
+        sequencer.drain(AUCTION_ID);
+        verify(auctionCreateBidUseCase).compensateDeposit(AUCTION_ID, BIDDER_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("저장 시점에 경매가 종료되어 저널이 거절하면 그 사유로 응답하고 레인을 다시 적재")
+    void submit_fail_auctionClosedAtCommit() {
+        // given
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.append(any(Bid.class))).willReturn(CompletableFuture.failedFuture(
+                new CustomException(ErrorType.AUCTION_NOT_IN_PROGRESS)));
+
+        // when & then
+        assertThatThrownBy(() -> sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_IN_PROGRESS);
+
+        sequencer.drain(AUCTION_ID);
+        verify(auctionCreateBidUseCase).compensateDeposit(AUCTION_ID, BIDDER_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("경매 상태 변경으로 레인을 제거하면 다음 입찰은 DB의 최신 상태로 검증")
+    void evict_reloadsFromDb() {
+        // given
+        Auction ended = createAuction();
+        ReflectionTestUtils.setField(ended, "status", AuctionStatus.ENDED);
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction(), ended);
+        given(bidJournal.append(any(Bid.class))).willReturn(CompletableFuture.completedFuture(77L));
+        sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000);
+
+        // when
+        sequencer.evict(AUCTION_ID);
+
+        // then
+        assertThat(sequencer.getActiveLaneCount()).isZero();
+        assertThatThrownBy(() -> sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 20000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_IN_PROGRESS);
+        verify(support, times(2)).findAuctionById(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("유휴 레인 정리: 한동안 입찰이 없고 저장 대기 중인 입찰이 없는 레인만 제거")
+    void evictIdleLanes() {
+        // given
+        given(support.getPublicMember(BIDDER_PUBLIC_ID)).willReturn(createBidder());
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction());
+        given(bidJournal.append(any(Bid.class))).willReturn(CompletableFuture.completedFuture(77L));
+        sequencer.submit(AUCTION_ID, BIDDER_PUBLIC_ID, 10000);
+
+        // when - 아직 유휴 시간이 지나지 않음
+        sequencer.evictIdleLanes();
+
+        // then
+        assertThat(sequencer.getActiveLaneCount()).isEqualTo(1);
+
+        // when
+        ReflectionTestUtils.setField(sequencer, "idleTimeoutSeconds", 0L);
+        await().untilAsserted(() -> {
+            sequencer.evictIdleLanes();
+            assertThat(sequencer.getActiveLaneCount()).isZero();
+        });
+    }
+
+    private AuctionMember createBidder() {
+        AuctionMember bidder = AuctionMember.builder()
+                .publicId(BIDDER_PUBLIC_ID)
+                .build();
+        ReflectionTestUtils.setField(bidder, "id", BIDDER_ID);
+        return bidder;
+    }
+
+    private Auction createAuction() {
+        Auction auction = Auction.builder()
+                .productId(50L)
+                .sellerId(200L)
+                .startPrice(10000)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .durationDays(1)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        return auction;
+    }
+}
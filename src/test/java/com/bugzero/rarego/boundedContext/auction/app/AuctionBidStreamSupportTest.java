@@ -1,20 +1,41 @@
 package com.bugzero.rarego.boundedContext.auction.app;
 
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamEventType;
 import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionBidEventDto;
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionCompleteEventDto;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class AuctionBidStreamSupportTest {
 
@@ -67,6 +88,194 @@ class AuctionBidStreamSupportTest {
         emitter2.complete();
     }
 
+    @Test
+    @DisplayName("구독자 수와 무관하게 브로드캐스트 1회당 직렬화는 1번")
+    void broadcastBid_SerializesOnce() throws Exception {
+        // given
+        ObjectMapper spyMapper = spy(objectMapper);
+        AuctionBidStreamSupport spySupport = new AuctionBidStreamSupport(spyMapper);
+        Long auctionId = 1L;
+        SseEmitter emitter1 = spySupport.subscribe(auctionId, 100_000);
+        SseEmitter emitter2 = spySupport.subscribe(auctionId, 100_000);
+        SseEmitter emitter3 = spySupport.subscribe(auctionId, 100_000);
+        clearInvocations(spyMapper);
+
+        // when
+        spySupport.broadcastBid(auctionId, 110_000, "김철수", LocalDateTime.now());
+
+        // then
+        verify(spyMapper, times(1)).writeValueAsString(any(AuctionBidEventDto.class));
+
+        // 정리
+        emitter1.complete();
+        emitter2.complete();
+        emitter3.complete();
+        spySupport.stopHeartbeat();
+    }
+
+    @Test
+    @DisplayName("병합 window 안의 입찰은 최신 1건만 window 끝에 전송")
+    void broadcastBid_CoalescesWithinWindow() throws Exception {
+        // given
+        ObjectMapper spyMapper = spy(objectMapper);
+        AuctionBidStreamSupport spySupport = new AuctionBidStreamSupport(spyMapper);
+        ReflectionTestUtils.setField(spySupport, "coalesceWindowMs", 200L);
+        Long auctionId = 1L;
+        SseEmitter emitter = spySupport.subscribe(auctionId, 100_000);
+        clearInvocations(spyMapper);
+
+        // when
+        spySupport.broadcastBid(auctionId, 110_000, "김철수", LocalDateTime.now()); // 즉시 전송
+        spySupport.broadcastBid(auctionId, 120_000, "이영희", LocalDateTime.now());
+        spySupport.broadcastBid(auctionId, 130_000, "박민수", LocalDateTime.now());
+
+        // then
+        verify(spyMapper, times(1)).writeValueAsString(any(AuctionBidEventDto.class));
+
+        ArgumentCaptor<AuctionBidEventDto> captor = ArgumentCaptor.forClass(AuctionBidEventDto.class);
+        verify(spyMapper, timeout(1_000).times(2)).writeValueAsString(captor.capture());
+        assertThat(captor.getAllValues()).extracting(AuctionBidEventDto::bidAmount)
+                .containsExactly(110_000, 130_000);
+
+        // 정리
+        emitter.complete();
+        spySupport.stopHeartbeat();
+    }
+
+    @Test
+    @DisplayName("경매 종료 시 병합 대기 중인 입찰을 종료 이벤트보다 먼저 전송")
+    void broadcastAuctionEnded_FlushesPendingBid() throws Exception {
+        // given
+        ObjectMapper spyMapper = spy(objectMapper);
+        AuctionBidStreamSupport spySupport = new AuctionBidStreamSupport(spyMapper);
+        ReflectionTestUtils.setField(spySupport, "coalesceWindowMs", 60_000L);
+        Long auctionId = 1L;
+        spySupport.subscribe(auctionId, 100_000);
+        spySupport.broadcastBid(auctionId, 110_000, "김철수", LocalDateTime.now());
+        spySupport.broadcastBid(auctionId, 120_000, "이영희", LocalDateTime.now());
+        clearInvocations(spyMapper);
+
+        // when
+        spySupport.broadcastAuctionEnded(auctionId, 120_000, "이영희");
+
+        // then
+        InOrder inOrder = inOrder(spyMapper);
+        inOrder.verify(spyMapper).writeValueAsString(any(AuctionBidEventDto.class));
+        inOrder.verify(spyMapper).writeValueAsString(any(AuctionCompleteEventDto.class));
+
+        // 정리
+        spySupport.stopHeartbeat();
+    }
+
+    @Test
+    @DisplayName("OUTBOX 이벤트는 아웃박스 행 ID를 이벤트 ID로 사용하고, 이미 지난 ID는 이력에 남기지 않음")
+    void deliver_UsesOutboxIdAsEventId() {
+        // given
+        Long auctionId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        support.deliver(new AuctionStreamMessage(AuctionStreamEventType.BID, auctionId, 110_000, "김철수", now, 41L));
+        support.deliver(new AuctionStreamMessage(AuctionStreamEventType.BID, auctionId, 120_000, "이영희", now, 57L));
+        support.deliver(new AuctionStreamMessage(AuctionStreamEventType.BID, auctionId, 115_000, "박민수", now, 50L));
+
+        // then - 어느 인스턴스에서든 같은 Last-Event-ID로 이어받을 수 있음
+        AuctionStreamHistory history = historyOf(auctionId);
+        assertThat(history.lastSequence()).isEqualTo(57L);
+        assertThat(history.framesAfter(41L)).extracting(AuctionStreamFrame::eventId).containsExactly("57");
+    }
+
+    @Test
+    @DisplayName("멀티플렉스 스트림은 한 연결로 여러 경매를 구독하고 재연결 없이 추가/해제")
+    void subscribeMultiplex_AddAndRemove() {
+        // given
+        support.subscribeMultiplex(null, Set.of(1L, 2L));
+        String streamId = onlyStreamId();
+
+        // when
+        Set<Long> added = support.addSubscriptions(streamId, null, Set.of(3L));
+        Set<Long> removed = support.removeSubscriptions(streamId, null, Set.of(1L));
+
+        // then
+        assertThat(added).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(removed).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(support.getAuctionSubscribers(1L)).isZero();
+        assertThat(support.getAuctionSubscribers(2L)).isEqualTo(1);
+        assertThat(support.getAuctionSubscribers(3L)).isEqualTo(1);
+        assertThat(support.getTotalStreams()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경매가 종료되면 멀티플렉스 스트림은 연결을 유지하고 해당 경매만 구독 해제")
+    void broadcastAuctionEnded_KeepsMultiplexStream() {
+        // given
+        support.subscribeMultiplex(null, Set.of(1L, 2L));
+        String streamId = onlyStreamId();
+
+        // when
+        support.broadcastAuctionEnded(1L, 150_000, "김철수");
+
+        // then
+        assertThat(support.getTotalStreams()).isEqualTo(1);
+        assertThat(support.getAuctionSubscribers(2L)).isEqualTo(1);
+        assertThat(support.removeSubscriptions(streamId, null, Set.of())).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 스트림은 구독을 변경할 수 없음")
+    void addSubscriptions_OtherMemberStream() {
+        // given
+        support.subscribeMultiplex("owner-public-id", Set.of(1L));
+        String streamId = onlyStreamId();
+
+        // when & then
+        assertThatThrownBy(() -> support.addSubscriptions(streamId, "other-public-id", Set.of(2L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_STREAM_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("스트림 1개당 구독 경매 수 한도 초과")
+    void subscribeMultiplex_TooManyAuctions() {
+        // given
+        Set<Long> auctionIds = LongStream.rangeClosed(1, 101).boxed().collect(Collectors.toSet());
+
+        // when & then
+        assertThatThrownBy(() -> support.subscribeMultiplex(null, auctionIds))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_STREAM_AUCTION_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("경매당 구독자 수 한도는 단일 구독과 멀티플렉스 구독에 함께 적용")
+    void subscribe_SubscriberLimitSharedWithMultiplex() {
+        // given - 경매 1의 구독자 목록을 한도(1000)까지 채움
+        support.subscribe(1L, 100_000);
+        CopyOnWriteArrayList<AuctionStreamSubscriber> auctionSubscribers = subscribersOf(1L);
+        auctionSubscribers.addAll(Collections.nCopies(999, auctionSubscribers.getFirst()));
+
+        // when & then
+        assertThatThrownBy(() -> support.subscribe(1L, 100_000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED);
+        assertThatThrownBy(() -> support.subscribeMultiplex(null, Set.of(1L, 2L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED);
+        assertThat(support.getTotalStreams()).isZero();
+
+        support.subscribeMultiplex(null, Set.of(2L));
+        String streamId = onlyStreamId();
+        assertThatThrownBy(() -> support.addSubscriptions(streamId, null, Set.of(1L)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED);
+        assertThat(support.getAuctionSubscribers(1L)).isEqualTo(1000);
+    }
+
     @Test
     @DisplayName("경매 종료 시 모든 연결 종료")
     void broadcastAuctionEnded_ClosesAllConnections() throws Exception {
@@ -85,6 +294,27 @@ class AuctionBidStreamSupportTest {
         assertThat(support.getAuctionSubscribers(auctionId)).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("경매 종료 후 늦게 도착한 이벤트와 구독은 이력 버퍼를 다시 만들지 않음")
+    void broadcastAuctionEnded_DoesNotRecreateHistory() {
+        // given
+        Long auctionId = 1L;
+        support.broadcastBid(auctionId, 110_000, "김철수", LocalDateTime.now());
+        assertThat(historyOf(auctionId)).isNotNull();
+
+        // when
+        support.broadcastAuctionEnded(auctionId, 150_000, "김철수");
+        support.broadcastBid(auctionId, 120_000, "이영희", LocalDateTime.now());
+
+        // then
+        assertThat(historyOf(auctionId)).isNull();
+        assertThatThrownBy(() -> support.subscribe(auctionId, 150_000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_IN_PROGRESS);
+        assertThat(historyOf(auctionId)).isNull();
+    }
+
     @Test
     @DisplayName("여러 경매 동시 구독 및 전체 구독자 수 확인")
     void multipleAuctions() {
@@ -119,6 +349,27 @@ class AuctionBidStreamSupportTest {
         assertTrue(scheduler.isShutdown(), "스케줄러가 shutdown 상태여야 합니다.");
     }
 
+    @SuppressWarnings("unchecked")
+    private String onlyStreamId() {
+        Map<String, ?> streams = (Map<String, ?>) ReflectionTestUtils.getField(support, "streams");
+        assertThat(streams).hasSize(1);
+        return streams.keySet().iterator().next();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CopyOnWriteArrayList<AuctionStreamSubscriber> subscribersOf(Long auctionId) {
+        Map<Long, CopyOnWriteArrayList<AuctionStreamSubscriber>> subscribers =
+                (Map<Long, CopyOnWriteArrayList<AuctionStreamSubscriber>>) ReflectionTestUtils.getField(support, "subscribers");
+        return subscribers.get(auctionId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AuctionStreamHistory historyOf(Long auctionId) {
+        Map<Long, AuctionStreamHistory> histories =
+                (Map<Long, AuctionStreamHistory>) ReflectionTestUtils.getField(support, "histories");
+        return histories.get(auctionId);
+    }
+
     @Test
     @DisplayName("이름 마스킹 테스트")
     void maskName() {
@@ -0,0 +1,44 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionDepositHoldCacheTest {
+
+    private final AuctionDepositHoldCache cache = new AuctionDepositHoldCache();
+
+    @Test
+    @DisplayName("Hold 기록 후 조회되고, 경매 종료 시 해당 경매 항목만 제거")
+    void markHeld_and_evictAuction() {
+        // given
+        cache.markHeld(10L, 1L);
+        cache.markHeld(11L, 1L);
+        cache.markHeld(10L, 2L);
+
+        // when
+        cache.evictAuction(1L);
+
+        // then
+        assertThat(cache.isHeld(10L, 1L)).isFalse();
+        assertThat(cache.isHeld(11L, 1L)).isFalse();
+        assertThat(cache.isHeld(10L, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 새 항목은 기록하지 않음")
+    void markHeld_ignored_when_full() {
+        // given
+        ReflectionTestUtils.setField(cache, "maxSize", 1);
+        cache.markHeld(10L, 1L);
+
+        // when
+        cache.markHeld(11L, 1L);
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.isHeld(11L, 1L)).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuctionDepositHoldTrackerTest {
+
+    private static final String MEMBER = "bidder-uuid";
+
+    private final AuctionDepositHoldTracker tracker = new AuctionDepositHoldTracker();
+
+    @Test
+    @DisplayName("Hold를 만든 요청이 거절되어도 다른 요청이 진행 중이면 유지하고, 마지막 거절에서 한 번만 해제")
+    void end_releases_only_after_last_rejection() {
+        // given
+        AtomicInteger released = new AtomicInteger();
+        tracker.begin(MEMBER, 1L, () -> true);
+        tracker.begin(MEMBER, 1L, () -> false);
+
+        // when
+        tracker.end(MEMBER, 1L, false, released::incrementAndGet);
+
+        // then
+        assertThat(released.get()).isZero();
+
+        // when
+        tracker.end(MEMBER, 1L, false, released::incrementAndGet);
+
+        // then
+        assertThat(released.get()).isEqualTo(1);
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 요청이 확정되면 해제하지 않음")
+    void end_keeps_when_last_accepted() {
+        // given
+        AtomicInteger released = new AtomicInteger();
+        tracker.begin(MEMBER, 1L, () -> true);
+        tracker.begin(MEMBER, 1L, () -> false);
+
+        // when
+        tracker.end(MEMBER, 1L, false, released::incrementAndGet);
+        tracker.end(MEMBER, 1L, true, null);
+
+        // then
+        assertThat(released.get()).isZero();
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청 전부터 있던 Hold는 모두 거절되어도 해제하지 않음")
+    void end_keeps_when_not_created() {
+        // given
+        AtomicInteger released = new AtomicInteger();
+        tracker.begin(MEMBER, 1L, () -> false);
+
+        // when
+        tracker.end(MEMBER, 1L, false, released::incrementAndGet);
+
+        // then
+        assertThat(released.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Hold 요청이 실패하면 진행 중 요청에서 빠지고 예외 전파")
+    void begin_failure_not_tracked() {
+        // when & then
+        assertThatThrownBy(() -> tracker.begin(MEMBER, 1L, () -> {
+            throw new IllegalStateException("payment down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(tracker.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("해제 중에는 같은 회원의 새 Hold 요청이 해제가 끝날 때까지 대기")
+    void begin_waits_for_release() throws Exception {
+        // given
+        tracker.begin(MEMBER, 1L, () -> true);
+        CountDownLatch releasing = new CountDownLatch(1);
+        CountDownLatch releaseDone = new CountDownLatch(1);
+        AtomicInteger order = new AtomicInteger();
+        AtomicInteger releasedAt = new AtomicInteger();
+        AtomicInteger heldAt = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> release = executor.submit(() -> tracker.end(MEMBER, 1L, false, () -> {
+                releasing.countDown();
+                try {
+                    releaseDone.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                releasedAt.set(order.incrementAndGet());
+            }));
+            releasing.await(5, TimeUnit.SECONDS);
+
+            // when
+            Future<?> hold = executor.submit(() -> tracker.begin(MEMBER, 1L, () -> {
+                heldAt.set(order.incrementAndGet());
+                return true;
+            }));
+            releaseDone.countDown();
+            release.get(5, TimeUnit.SECONDS);
+            hold.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then - 새 요청은 해제 이후 새 항목으로 추적됨
+        assertThat(releasedAt.get()).isEqualTo(1);
+        assertThat(heldAt.get()).isEqualTo(2);
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+}
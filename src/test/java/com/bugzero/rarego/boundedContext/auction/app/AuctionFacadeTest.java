@@ -1,5 +1,6 @@
 package com.bugzero.rarego.boundedContext.auction.app;
 
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionBidMode;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionOrderStatus;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,8 +27,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class AuctionFacadeTest {
@@ -52,6 +58,12 @@ class AuctionFacadeTest {
     @Mock
     private AuctionWithdrawUseCase auctionWithdrawUseCase;
 
+    @Mock
+    private AuctionBidRateLimiter bidRateLimiter;
+
+    @Spy
+    private AuctionBidIdempotencyCache bidIdempotencyCache = new AuctionBidIdempotencyCache();
+
     @Test
     @DisplayName("입찰 생성 요청 시 UseCase를 호출하고 결과를 반환한다")
     void createBid_Success() {
@@ -76,7 +88,88 @@ class AuctionFacadeTest {
         assertThat(result.message()).isEqualTo(SuccessType.CREATED.getMessage());
         assertThat(result.data()).isEqualTo(bidResponse);
 
+        verify(auctionCreateBidUseCase).preAuthorizeDeposit(auctionId, memberPublicId, bidAmount);
         verify(auctionCreateBidUseCase).createBid(auctionId, memberPublicId, bidAmount);
+        verify(auctionCreateBidUseCase).confirmDeposit(auctionId, memberPublicId);
+    }
+
+    @Test
+    @DisplayName("락 구간에서 입찰이 거절되면 선승인된 보증금 보상을 요청하고 예외를 그대로 던진다")
+    void createBid_Rejected_CompensatesDeposit() {
+        // given
+        Long auctionId = 1L;
+        String memberPublicId = "user_uuid";
+        int bidAmount = 50000;
+
+        given(auctionCreateBidUseCase.createBid(auctionId, memberPublicId, bidAmount))
+                .willThrow(new CustomException(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW));
+
+        // when & then
+        assertThatThrownBy(() -> auctionFacade.createBid(auctionId, memberPublicId, bidAmount))
+                .isInstanceOf(CustomException.class);
+
+        verify(auctionCreateBidUseCase).compensateDeposit(auctionId, memberPublicId);
+        verify(auctionCreateBidUseCase, never()).confirmDeposit(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 재시도하면 유입 제어/보증금/입찰 처리 없이 이전 결과를 반환한다")
+    void createBid_IdempotentRetry() {
+        // given
+        Long auctionId = 1L;
+        String memberPublicId = "user_uuid";
+        int bidAmount = 50000;
+
+        BidResponseDto bidResponse = new BidResponseDto(
+                1L, auctionId, memberPublicId, LocalDateTime.now(), (long) bidAmount, (long) bidAmount
+        );
+        given(auctionCreateBidUseCase.createBid(auctionId, memberPublicId, bidAmount)).willReturn(bidResponse);
+
+        auctionFacade.createBid(auctionId, memberPublicId, bidAmount, "retry-key");
+
+        // when
+        SuccessResponseDto<BidResponseDto> result =
+                auctionFacade.createBid(auctionId, memberPublicId, bidAmount, "retry-key");
+
+        // then
+        assertThat(result.data()).isEqualTo(bidResponse);
+        verify(bidRateLimiter, times(1)).acquire(auctionId, memberPublicId);
+        verify(auctionCreateBidUseCase, times(1)).preAuthorizeDeposit(auctionId, memberPublicId, bidAmount);
+        verify(auctionCreateBidUseCase, times(1)).createBid(auctionId, memberPublicId, bidAmount);
+    }
+
+    @Test
+    @DisplayName("유입 제어에 걸린 입찰은 보증금 선승인 전에 429로 거절한다")
+    void createBid_RateLimited() {
+        // given
+        Long auctionId = 1L;
+        String memberPublicId = "user_uuid";
+
+        willThrow(new CustomException(ErrorType.AUCTION_BID_RATE_LIMITED))
+                .given(bidRateLimiter).acquire(auctionId, memberPublicId);
+
+        // when & then
+        assertThatThrownBy(() -> auctionFacade.createBid(auctionId, memberPublicId, 50000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_BID_RATE_LIMITED);
+
+        verify(auctionCreateBidUseCase, never()).preAuthorizeDeposit(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("자동 입찰 등록은 LOCK 모드가 아니면 보증금 선승인 없이 거절한다")
+    void registerProxyBid_UnsupportedMode() {
+        // given
+        ReflectionTestUtils.setField(auctionFacade, "bidMode", AuctionBidMode.SEQUENCER);
+
+        // when & then
+        assertThatThrownBy(() -> auctionFacade.registerProxyBid(1L, "user_uuid", 50000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_PROXY_BID_UNSUPPORTED);
+
+        verify(auctionCreateBidUseCase, never()).preAuthorizeProxyDeposit(any(), any());
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionMember;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionMemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionMemberProfileCacheTest {
+
+    @InjectMocks
+    private AuctionMemberProfileCache profileCache;
+
+    @Mock
+    private AuctionMemberRepository auctionMemberRepository;
+
+    @Test
+    @DisplayName("캐시에 없으면 한 번만 DB에서 조회하고 이후에는 캐시로 응답")
+    void get_LoadsOnce() {
+        // given
+        given(auctionMemberRepository.findById(1L)).willReturn(Optional.of(member(1L, "김철수", false)));
+
+        // when
+        String first = profileCache.getNickname(1L);
+        String second = profileCache.getNickname(1L);
+
+        // then
+        assertThat(first).isEqualTo("김철수");
+        assertThat(second).isEqualTo("김철수");
+        verify(auctionMemberRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("회원 동기화 결과로 닉네임을 갱신하면 DB 조회 없이 새 닉네임으로 응답")
+    void put_UpdatesNickname() {
+        // given
+        profileCache.put(member(1L, "김철수", false));
+
+        // when
+        profileCache.put(member(1L, "철수킹", false));
+
+        // then
+        assertThat(profileCache.getNickname(1L)).isEqualTo("철수킹");
+        verify(auctionMemberRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원은 캐시에서 제거")
+    void put_DeletedMemberEvicted() {
+        // given
+        profileCache.put(member(1L, "김철수", false));
+
+        // when
+        profileCache.put(member(1L, "김철수", true));
+
+        // then
+        assertThat(profileCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 기존 항목 하나를 비우고 기록")
+    void put_BoundedSize() {
+        // given
+        ReflectionTestUtils.setField(profileCache, "maxSize", 2);
+
+        // when
+        profileCache.put(member(1L, "a", false));
+        profileCache.put(member(2L, "b", false));
+        profileCache.put(member(3L, "c", false));
+
+        // then
+        assertThat(profileCache.size()).isEqualTo(2);
+        assertThat(profileCache.get(3L)).map(AuctionMemberProfileCache.Profile::nickname).contains("c");
+    }
+
+    private AuctionMember member(Long id, String nickname, boolean deleted) {
+        return AuctionMember.builder()
+                .id(id)
+                .publicId("public-" + id)
+                .nickname(nickname)
+                .deleted(deleted)
+                .build();
+    }
+}
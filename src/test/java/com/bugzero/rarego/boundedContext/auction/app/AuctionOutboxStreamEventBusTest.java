@@ -0,0 +1,107 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamEventType;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStreamOutbox;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionStreamOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionOutboxStreamEventBusTest {
+
+    @InjectMocks
+    private AuctionOutboxStreamEventBus eventBus;
+
+    @Mock
+    private AuctionStreamOutboxRepository outboxRepository;
+
+    @Mock
+    private AuctionBidStreamSupport streamSupport;
+
+    @Test
+    @DisplayName("publish는 아웃박스에 이벤트를 기록")
+    void publish_SavesOutbox() {
+        // when
+        eventBus.publish(AuctionStreamMessage.bid(1L, 10_000, "김철수", LocalDateTime.now()));
+
+        // then
+        ArgumentCaptor<AuctionStreamOutbox> captor = ArgumentCaptor.forClass(AuctionStreamOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(AuctionStreamEventType.BID);
+        assertThat(captor.getValue().getAmount()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("첫 폴링은 현재 최대 ID부터 시작하고, 이후 이벤트를 ID 순으로 전달")
+    void poll_DeliversInOrderFromMaxId() {
+        // given
+        given(outboxRepository.findMaxId()).willReturn(10L);
+        given(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .willReturn(List.of(outbox(11L, 0), outbox(12L, 0)));
+
+        // when
+        int delivered = eventBus.poll();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        ArgumentCaptor<AuctionStreamMessage> captor = ArgumentCaptor.forClass(AuctionStreamMessage.class);
+        verify(streamSupport, times(2)).deliver(captor.capture());
+        assertThat(captor.getAllValues()).extracting(AuctionStreamMessage::amount).containsExactly(11, 12);
+        assertThat(captor.getAllValues()).extracting(AuctionStreamMessage::eventId).containsExactly(11L, 12L);
+        assertThat(ReflectionTestUtils.getField(eventBus, "lastSeenId")).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("ID 빈 구간 뒤의 최근 이벤트는 앞선 커밋을 기다리고, 유예 시간이 지난 빈 구간은 건너뜀")
+    void poll_WaitsOnRecentGap() {
+        // given
+        ReflectionTestUtils.setField(eventBus, "lastSeenId", 10L);
+        given(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .willReturn(List.of(outbox(11L, 0), outbox(13L, 0)));
+
+        // when
+        int delivered = eventBus.poll();
+
+        // then - 12번이 아직 보이지 않으므로 11번까지만 전달
+        assertThat(delivered).isEqualTo(1);
+        assertThat(ReflectionTestUtils.getField(eventBus, "lastSeenId")).isEqualTo(11L);
+
+        // given - 유예 시간이 지나도 12번이 없으면 롤백된 ID로 보고 건너뜀
+        given(outboxRepository.findByIdGreaterThanOrderByIdAsc(eq(11L), any(Pageable.class)))
+                .willReturn(List.of(outbox(13L, 10)));
+
+        // when & then
+        assertThat(eventBus.poll()).isEqualTo(1);
+        assertThat(ReflectionTestUtils.getField(eventBus, "lastSeenId")).isEqualTo(13L);
+    }
+
+    private AuctionStreamOutbox outbox(Long id, long secondsAgo) {
+        AuctionStreamOutbox outbox = AuctionStreamOutbox.builder()
+                .eventType(AuctionStreamEventType.BID)
+                .auctionId(1L)
+                .amount(id.intValue())
+                .memberName("김철수")
+                .eventTime(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        ReflectionTestUtils.setField(outbox, "createdAt", LocalDateTime.now().minusSeconds(secondsAgo));
+        return outbox;
+    }
+}
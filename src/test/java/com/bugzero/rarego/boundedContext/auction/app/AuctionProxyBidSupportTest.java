@@ -0,0 +1,174 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.app.AuctionProxyBidSupport.AutoBid;
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.domain.ProxyBid;
+import com.bugzero.rarego.boundedContext.auction.out.ProxyBidRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionProxyBidSupportTest {
+
+    @InjectMocks
+    private AuctionProxyBidSupport proxyBidSupport;
+
+    @Mock
+    private ProxyBidRepository proxyBidRepository;
+
+    private final Long AUCTION_ID = 1L;
+    private final Long LEADER_ID = 100L;
+    private final Long CHALLENGER_ID = 101L;
+
+    @Test
+    @DisplayName("최고 입찰자의 최대 금액이 한 호가 이상 높으면 도전자 최대 금액 + 한 호가로 방어")
+    void plan_leader_defends() {
+        // given (호가 500)
+        Auction auction = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, 10000), proxyBid(CHALLENGER_ID, 6000));
+
+        // when
+        List<AutoBid> autoBids = proxyBidSupport.plan(auction);
+
+        // then
+        assertThat(autoBids).containsExactly(
+                new AutoBid(CHALLENGER_ID, 6000),
+                new AutoBid(LEADER_ID, 6500)
+        );
+    }
+
+    @Test
+    @DisplayName("도전자의 최대 금액이 더 높으면 최고 입찰자의 최대 금액 + 한 호가로 역전")
+    void plan_challenger_wins() {
+        // given
+        Auction auction = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, 4000), proxyBid(CHALLENGER_ID, 9000));
+
+        // when
+        List<AutoBid> autoBids = proxyBidSupport.plan(auction);
+
+        // then
+        assertThat(autoBids).containsExactly(new AutoBid(CHALLENGER_ID, 4500));
+    }
+
+    @Test
+    @DisplayName("최대 금액 차이가 한 호가 미만이면 도전자 최대 금액까지 올리고 최고 입찰자는 같은 금액으로 유지")
+    void plan_within_tick_keeps_leader() {
+        // given
+        Auction auction = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, 5000), proxyBid(CHALLENGER_ID, 4800));
+
+        // when
+        List<AutoBid> autoBids = proxyBidSupport.plan(auction);
+
+        // then
+        assertThat(autoBids).containsExactly(
+                new AutoBid(CHALLENGER_ID, 4800),
+                new AutoBid(LEADER_ID, 4800)
+        );
+    }
+
+    @Test
+    @DisplayName("최대 금액이 같으면 먼저 위임한 최고 입찰자가 도전자 최대 금액으로 유지하고 경합 종료")
+    void plan_equal_max_keeps_leader() {
+        // given
+        Auction auction = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, 5000), proxyBid(CHALLENGER_ID, 5000));
+
+        // when
+        List<AutoBid> autoBids = proxyBidSupport.plan(auction);
+        autoBids.forEach(autoBid -> auction.applyBid(null, autoBid.bidderId(), autoBid.bidAmount()));
+
+        // then
+        assertThat(autoBids).containsExactly(
+                new AutoBid(CHALLENGER_ID, 5000),
+                new AutoBid(LEADER_ID, 5000)
+        );
+        assertThat(auction.getCurrentPrice()).isEqualTo(5000);
+        assertThat(auction.getLastBidderId()).isEqualTo(LEADER_ID);
+        assertThat(proxyBidSupport.plan(auction)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최소 입찰가에 못 미치는 자동 입찰은 응찰하지 않음")
+    void plan_exhausted_challenger() {
+        // given
+        Auction auction = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(CHALLENGER_ID, 2200));
+
+        // when & then
+        assertThat(proxyBidSupport.plan(auction)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 금액이 int 상한 근처여도 한 호가를 더할 때 넘치지 않고 방어/역전 금액을 최대 금액 안에서 계산")
+    void plan_near_int_max_does_not_overflow() {
+        // given - 방어: 도전자 최대 금액 + 한 호가가 int 상한을 넘는 경우
+        Auction defended = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, Integer.MAX_VALUE), proxyBid(CHALLENGER_ID, Integer.MAX_VALUE - 1));
+
+        // when & then
+        assertThat(proxyBidSupport.plan(defended)).containsExactly(
+                new AutoBid(CHALLENGER_ID, Integer.MAX_VALUE - 1),
+                new AutoBid(LEADER_ID, Integer.MAX_VALUE - 1)
+        );
+
+        // given - 역전: 최고 입찰자 최대 금액 + 한 호가가 int 상한을 넘는 경우
+        proxyBidSupport.evict(AUCTION_ID);
+        Auction overtaken = createAuctionLedBy(LEADER_ID, 2000);
+        givenProxyBids(proxyBid(LEADER_ID, Integer.MAX_VALUE - 1), proxyBid(CHALLENGER_ID, Integer.MAX_VALUE));
+
+        // when & then
+        assertThat(proxyBidSupport.plan(overtaken)).containsExactly(new AutoBid(CHALLENGER_ID, Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("현재가가 int 상한 근처여도 최소 입찰가가 음수로 넘치지 않음")
+    void minimumBid_near_int_max_does_not_overflow() {
+        // given
+        Auction auction = createAuctionLedBy(LEADER_ID, Integer.MAX_VALUE - 1);
+
+        // when & then
+        assertThat(auction.getMinimumBid()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private void givenProxyBids(ProxyBid... proxyBids) {
+        given(proxyBidRepository.findAllByAuctionIdOrderByUpdatedAtAsc(AUCTION_ID)).willReturn(List.of(proxyBids));
+    }
+
+    private ProxyBid proxyBid(Long bidderId, int maxAmount) {
+        return ProxyBid.builder()
+                .auctionId(AUCTION_ID)
+                .bidderId(bidderId)
+                .maxAmount(maxAmount)
+                .build();
+    }
+
+    private Auction createAuctionLedBy(Long leaderId, int currentPrice) {
+        Auction auction = Auction.builder()
+                .productId(50L)
+                .sellerId(200L)
+                .startPrice(1000)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .durationDays(1)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        ReflectionTestUtils.setField(auction, "lastBidderId", leaderId);
+        ReflectionTestUtils.setField(auction, "currentPrice", currentPrice);
+        return auction;
+    }
+}
@@ -86,9 +86,11 @@ class AuctionReadUseCaseTest {
         ReflectionTestUtils.setField(auction, "id", auctionId);
         ReflectionTestUtils.setField(auction, "currentPrice", 6000);
         ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        // 최고 입찰자는 경매에 기록된 값 사용
+        ReflectionTestUtils.setField(auction, "lastBidderId", 99L);
+        ReflectionTestUtils.setField(auction, "bidCount", 2);
 
         // 3. 입찰 Mock
-        Bid highestBid = Bid.builder().bidAmount(6000).bidderId(99L).build();
         Bid myLastBid = Bid.builder().bidAmount(5000).bidderId(memberId).build();
 
         // [변경] Repository -> Support로 Mocking 대상 변경
@@ -96,7 +98,6 @@ class AuctionReadUseCaseTest {
         given(support.findAuctionById(auctionId)).willReturn(auction);
 
         // [유지] BidRepository는 UseCase가 직접 사용함
-        given(bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auctionId)).willReturn(Optional.of(highestBid));
         given(bidRepository.findTopByAuctionIdAndBidderIdOrderByBidAmountDesc(auctionId, memberId))
                 .willReturn(Optional.of(myLastBid));
 
@@ -120,6 +121,8 @@ class AuctionReadUseCaseTest {
         assertThat(result.myParticipation().hasBid()).isTrue();
         assertThat(result.myParticipation().myLastBidPrice()).isEqualTo(5000);
         assertThat(result.bid().isMyHighestBid()).isFalse();
+        assertThat(result.bid().highestBidderId()).isEqualTo(99L);
+        assertThat(result.bid().minBidPrice()).isEqualTo(6000 + auction.getTickSize());
     }
 
     // --- 2. 낙찰 기록 상세 조회 (getAuctionOrder) 테스트 ---
@@ -251,10 +254,9 @@ class AuctionReadUseCaseTest {
                 any(Pageable.class)
         )).willReturn(new PageImpl<>(List.of(auction), pageable, 1));
 
-        // 연관 데이터 Mocking (Product, BidCount 등 - 기존과 동일)
+        // 연관 데이터 Mocking (입찰 수는 경매 행의 bidCount 사용)
         Product product = Product.builder().name("Test Product").build();
         given(productRepository.findAllById(anySet())).willReturn(List.of(product));
-        given(bidRepository.countByAuctionIdIn(anySet())).willReturn(List.of());
         given(productImageRepository.findAllByProductIdIn(anySet())).willReturn(List.of());
 
         // S3 Presigned URL 변환 Mocking
@@ -321,6 +323,7 @@ class AuctionReadUseCaseTest {
                 .build();
         ReflectionTestUtils.setField(auction, "id", 1L);
         ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        ReflectionTestUtils.setField(auction, "bidCount", 5);
         Page<Auction> auctionPage = new PageImpl<>(List.of(auction), pageable, 1);
 
         // [수정] findAll -> findAllApproved 로 변경!
@@ -336,7 +339,6 @@ class AuctionReadUseCaseTest {
         Product product = Product.builder().name("Galaxy Lego").build();
         ReflectionTestUtils.setField(product, "id", 50L);
         given(productRepository.findAllById(Set.of(50L))).willReturn(List.of(product));
-        given(bidRepository.countByAuctionIdIn(Set.of(1L))).willReturn(List.<Object[]>of(new Object[]{1L, 5L}));
         given(productImageRepository.findAllByProductIdIn(Set.of(50L))).willReturn(Collections.emptyList());
 
         // when
@@ -345,6 +347,7 @@ class AuctionReadUseCaseTest {
         // then
         assertThat(result.data()).hasSize(1);
         assertThat(result.data().get(0).productName()).isEqualTo("Galaxy Lego");
+        assertThat(result.data().get(0).bidsCount()).isEqualTo(5);
 
         // [검증] Specification Captor 대신 findAllApproved 호출 여부 검증
         verify(productRepository).findIdsBySearchCondition(eq("Galaxy"), isNull());
@@ -380,6 +383,7 @@ class AuctionReadUseCaseTest {
                 .build();
         ReflectionTestUtils.setField(auction, "id", 100L);
         ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+        ReflectionTestUtils.setField(auction, "bidCount", 3);
 
         Product product = Product.builder().name("관심 상품").build();
         ReflectionTestUtils.setField(product, "id", 50L);
@@ -391,7 +395,6 @@ class AuctionReadUseCaseTest {
 
         // 공통 변환 로직(convertToAuctionListDtos) 내부에서 호출하는 Mock들
         given(productRepository.findAllById(Set.of(50L))).willReturn(List.of(product));
-        given(bidRepository.countByAuctionIdIn(Set.of(100L))).willReturn(Arrays.asList(new Object[][]{{100L, 3L}}));
         given(productImageRepository.findAllByProductIdIn(Set.of(50L))).willReturn(Collections.emptyList());
 
         // S3 Presigned URL 변환 Mocking
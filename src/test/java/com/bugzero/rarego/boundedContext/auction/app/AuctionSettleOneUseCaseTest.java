@@ -73,7 +73,7 @@ class AuctionSettleOneUseCaseTest {
     @DisplayName("경매가 존재하지 않으면 예외 발생")
     void execute_AuctionNotFound() {
         // given
-        given(auctionRepository.findById(1L)).willReturn(Optional.empty());
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> useCase.execute(1L))
@@ -86,7 +86,7 @@ class AuctionSettleOneUseCaseTest {
     void execute_AlreadyEnded() {
         // given
         Auction auction = createAuction(1L, AuctionStatus.ENDED, LocalDateTime.now().minusHours(1));
-        given(auctionRepository.findById(1L)).willReturn(Optional.of(auction));
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.of(auction));
 
         // when
         useCase.execute(1L);
@@ -101,7 +101,7 @@ class AuctionSettleOneUseCaseTest {
     void execute_NotInProgress() {
         // given
         Auction auction = createAuction(1L, AuctionStatus.SCHEDULED, LocalDateTime.now().minusHours(1));
-        given(auctionRepository.findById(1L)).willReturn(Optional.of(auction));
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.of(auction));
 
         // when & then
         assertThatThrownBy(() -> useCase.execute(1L))
@@ -114,7 +114,7 @@ class AuctionSettleOneUseCaseTest {
     void execute_NotExpiredYet() {
         // given
         Auction auction = createAuction(1L, AuctionStatus.IN_PROGRESS, LocalDateTime.now().plusHours(1));
-        given(auctionRepository.findById(1L)).willReturn(Optional.of(auction));
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.of(auction));
 
         // when & then
         assertThatThrownBy(() -> useCase.execute(1L))
@@ -127,8 +127,7 @@ class AuctionSettleOneUseCaseTest {
     void execute_NoBids() {
         // given
         Auction auction = createAuction(1L, AuctionStatus.IN_PROGRESS, LocalDateTime.now().minusHours(1));
-        given(auctionRepository.findById(1L)).willReturn(Optional.of(auction));
-        given(support.hasBids(1L)).willReturn(false);
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.of(auction));
 
         // when
         useCase.execute(1L);
@@ -146,9 +145,13 @@ class AuctionSettleOneUseCaseTest {
         // given
         Auction auction = createAuction(1L, AuctionStatus.IN_PROGRESS, LocalDateTime.now().minusHours(1));
         Bid winningBid = createWinningBid(1L);
-        given(auctionRepository.findById(1L)).willReturn(Optional.of(auction));
-        given(support.hasBids(1L)).willReturn(true);
-        given(support.findWinningBid(1L)).willReturn(winningBid);
+        // 입찰 시 경매에 기록되는 최고 입찰 상태
+        ReflectionTestUtils.setField(auction, "lastBidderId", winningBid.getBidderId());
+        ReflectionTestUtils.setField(auction, "bidCount", 1);
+        ReflectionTestUtils.setField(auction, "highestBidId", 1000L);
+        given(auctionRepository.findByIdWithLock(1L)).willReturn(Optional.of(auction));
+        given(support.hasBids(auction)).willReturn(true);
+        given(support.findWinningBid(auction)).willReturn(winningBid);
 
         // when
         useCase.execute(1L);
@@ -0,0 +1,94 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.boundedContext.auction.out.BidRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSettlementSupportTest {
+
+    @Mock
+    AuctionRepository auctionRepository;
+
+    @Mock
+    BidRepository bidRepository;
+
+    @InjectMocks
+    AuctionSettlementSupport support;
+
+    private Auction createAuction() {
+        Auction auction = Auction.builder()
+                .productId(100L)
+                .sellerId(1L)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().minusMinutes(1))
+                .startPrice(10_000)
+                .durationDays(1)
+                .build();
+
+        ReflectionTestUtils.setField(auction, "id", 1L);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.IN_PROGRESS);
+
+        return auction;
+    }
+
+    @Test
+    @DisplayName("최고 입찰 ID가 기록된 경매는 ID로 낙찰 입찰 조회")
+    void findWinningBid_byHighestBidId() {
+        // given
+        Auction auction = createAuction();
+        Bid bid = Bid.builder().auctionId(1L).bidderId(10L).bidAmount(50_000).build();
+        ReflectionTestUtils.setField(auction, "bidCount", 1);
+        ReflectionTestUtils.setField(auction, "highestBidId", 1000L);
+        given(bidRepository.findById(1000L)).willReturn(Optional.of(bid));
+
+        // when & then
+        assertThat(support.hasBids(auction)).isTrue();
+        assertThat(support.findWinningBid(auction)).isSameAs(bid);
+        verify(bidRepository, never()).existsByAuctionId(any());
+        verify(bidRepository, never()).findTopByAuctionIdOrderByBidAmountDescBidTimeAsc(any());
+    }
+
+    @Test
+    @DisplayName("최고 입찰 ID가 비어 있는 경매는 AUCTION_BID 조회로 입찰 여부와 낙찰 입찰 판단")
+    void findWinningBid_fallbackToBidScan() {
+        // given - 컬럼 도입 전 입찰만 있고 백필되지 않은 경매
+        Auction auction = createAuction();
+        Bid bid = Bid.builder().auctionId(1L).bidderId(10L).bidAmount(50_000).build();
+        given(bidRepository.existsByAuctionId(1L)).willReturn(true);
+        given(bidRepository.findTopByAuctionIdOrderByBidAmountDescBidTimeAsc(1L)).willReturn(Optional.of(bid));
+
+        // when & then
+        assertThat(support.hasBids(auction)).isTrue();
+        assertThat(support.findWinningBid(auction)).isSameAs(bid);
+    }
+
+    @Test
+    @DisplayName("입찰 기록이 전혀 없으면 입찰 없음")
+    void hasBids_noBids() {
+        // given
+        Auction auction = createAuction();
+        given(bidRepository.existsByAuctionId(1L)).willReturn(false);
+
+        // when & then
+        assertThat(support.hasBids(auction)).isFalse();
+    }
+}
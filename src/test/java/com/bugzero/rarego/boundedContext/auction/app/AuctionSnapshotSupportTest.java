@@ -0,0 +1,218 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionSnapshot;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSnapshotSupportTest {
+
+    @InjectMocks
+    private AuctionSnapshotSupport snapshotSupport;
+
+    @Mock
+    private AuctionSupport support;
+
+    private final Long AUCTION_ID = 1L;
+
+    @Test
+    @DisplayName("진행 중인 경매는 한 번 적재 후 DB 조회 없이 스냅샷 반환")
+    void get_cached() {
+        // given
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction(AuctionStatus.IN_PROGRESS));
+
+        // when
+        snapshotSupport.get(AUCTION_ID);
+        AuctionSnapshot snapshot = snapshotSupport.get(AUCTION_ID);
+
+        // then
+        assertThat(snapshot.currentPrice()).isEqualTo(10000);
+        verify(support, times(1)).findAuctionById(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("시작 전 경매는 보관하지 않고 매번 조회")
+    void get_not_cached_when_scheduled() {
+        // given
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction(AuctionStatus.SCHEDULED));
+
+        // when
+        snapshotSupport.get(AUCTION_ID);
+        snapshotSupport.get(AUCTION_ID);
+
+        // then
+        verify(support, times(2)).findAuctionById(AUCTION_ID);
+        assertThat(snapshotSupport.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 경매에 동시에 캐시 미스가 나면 DB 조회는 한 번만 하고 결과를 함께 사용")
+    void get_concurrentMisses_singleLoad() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(support.findAuctionById(AUCTION_ID)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return createAuction(AuctionStatus.IN_PROGRESS);
+        });
+
+        AtomicInteger loaded = new AtomicInteger();
+        Thread leader = new Thread(() -> {
+            snapshotSupport.get(AUCTION_ID);
+            loaded.incrementAndGet();
+        });
+        leader.start();
+        loading.await();
+
+        // when - 첫 적재가 끝나기 전에 들어온 요청들
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Thread waiter = new Thread(() -> {
+                snapshotSupport.get(AUCTION_ID);
+                loaded.incrementAndGet();
+            });
+            waiters.add(waiter);
+            waiter.start();
+        }
+        await().until(() -> waiters.stream().allMatch(t -> t.getState() == Thread.State.WAITING));
+        release.countDown();
+
+        leader.join();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        // then
+        assertThat(loaded.get()).isEqualTo(6);
+        verify(support, times(1)).findAuctionById(AUCTION_ID);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 경매는 예외를 그대로 전달하고 보관하지 않음")
+    void get_notFound() {
+        // given
+        given(support.findAuctionById(AUCTION_ID)).willThrow(new CustomException(ErrorType.AUCTION_NOT_FOUND));
+
+        // when & then
+        assertThatThrownBy(() -> snapshotSupport.get(AUCTION_ID))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_FOUND);
+        assertThat(snapshotSupport.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋된 입찰 반영 후 낮은 금액은 스냅샷에서 거절, 늦게 도착한 낮은 입찰은 무시")
+    void applyBid_then_fastReject() {
+        // given
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction(AuctionStatus.IN_PROGRESS));
+        snapshotSupport.get(AUCTION_ID);
+
+        // when
+        snapshotSupport.applyBid(AUCTION_ID, 100L, 12000);
+        snapshotSupport.applyBid(AUCTION_ID, 101L, 11000); // 순서가 뒤바뀐 이벤트
+        AuctionSnapshot snapshot = snapshotSupport.get(AUCTION_ID);
+
+        // then
+        assertThat(snapshot.currentPrice()).isEqualTo(12000);
+        assertThat(snapshot.lastBidderId()).isEqualTo(100L);
+
+        assertThatThrownBy(() -> snapshot.validateBid(102L, 12500))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_BID_AMOUNT_TOO_LOW);
+    }
+
+    @Test
+    @DisplayName("스냅샷의 최고 입찰자는 그 사이 바뀌었을 수 있으므로 연속 입찰은 스냅샷에서 거절하지 않음")
+    void validateBid_consecutive_deferred_to_lock() {
+        // given
+        given(support.findAuctionById(AUCTION_ID)).willReturn(createAuction(AuctionStatus.IN_PROGRESS));
+        snapshotSupport.get(AUCTION_ID);
+        snapshotSupport.applyBid(AUCTION_ID, 100L, 12000);
+        AuctionSnapshot snapshot = snapshotSupport.get(AUCTION_ID);
+
+        // when & then (예외 없음)
+        snapshot.validateBid(100L, 13000);
+    }
+
+    @Test
+    @DisplayName("판매자 입찰, 종료된 경매, 종료 시각이 지난 경매는 스냅샷에서 거절하고 보증금은 Auction과 같은 규칙으로 계산")
+    void validateBid_shared_rules() {
+        // given
+        Auction auction = createAuction(AuctionStatus.IN_PROGRESS);
+        AuctionSnapshot snapshot = AuctionSnapshot.from(auction);
+        AuctionSnapshot ended = AuctionSnapshot.from(createAuction(AuctionStatus.ENDED));
+        ReflectionTestUtils.setField(auction, "endTime", LocalDateTime.now().minusSeconds(1));
+        AuctionSnapshot pastEnd = AuctionSnapshot.from(auction);
+
+        // when & then
+        assertThatThrownBy(() -> snapshot.validateBid(200L, 20000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_SELLER_CANNOT_BID);
+        assertThatThrownBy(() -> ended.validateBid(100L, 20000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_IN_PROGRESS);
+        assertThatThrownBy(() -> pastEnd.validateBid(100L, 20000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_NOT_IN_PROGRESS);
+        assertThat(snapshot.calculateDepositAmount()).isEqualTo(auction.calculateDepositAmount());
+    }
+
+    @Test
+    @DisplayName("마감 연장 사용 시: 연장 전 종료 시각을 가진 늦은 스냅샷은 종료 시각으로 거절하지 않고 나머지 규칙만 적용")
+    void validateBid_staleEndTime_deferred_when_extendable() {
+        // given - 다른 인스턴스에서 연장되었지만 이 스냅샷에는 원래 종료 시각이 남은 상황
+        Auction auction = createAuction(AuctionStatus.IN_PROGRESS);
+        ReflectionTestUtils.setField(auction, "endTime", LocalDateTime.now().minusSeconds(1));
+        AuctionSnapshot stale = AuctionSnapshot.from(auction);
+
+        // when & then (예외 없음)
+        stale.validateBid(100L, 20000, false);
+
+        assertThatThrownBy(() -> stale.validateBid(200L, 20000, false))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.AUCTION_SELLER_CANNOT_BID);
+    }
+
+    private Auction createAuction(AuctionStatus status) {
+        Auction auction = Auction.builder()
+                .productId(50L)
+                .sellerId(200L)
+                .startPrice(10000)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .durationDays(1)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        ReflectionTestUtils.setField(auction, "status", status);
+        return auction;
+    }
+}
@@ -0,0 +1,96 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.event.AuctionExtendedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSoftCloseSupportTest {
+
+    @InjectMocks
+    private AuctionSoftCloseSupport softCloseSupport;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final LocalDateTime END_TIME = LocalDateTime.of(2026, 1, 1, 12, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(softCloseSupport, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("종료 60초 이내 입찰이면 입찰 시각 + 60초로 연장하고 이벤트 발행")
+    void extend_late_bid() {
+        // given
+        Auction auction = createAuction();
+        LocalDateTime bidTime = END_TIME.minusSeconds(10);
+
+        // when
+        boolean extended = softCloseSupport.extend(auction, bidTime);
+
+        // then
+        assertThat(extended).isTrue();
+        assertThat(auction.getEndTime()).isEqualTo(bidTime.plusSeconds(60));
+        verify(eventPublisher).publishEvent(new AuctionExtendedEvent(1L, bidTime.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("마감 구간 밖의 입찰은 연장하지 않음")
+    void extend_early_bid() {
+        // given
+        Auction auction = createAuction();
+
+        // when
+        boolean extended = softCloseSupport.extend(auction, END_TIME.minusMinutes(5));
+
+        // then
+        assertThat(extended).isFalse();
+        assertThat(auction.getEndTime()).isEqualTo(END_TIME);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 마감 직전 입찰이어도 연장하지 않음")
+    void extend_disabled() {
+        // given
+        ReflectionTestUtils.setField(softCloseSupport, "enabled", false);
+        Auction auction = createAuction();
+
+        // when
+        boolean extended = softCloseSupport.extend(auction, END_TIME.minusSeconds(1));
+
+        // then
+        assertThat(extended).isFalse();
+        assertThat(auction.getEndTime()).isEqualTo(END_TIME);
+    }
+
+    private Auction createAuction() {
+        Auction auction = Auction.builder()
+                .productId(10L)
+                .sellerId(200L)
+                .startPrice(1000)
+                .startTime(END_TIME.minusDays(1))
+                .endTime(END_TIME)
+                .durationDays(1)
+                .build();
+        ReflectionTestUtils.setField(auction, "id", 1L);
+        return auction;
+    }
+}
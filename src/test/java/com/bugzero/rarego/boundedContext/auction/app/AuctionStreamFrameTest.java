@@ -0,0 +1,57 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.bugzero.rarego.boundedContext.auction.in.dto.AuctionConnectEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionStreamFrameTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("event/id/data 줄과 빈 줄로 끝나는 SSE 프레임으로 인코딩")
+    void encode() throws Exception {
+        // when
+        AuctionStreamFrame frame = AuctionStreamFrame.encode(objectMapper, "bid", "1_1", "{\"bidAmount\":1000}");
+
+        // then
+        assertThat(text(frame)).isEqualTo("event:bid\nid:1_1\ndata:{\"bidAmount\":1000}\n\n");
+        assertThat(frame.eventName()).isEqualTo("bid");
+        assertThat(frame.eventId()).isEqualTo("1_1");
+    }
+
+    @Test
+    @DisplayName("여러 줄 데이터는 줄마다 data: 접두어를 붙임")
+    void encode_multiline() throws Exception {
+        // when
+        AuctionStreamFrame frame = AuctionStreamFrame.encode(objectMapper, "bid", "1", "a\nb");
+
+        // then
+        assertThat(text(frame)).isEqualTo("event:bid\nid:1\ndata:a\ndata:b\n\n");
+    }
+
+    @Test
+    @DisplayName("DTO는 JSON으로 직렬화하고, 전송 단위는 모든 구독자가 같은 인스턴스를 공유")
+    void encode_dto() throws Exception {
+        // when
+        AuctionStreamFrame frame = AuctionStreamFrame.encode(objectMapper, "connect", "1_init",
+                AuctionConnectEventDto.create(1L, 10_000));
+
+        // then
+        assertThat(text(frame)).startsWith("event:connect\nid:1_init\ndata:{").contains("\"auctionId\":1");
+        assertThat(frame.items()).isSameAs(frame.items());
+    }
+
+    private String text(AuctionStreamFrame frame) {
+        DataWithMediaType item = frame.items().iterator().next();
+        String text = new String((byte[]) item.getData(), StandardCharsets.UTF_8);
+        assertThat(frame.size()).isEqualTo(((byte[]) item.getData()).length);
+        return text;
+    }
+}
@@ -0,0 +1,81 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionStreamHistoryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Last-Event-ID 이후 이벤트만 오래된 순으로 반환")
+    void framesAfter() throws Exception {
+        // given
+        AuctionStreamHistory history = historyWith(4, 3);
+
+        // when
+        List<AuctionStreamFrame> frames = history.framesAfter(1L);
+
+        // then
+        assertThat(frames).extracting(AuctionStreamFrame::eventId).containsExactly("2", "3");
+        assertThat(history.hasGapAfter(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼를 넘어선 이벤트는 덮어써지고 남아있는 것부터 반환")
+    void framesAfter_Overwritten() throws Exception {
+        // given
+        AuctionStreamHistory history = historyWith(3, 5);
+
+        // when
+        List<AuctionStreamFrame> frames = history.framesAfter(0L);
+
+        // then
+        assertThat(frames).extracting(AuctionStreamFrame::eventId).containsExactly("3", "4", "5");
+        assertThat(history.hasGapAfter(0L)).isTrue();
+        assertThat(history.lastSequence()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("최신 ID이거나 현재 순번보다 큰(재시작 전) ID, ID가 없는 경우는 재전송하지 않음")
+    void framesAfter_NothingToReplay() throws Exception {
+        // given
+        AuctionStreamHistory history = historyWith(4, 3);
+
+        // then
+        assertThat(history.framesAfter(3L)).isEmpty();
+        assertThat(history.framesAfter(100L)).isEmpty();
+        assertThat(history.framesAfter(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("건너뛰는 순번(아웃박스 행 ID)도 Last-Event-ID 이후 이벤트만 반환하고 밀려난 구간을 판단")
+    void framesAfter_SparseSequences() throws Exception {
+        // given - 다른 경매의 이벤트가 사이에 끼어 ID가 연속되지 않음
+        AuctionStreamHistory history = new AuctionStreamHistory(2);
+        for (long sequence : new long[]{10L, 14L, 21L}) {
+            history.append(sequence, AuctionStreamFrame.encode(objectMapper, "bid", String.valueOf(sequence), "{}"));
+        }
+
+        // then
+        assertThat(history.framesAfter(14L)).extracting(AuctionStreamFrame::eventId).containsExactly("21");
+        assertThat(history.framesAfter(12L)).extracting(AuctionStreamFrame::eventId).containsExactly("14", "21");
+        assertThat(history.hasGapAfter(12L)).isFalse();
+        assertThat(history.hasGapAfter(9L)).isTrue();
+        assertThat(history.lastSequence()).isEqualTo(21L);
+    }
+
+    private AuctionStreamHistory historyWith(int capacity, int events) throws Exception {
+        AuctionStreamHistory history = new AuctionStreamHistory(capacity);
+        for (int i = 0; i < events; i++) {
+            long sequence = history.lastSequence() + 1;
+            history.append(sequence, AuctionStreamFrame.encode(objectMapper, "bid", String.valueOf(sequence), "{}"));
+        }
+        return history;
+    }
+}
@@ -0,0 +1,164 @@
+package com.bugzero.rarego.boundedContext.auction.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AuctionStreamSubscriberTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SseEmitter emitter;
+    private List<Runnable> writerTasks;
+    private AtomicInteger closed;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        writerTasks = new ArrayList<>();
+        closed = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("writer가 전송하기 전까지 프레임은 큐에만 쌓이고, drain 시 순서대로 전송된다")
+    void offer_DoesNotSendOnCallerThread() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(4, 10_000L);
+
+        // when
+        subscriber.offer(frame("connect", "1"));
+        subscriber.offer(frame("bid", "2"));
+
+        // then
+        verify(emitter, never()).send(anySet());
+        assertThat(subscriber.pendingCount()).isEqualTo(2);
+        assertThat(writerTasks).hasSize(1); // drain 작업은 한 번만 예약
+
+        runWriter();
+        verify(emitter, times(2)).send(anySet());
+        assertThat(subscriber.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 입찰 이벤트부터 버린다")
+    void offer_DropsOldestBidWhenFull() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(2, 10_000L);
+        subscriber.offer(frame("bid", "1"));
+        subscriber.offer(frame("bid", "2"));
+
+        // when
+        boolean accepted = subscriber.offer(frame("bid", "3"));
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(subscriber.pendingCount()).isEqualTo(2);
+        assertThat(subscriber.droppedCount()).isEqualTo(1);
+        assertThat(closed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("버릴 수 없는 이벤트는 입찰 이벤트를 밀어내고 큐에 들어간다")
+    void offer_ImportantEventEvictsDroppable() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(2, 10_000L);
+        subscriber.offer(frame("connect", "1"));
+        subscriber.offer(frame("bid", "2"));
+
+        // when
+        boolean accepted = subscriber.offer(frame("end", "3"));
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(subscriber.droppedCount()).isEqualTo(1);
+        assertThat(closed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("큐가 제한 시간 이상 가득 차 있으면 느린 구독자로 보고 연결을 종료한다")
+    void offer_EvictsSlowConsumer() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(1, 0L);
+        subscriber.offer(frame("bid", "1"));
+        subscriber.offer(frame("bid", "2")); // 가득 찬 시점 기록
+        Thread.sleep(5);
+
+        // when
+        boolean accepted = subscriber.offer(frame("bid", "3"));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(subscriber.pendingCount()).isZero();
+        runWriter();
+        verify(emitter).complete();
+        assertThat(closed).hasValue(1);
+        assertThat(subscriber.offer(frame("bid", "4"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("전송 중 연결이 끊기면 남은 프레임을 버리고 종료 콜백을 호출한다")
+    void drain_ClosesOnSendFailure() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(4, 10_000L);
+        willThrow(new IOException("broken pipe")).given(emitter).send(anySet());
+        subscriber.offer(frame("bid", "1"));
+        subscriber.offer(frame("bid", "2"));
+
+        // when
+        runWriter();
+
+        // then
+        verify(emitter, times(1)).send(anySet());
+        assertThat(subscriber.pendingCount()).isZero();
+        assertThat(closed).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("종료 요청 시 남은 프레임을 모두 보낸 뒤 연결을 종료한다")
+    void completeAfterDrain_SendsRemainingFrames() throws Exception {
+        // given
+        AuctionStreamSubscriber subscriber = subscriber(4, 10_000L);
+        subscriber.offer(frame("end", "1"));
+
+        // when
+        subscriber.completeAfterDrain();
+
+        // then
+        verify(emitter, never()).complete();
+        runWriter();
+        verify(emitter).send(anySet());
+        verify(emitter).complete();
+    }
+
+    // helper method
+
+    private AuctionStreamSubscriber subscriber(int capacity, long slowConsumerTimeoutMs) {
+        return new AuctionStreamSubscriber(emitter, writerTasks::add, capacity, slowConsumerTimeoutMs,
+                closed::incrementAndGet);
+    }
+
+    private AuctionStreamFrame frame(String eventName, String eventId) throws Exception {
+        return AuctionStreamFrame.encode(objectMapper, eventName, eventId, "{}");
+    }
+
+    private void runWriter() {
+        while (!writerTasks.isEmpty()) {
+            writerTasks.remove(0).run();
+        }
+    }
+}
@@ -2,12 +2,13 @@ package com.bugzero.rarego.boundedContext.auction.in;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,12 +24,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.bugzero.rarego.boundedContext.auction.app.AuctionBidStreamSupport;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionSnapshotSupport;
+import com.bugzero.rarego.boundedContext.auction.app.AuctionStreamSubscriptionUseCase;
 import com.bugzero.rarego.boundedContext.auction.domain.Auction;
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionSnapshot;
 import com.bugzero.rarego.boundedContext.auction.domain.AuctionStatus;
-import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
 import com.bugzero.rarego.global.aspect.ResponseAspect;
 import com.bugzero.rarego.global.config.JacksonConfig;
+import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.exception.GlobalExceptionHandler;
+import com.bugzero.rarego.global.response.ErrorType;
 
 /**
  * GlobalExceptionHandler가 예외를 JSON으로 변환하므로
@@ -47,7 +52,10 @@ class AuctionBidStreamControllerTest {
     private AuctionBidStreamSupport streamSupport;
 
     @MockitoBean
-    private AuctionRepository auctionRepository;
+    private AuctionSnapshotSupport snapshotSupport;
+
+    @MockitoBean
+    private AuctionStreamSubscriptionUseCase streamSubscriptionUseCase;
 
     @Test
     @DisplayName("SSE 구독 성공")
@@ -56,16 +64,15 @@ class AuctionBidStreamControllerTest {
         Long auctionId = 1L;
         Auction auction = createAuction(auctionId, 100_000, 50_000);
 
-        given(auctionRepository.findById(auctionId)).willReturn(Optional.of(auction));
-        given(streamSupport.getAuctionSubscribers(auctionId)).willReturn(10);
-        given(streamSupport.subscribe(eq(auctionId), any())).willReturn(new SseEmitter());
+        given(snapshotSupport.get(auctionId)).willReturn(AuctionSnapshot.from(auction));
+        given(streamSupport.subscribe(eq(auctionId), any(), any())).willReturn(new SseEmitter());
 
         // when & then
         mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId))
                 .andDo(print())
                 .andExpect(status().isOk());
 
-        verify(streamSupport).subscribe(eq(auctionId), eq(100_000));
+        verify(streamSupport).subscribe(eq(auctionId), eq(100_000), isNull());
     }
 
     @Test
@@ -73,7 +80,7 @@ class AuctionBidStreamControllerTest {
     void subscribe_AuctionNotFound() throws Exception {
         // given
         Long auctionId = 999L;
-        given(auctionRepository.findById(auctionId)).willReturn(Optional.empty());
+        given(snapshotSupport.get(auctionId)).willThrow(new CustomException(ErrorType.AUCTION_NOT_FOUND));
 
         // when & then
         mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId))
@@ -83,7 +90,46 @@ class AuctionBidStreamControllerTest {
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.code").value(2001));
 
-        verify(streamSupport, never()).subscribe(any(), any());
+        verify(streamSupport, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("종료된 경매 - 400, 구독/이력 버퍼를 만들지 않음")
+    void subscribe_EndedAuction() throws Exception {
+        // given
+        Long auctionId = 1L;
+        Auction auction = createAuction(auctionId, 100_000, 50_000);
+        ReflectionTestUtils.setField(auction, "status", AuctionStatus.ENDED);
+
+        given(snapshotSupport.get(auctionId)).willReturn(AuctionSnapshot.from(auction));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.code").value(2002));
+
+        verify(streamSupport, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 헤더를 그대로 전달")
+    void subscribe_WithLastEventId() throws Exception {
+        // given
+        Long auctionId = 1L;
+        Auction auction = createAuction(auctionId, 100_000, 50_000);
+
+        given(snapshotSupport.get(auctionId)).willReturn(AuctionSnapshot.from(auction));
+        given(streamSupport.subscribe(eq(auctionId), any(), any())).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId)
+                        .header("Last-Event-ID", "42"))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(streamSupport).subscribe(eq(auctionId), eq(100_000), eq("42"));
     }
 
     @Test
@@ -93,8 +139,9 @@ class AuctionBidStreamControllerTest {
         Long auctionId = 1L;
         Auction auction = createAuction(auctionId, 100_000, 50_000);
 
-        given(auctionRepository.findById(auctionId)).willReturn(Optional.of(auction));
-        given(streamSupport.getAuctionSubscribers(auctionId)).willReturn(1000);
+        given(snapshotSupport.get(auctionId)).willReturn(AuctionSnapshot.from(auction));
+        given(streamSupport.subscribe(eq(auctionId), any(), any()))
+                .willThrow(new CustomException(ErrorType.SERVICE_SUBSCRIBER_LIMIT_EXCEEDED));
 
         // when & then
         mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId))
@@ -103,7 +150,6 @@ class AuctionBidStreamControllerTest {
                 .andExpect(jsonPath("$.status").value(503))
                 .andExpect(jsonPath("$.code").value(2506));
 
-        verify(streamSupport, never()).subscribe(any(), any());
     }
 
     @Test
@@ -113,16 +159,66 @@ class AuctionBidStreamControllerTest {
         Long auctionId = 1L;
         Auction auction = createAuction(auctionId, null, 50_000);
 
-        given(auctionRepository.findById(auctionId)).willReturn(Optional.of(auction));
-        given(streamSupport.getAuctionSubscribers(auctionId)).willReturn(10);
-        given(streamSupport.subscribe(eq(auctionId), any())).willReturn(new SseEmitter());
+        given(snapshotSupport.get(auctionId)).willReturn(AuctionSnapshot.from(auction));
+        given(streamSupport.subscribe(eq(auctionId), any(), any())).willReturn(new SseEmitter());
 
         // when & then
         mockMvc.perform(get("/api/v1/auctions/{auctionId}/subscribe", auctionId))
                 .andDo(print())
                 .andExpect(status().isOk());
 
-        verify(streamSupport).subscribe(eq(auctionId), eq(50_000));
+        verify(streamSupport).subscribe(eq(auctionId), eq(50_000), isNull());
+    }
+
+    @Test
+    @DisplayName("멀티플렉스 스트림 구독 - 확인된 경매 ID로 구독")
+    void subscribeMultiplex_Success() throws Exception {
+        // given
+        given(streamSubscriptionUseCase.resolveAuctionIds(isNull(), eq(Set.of(1L, 2L)), eq(false), eq(false)))
+                .willReturn(Set.of(1L, 2L));
+        given(streamSupport.subscribeMultiplex(isNull(), eq(Set.of(1L, 2L)))).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/auctions/stream").param("auctionIds", "1", "2"))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(streamSupport).subscribeMultiplex(isNull(), eq(Set.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("멀티플렉스 스트림 구독 경매 추가")
+    void addStreamSubscriptions_Success() throws Exception {
+        // given
+        given(streamSubscriptionUseCase.resolveAuctionIds(isNull(), eq(Set.of(3L)), eq(false), eq(false)))
+                .willReturn(Set.of(3L));
+        given(streamSupport.addSubscriptions("stream-1", null, Set.of(3L))).willReturn(Set.of(1L, 3L));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/auctions/stream/{streamId}/subscriptions", "stream-1")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"auctionIds\":[3]}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.streamId").value("stream-1"))
+                .andExpect(jsonPath("$.data.auctionIds.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 스트림 구독 해제 - 404")
+    void removeStreamSubscriptions_StreamNotFound() throws Exception {
+        // given
+        given(streamSupport.removeSubscriptions("unknown", null, Set.of(1L)))
+                .willThrow(new CustomException(ErrorType.AUCTION_STREAM_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(delete("/api/v1/auctions/stream/{streamId}/subscriptions", "unknown")
+                        .with(csrf())
+                        .param("auctionIds", "1"))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(2519));
     }
 
     @Test
@@ -96,7 +96,7 @@ class AuctionControllerTest {
                 bidResponse);
 
         // [수정] memberId(Long) -> memberPublicId(String)
-        given(auctionFacade.createBid(eq(auctionId), eq(memberPublicId), eq(bidAmount.intValue())))
+        given(auctionFacade.createBid(eq(auctionId), eq(memberPublicId), eq(bidAmount.intValue()), isNull()))
                 .willReturn(successResponse);
 
         // when & then
@@ -150,6 +150,24 @@ class AuctionControllerTest {
                 .andExpect(jsonPath("$.status").value(400));
     }
 
+    @Test
+    @DisplayName("실패: 자동 입찰 최대 금액이 int 범위를 넘으면 400 에러코드 반환")
+    void registerProxyBid_fail_overflow() throws Exception {
+        // given
+        Long auctionId = 1L;
+        ProxyBidRequestDto overflowRequest = new ProxyBidRequestDto((long) Integer.MAX_VALUE + 1);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/auctions/{auctionId}/proxy-bids", auctionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overflowRequest)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+
+        verify(auctionFacade, never()).registerProxyBid(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("실패: 비즈니스 예외 발생 시 404 에러코드 반환")
     void createBid_fail_business_exception() throws Exception {
@@ -160,7 +178,7 @@ class AuctionControllerTest {
         BidRequestDto requestDto = new BidRequestDto(bidAmount);
 
         // [수정] memberId(Long) -> memberPublicId(String)
-        given(auctionFacade.createBid(eq(auctionId), eq(memberPublicId), eq(bidAmount.intValue())))
+        given(auctionFacade.createBid(eq(auctionId), eq(memberPublicId), eq(bidAmount.intValue()), isNull()))
                 .willThrow(new CustomException(ErrorType.AUCTION_NOT_FOUND));
 
         // when & then
@@ -0,0 +1,107 @@
+package com.bugzero.rarego.boundedContext.auction.in;
+
+import com.bugzero.rarego.boundedContext.auction.domain.AuctionDeadline;
+import com.bugzero.rarego.boundedContext.auction.out.AuctionRepository;
+import com.bugzero.rarego.global.exception.CustomException;
+import com.bugzero.rarego.global.response.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSchedulerInitializerTest {
+
+    @InjectMocks
+    private AuctionSchedulerInitializer initializer;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionScheduler scheduler;
+
+    @Test
+    @DisplayName("마지막 ID 이후를 키셋 페이지로 끝까지 조회하며 남은 경매는 예약, 지난 경매는 바로 정산")
+    void initializeSchedules_keysetPages() {
+        // given
+        ReflectionTestUtils.setField(initializer, "pageSize", 2);
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+
+        given(auctionRepository.findInProgressDeadlinesAfter(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new AuctionDeadline(1L, future), new AuctionDeadline(3L, past)));
+        given(auctionRepository.findInProgressDeadlinesAfter(3L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new AuctionDeadline(7L, past), new AuctionDeadline(9L, future)));
+        given(auctionRepository.findInProgressDeadlinesAfter(9L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new AuctionDeadline(12L, future)));
+        given(scheduler.settleNow(any(), any())).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        initializer.initializeSchedules();
+
+        // then
+        verify(scheduler).extendDeadline(1L, future);
+        verify(scheduler).extendDeadline(9L, future);
+        verify(scheduler).extendDeadline(12L, future);
+        verify(scheduler).settleNow(3L, past);
+        verify(scheduler).settleNow(7L, past);
+        verify(auctionRepository, never()).findInProgressDeadlinesAfter(eq(12L), any());
+    }
+
+    @Test
+    @DisplayName("한 경매의 복구 실패가 나머지 복구를 막지 않음")
+    void initializeSchedules_continueOnFailure() {
+        // given
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+
+        given(auctionRepository.findInProgressDeadlinesAfter(eq(0L), any()))
+                .willReturn(List.of(new AuctionDeadline(1L, past), new AuctionDeadline(2L, future)));
+        given(scheduler.settleNow(1L, past)).willThrow(new CustomException(ErrorType.SCHEDULER_CAPACITY_EXCEEDED));
+
+        // when
+        initializer.initializeSchedules();
+
+        // then
+        verify(scheduler).extendDeadline(2L, future);
+    }
+
+    @Test
+    @DisplayName("정산 워커에서 실패한 정산이 있어도 다음 페이지 복구를 계속함")
+    void initializeSchedules_continueOnSettlementFailure() {
+        // given
+        ReflectionTestUtils.setField(initializer, "pageSize", 2);
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+
+        given(auctionRepository.findInProgressDeadlinesAfter(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new AuctionDeadline(1L, past), new AuctionDeadline(2L, past)));
+        given(auctionRepository.findInProgressDeadlinesAfter(2L, PageRequest.of(0, 2)))
+                .willReturn(List.of(new AuctionDeadline(3L, future)));
+        given(scheduler.settleNow(1L, past))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("db down")));
+        given(scheduler.settleNow(2L, past)).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        initializer.initializeSchedules();
+
+        // then
+        verify(scheduler).settleNow(2L, past);
+        verify(scheduler).extendDeadline(3L, future);
+    }
+}
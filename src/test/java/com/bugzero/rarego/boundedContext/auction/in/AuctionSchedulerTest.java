@@ -3,52 +3,56 @@ package com.bugzero.rarego.boundedContext.auction.in;
 import com.bugzero.rarego.boundedContext.auction.app.AuctionSettleAuctionFacade;
 import com.bugzero.rarego.global.exception.CustomException;
 import com.bugzero.rarego.global.response.ErrorType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
 class AuctionSchedulerTest {
 
-    @Mock
-    TaskScheduler taskScheduler;
-
     @Mock
     AuctionSettleAuctionFacade facade;
 
     @InjectMocks
     AuctionScheduler scheduler;
 
-    private Map<Long, ScheduledFuture<?>> scheduledTasks;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private ExecutorService settlementWorkers;
 
     @BeforeEach
     void setUp() {
-        scheduledTasks = new ConcurrentHashMap<>();
-        ReflectionTestUtils.setField(scheduler, "scheduledTasks", scheduledTasks);
+        // 틱 스레드는 띄우지 않고 advance로 시간을 직접 진행
+        settlementWorkers = Executors.newSingleThreadExecutor();
+        ReflectionTestUtils.setField(scheduler, "settlementWorkers", settlementWorkers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
     }
 
     @Test
     @DisplayName("auctionId가 null이면 예외 발생")
     void scheduleSettlement_NullAuctionId() {
         // when & then
-        assertThatThrownBy(() -> scheduler.scheduleSettlement(null, LocalDateTime.now(ZoneId.of("Asia/Seoul"))))
+        assertThatThrownBy(() -> scheduler.scheduleSettlement(null, LocalDateTime.now(ZONE)))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorType", ErrorType.INVALID_INPUT);
     }
@@ -63,65 +67,169 @@ class AuctionSchedulerTest {
     }
 
     @Test
-    @DisplayName("미래 시간이면 스케줄링됨")
-    void scheduleSettlement_FutureTime() {
+    @DisplayName("미래 시간이면 예약되고 종료 시각이 지나면 정산 워커에서 정산")
+    void scheduleSettlement_FutureTime() throws Exception {
         // given
-        ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-        doReturn(mockFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        LocalDateTime endTime = LocalDateTime.now(ZONE).plusMinutes(10);
+
+        // when
+        scheduler.scheduleSettlement(1L, endTime);
+        scheduler.advance(toMillis(endTime.minusSeconds(1)));
+        awaitWorkers();
+
+        // then
+        assertThat(scheduler.isScheduled(1L)).isTrue();
+        verify(facade, never()).settleOne(1L);
 
         // when
-        scheduler.scheduleSettlement(1L, LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusMinutes(10));
+        scheduler.advance(toMillis(endTime.plusSeconds(1)));
+        awaitWorkers();
 
         // then
-        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
-        assertThat(scheduledTasks).containsKey(1L);
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+        verify(facade).settleOne(1L);
     }
 
     @Test
-    @DisplayName("과거 시간이면 즉시 실행")
-    void scheduleSettlement_PastTime() {
+    @DisplayName("과거 시간이면 예약하지 않고 즉시 정산")
+    void scheduleSettlement_PastTime() throws Exception {
         // when
-        scheduler.scheduleSettlement(1L, LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusMinutes(10));
+        scheduler.scheduleSettlement(1L, LocalDateTime.now(ZONE).minusMinutes(10));
+        awaitWorkers();
 
         // then
         verify(facade).settleOne(1L);
-        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기존 예약이 있으면 새 시각으로 옮겨 한 번만 정산")
+    void scheduleSettlement_ReplaceExisting() throws Exception {
+        // given
+        LocalDateTime endTime = LocalDateTime.now(ZONE).plusMinutes(10);
+        LocalDateTime newEndTime = endTime.plusMinutes(5);
+        scheduler.scheduleSettlement(1L, endTime);
+
+        // when
+        scheduler.scheduleSettlement(1L, newEndTime);
+        scheduler.advance(toMillis(endTime.plusSeconds(1)));
+        awaitWorkers();
+
+        // then
+        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(1);
+        verify(facade, never()).settleOne(1L);
+
+        // when
+        scheduler.advance(toMillis(newEndTime.plusSeconds(1)));
+        awaitWorkers();
+
+        // then
+        verify(facade, times(1)).settleOne(1L);
+    }
+
+    @Test
+    @DisplayName("마감 연장 시 원래 종료 시각에는 정산하지 않고 연장된 시각에 정산")
+    void extendDeadline_SettledAtExtendedTime() throws Exception {
+        // given
+        LocalDateTime endTime = LocalDateTime.now(ZONE).plusMinutes(10);
+        LocalDateTime extendedEndTime = endTime.plusMinutes(1);
+        scheduler.scheduleSettlement(1L, endTime);
+
+        // when
+        scheduler.extendDeadline(1L, endTime.plusSeconds(30));
+        scheduler.extendDeadline(1L, extendedEndTime);
+        scheduler.extendDeadline(1L, endTime.plusSeconds(10)); // 순서가 뒤바뀐 이벤트는 무시
+        scheduler.advance(toMillis(endTime.plusSeconds(30)));
+        awaitWorkers();
+
+        // then
+        verify(facade, never()).settleOne(1L);
+        assertThat(scheduler.isScheduled(1L)).isTrue();
+
+        // when
+        scheduler.advance(toMillis(extendedEndTime.plusSeconds(1)));
+        awaitWorkers();
+
+        // then
+        verify(facade, times(1)).settleOne(1L);
+    }
+
+    @Test
+    @DisplayName("예약이 없는 경매의 마감 연장은 새로 예약")
+    void extendDeadline_NotScheduled() {
+        // when
+        scheduler.extendDeadline(1L, LocalDateTime.now(ZONE).plusMinutes(1));
+
+        // then
+        assertThat(scheduler.isScheduled(1L)).isTrue();
     }
 
     @Test
-    @DisplayName("기존 예약이 있으면 취소 후 재예약")
-    void scheduleSettlement_CancelExisting() {
+    @DisplayName("정산 워커로 넘어간 뒤 다시 예약되면 이전 만료로는 정산하지 않음")
+    void executeSettlement_SkippedWhenRescheduled() throws Exception {
         // given
-        ScheduledFuture<?> existingFuture = mock(ScheduledFuture.class);
-        ScheduledFuture<?> newFuture = mock(ScheduledFuture.class);
+        LocalDateTime endTime = LocalDateTime.now(ZONE).plusMinutes(10);
+        scheduler.scheduleSettlement(1L, endTime);
+
+        // 워커를 잠시 막아 만료된 작업이 대기하는 동안 연장 이벤트가 도착하는 상황
+        CountDownLatch blocked = new CountDownLatch(1);
+        settlementWorkers.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
 
-        doReturn(false).when(existingFuture).isDone();
-        doReturn(newFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        // when
+        scheduler.advance(toMillis(endTime.plusSeconds(1)));
+        scheduler.extendDeadline(1L, endTime.plusMinutes(1));
+        blocked.countDown();
+        awaitWorkers();
 
-        scheduledTasks.put(1L, existingFuture);
+        // then
+        verify(facade, never()).settleOne(1L);
+        assertThat(scheduler.isScheduled(1L)).isTrue();
+    }
 
+    @Test
+    @DisplayName("이미 종료된 경매는 settleNow로 바로 정산하고 정산이 끝나면 future 완료")
+    void settleNow_CompletesAfterSettlement() {
         // when
-        scheduler.scheduleSettlement(1L, LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusMinutes(10));
+        scheduler.settleNow(1L, LocalDateTime.now(ZONE).minusMinutes(10)).join();
 
         // then
-        verify(existingFuture).cancel(false);
-        assertThat(scheduledTasks).containsEntry(1L, newFuture);
+        verify(facade).settleOne(1L);
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("settleNow로 넘긴 정산이 실패하면 future가 예외로 완료")
+    void settleNow_FailureCompletesExceptionally() {
+        // given
+        doThrow(new IllegalStateException("db down")).when(facade).settleOne(1L);
+
+        // when & then
+        assertThatThrownBy(() -> scheduler.settleNow(1L, LocalDateTime.now(ZONE).minusMinutes(10)).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
     }
 
     @Test
-    @DisplayName("예약 취소 성공")
-    void cancelSchedule_Success() {
+    @DisplayName("예약 취소 후에는 종료 시각이 지나도 정산하지 않음")
+    void cancelSchedule_Success() throws Exception {
         // given
-        ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-        doReturn(false).when(mockFuture).isDone();
-        scheduledTasks.put(1L, mockFuture);
+        LocalDateTime endTime = LocalDateTime.now(ZONE).plusMinutes(10);
+        scheduler.scheduleSettlement(1L, endTime);
 
         // when
         scheduler.cancelSchedule(1L);
+        scheduler.advance(toMillis(endTime.plusSeconds(1)));
+        awaitWorkers();
 
         // then
-        verify(mockFuture).cancel(false);
-        assertThat(scheduledTasks).doesNotContainKey(1L);
+        assertThat(scheduler.isScheduled(1L)).isFalse();
+        verify(facade, never()).settleOne(1L);
     }
 
     @Test
@@ -132,31 +240,36 @@ class AuctionSchedulerTest {
     }
 
     @Test
-    @DisplayName("예약 상태 확인")
-    void isScheduled() {
+    @DisplayName("예약 상태와 개수 조회")
+    void isScheduled_and_getScheduledTaskCount() {
         // given
-        ScheduledFuture<?> mockFuture = mock(ScheduledFuture.class);
-        doReturn(false).when(mockFuture).isDone();
-        scheduledTasks.put(1L, mockFuture);
+        scheduler.scheduleSettlement(1L, LocalDateTime.now(ZONE).plusMinutes(10));
+        scheduler.scheduleSettlement(2L, LocalDateTime.now(ZONE).plusDays(3));
 
         // when & then
         assertThat(scheduler.isScheduled(1L)).isTrue();
         assertThat(scheduler.isScheduled(999L)).isFalse();
+        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("예약 개수 조회")
-    void getScheduledTaskCount() {
+    @DisplayName("정산 워커가 종료된 뒤 즉시 정산 요청은 용량 초과 예외")
+    void scheduleSettlement_WorkersShutdown() {
         // given
-        ScheduledFuture<?> mockFuture1 = mock(ScheduledFuture.class);
-        ScheduledFuture<?> mockFuture2 = mock(ScheduledFuture.class);
-        doReturn(false).when(mockFuture1).isDone();
-        doReturn(false).when(mockFuture2).isDone();
-
-        scheduledTasks.put(1L, mockFuture1);
-        scheduledTasks.put(2L, mockFuture2);
+        settlementWorkers.shutdown();
 
         // when & then
-        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(2);
+        assertThatThrownBy(() -> scheduler.scheduleSettlement(1L, LocalDateTime.now(ZONE).minusMinutes(1)))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorType", ErrorType.SCHEDULER_CAPACITY_EXCEEDED);
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    // 단일 스레드 워커에 빈 작업을 넣고 기다려 앞서 넘어간 정산이 모두 끝났음을 보장
+    private void awaitWorkers() throws Exception {
+        settlementWorkers.submit(() -> { }).get();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.bugzero.rarego.boundedContext.auction.in;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionSettlementTimingWheelTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long SECOND = 1000L;
+
+    @Test
+    @DisplayName("위 레벨에 예약된 항목은 내려오면서 정확히 종료 시각의 틱에 만료")
+    void advanceTo_cascade() {
+        // given - 0레벨(64초 미만) / 1레벨(약 68분 미만) / 2레벨(약 73시간 미만) / 3레벨
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+        long[] delays = {5, 100, 5_000, 300_000};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule(i, NOW + delays[i] * SECOND);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            // when
+            List<AuctionSettlementTimingWheel.Entry> early = wheel.advanceTo(NOW + (delays[i] - 1) * SECOND);
+            List<AuctionSettlementTimingWheel.Entry> due = wheel.advanceTo(NOW + delays[i] * SECOND);
+
+            // then
+            assertThat(early).isEmpty();
+            assertThat(due).extracting(AuctionSettlementTimingWheel.Entry::auctionId).containsExactly((long) i);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시각은 초 단위로 올림 - 종료 시각보다 일찍 만료되지 않음")
+    void advanceTo_roundsUp() {
+        // given
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+        wheel.schedule(1L, NOW + 10 * SECOND + 1);
+
+        // when & then
+        assertThat(wheel.advanceTo(NOW + 10 * SECOND + 999)).isEmpty();
+        assertThat(wheel.advanceTo(NOW + 11 * SECOND)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최상위 레벨 범위를 넘는 예약도 종료 시각에 만료")
+    void advanceTo_beyondTopLevel() {
+        // given - 약 200일 뒤
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+        long deadline = NOW + 200L * 24 * 3600 * SECOND;
+        wheel.schedule(1L, deadline);
+
+        // when & then
+        assertThat(wheel.advanceTo(deadline - SECOND)).isEmpty();
+        assertThat(wheel.advanceTo(deadline)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("연장은 더 늦은 시각으로만 옮기고, 취소한 항목은 만료되지 않음")
+    void extend_and_cancel() {
+        // given
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+        wheel.schedule(1L, NOW + 60 * SECOND);
+        wheel.schedule(2L, NOW + 60 * SECOND);
+
+        // when
+        boolean extended = wheel.extend(1L, NOW + 120 * SECOND);
+        wheel.extend(1L, NOW + 90 * SECOND);
+        boolean cancelled = wheel.cancel(2L);
+
+        // then
+        assertThat(extended).isTrue();
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.advanceTo(NOW + 119 * SECOND)).isEmpty();
+        assertThat(wheel.advanceTo(NOW + 120 * SECOND))
+                .extracting(AuctionSettlementTimingWheel.Entry::auctionId).containsExactly(1L);
+        assertThat(wheel.extend(1L, NOW + 180 * SECOND)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 예약하지 않음")
+    void schedule_past() {
+        // given
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+
+        // when & then
+        assertThat(wheel.schedule(1L, NOW - SECOND)).isFalse();
+        assertThat(wheel.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("수십만 건의 예약이 틱 밀림 없이 모두 한 번씩 만료")
+    void advanceTo_manyEntries() {
+        // given - 3일에 걸쳐 흩어진 종료 시각
+        AuctionSettlementTimingWheel wheel = new AuctionSettlementTimingWheel(NOW);
+        int count = 300_000;
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(i, NOW + (1 + (i * 7919L) % (3 * 24 * 3600)) * SECOND);
+        }
+
+        // when
+        List<AuctionSettlementTimingWheel.Entry> expired = wheel.advanceTo(NOW + 3L * 24 * 3600 * SECOND);
+
+        // then
+        assertThat(expired).hasSize(count);
+        assertThat(expired).extracting(AuctionSettlementTimingWheel.Entry::deadlineMillis).isSorted();
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.bugzero.rarego.boundedContext.auction.out;
+
+import com.bugzero.rarego.boundedContext.auction.domain.Bid;
+import com.bugzero.rarego.boundedContext.auction.out.BidWriteAheadLog.LoggedBid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BidWriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재시작 후 checkpoint 이후에 기록된 입찰만 다시 읽음")
+    void readAfterCheckpoint_afterReopen() {
+        // given
+        LocalDateTime bidTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        BidWriteAheadLog writeAheadLog = open();
+        long first = writeAheadLog.append(Bid.restore(1L, 100L, 10000, bidTime));
+        long second = writeAheadLog.append(Bid.restore(1L, 101L, 11000, bidTime));
+        writeAheadLog.checkpoint(first);
+        writeAheadLog.close();
+
+        // when
+        List<LoggedBid> loggedBids = open().readAfterCheckpoint();
+
+        // then
+        assertThat(loggedBids).containsExactly(new LoggedBid(second, 1L, 101L, 11000, bidTime));
+    }
+
+    @Test
+    @DisplayName("재시작 후 시퀀스는 이전 기록 다음 번호부터 이어짐")
+    void append_continuesSequenceAfterReopen() {
+        // given
+        BidWriteAheadLog writeAheadLog = open();
+        long last = writeAheadLog.append(Bid.restore(1L, 100L, 10000, LocalDateTime.now()));
+        writeAheadLog.close();
+
+        // when
+        long next = open().append(Bid.restore(1L, 101L, 11000, LocalDateTime.now()));
+
+        // then
+        assertThat(next).isEqualTo(last + 1);
+    }
+
+    @Test
+    @DisplayName("로그 디렉터리가 비워져 시퀀스가 뒤처지면 DB 반영 시퀀스 다음 번호부터 기록")
+    void continueAfter_appliedSeq() {
+        // given - 새로 만든 디렉터리라 시퀀스가 1부터 시작
+        BidWriteAheadLog writeAheadLog = open();
+
+        // when
+        writeAheadLog.continueAfter(500L);
+        long next = writeAheadLog.append(Bid.restore(1L, 100L, 10000, LocalDateTime.now()));
+
+        // then
+        assertThat(next).isEqualTo(501L);
+        assertThat(writeAheadLog.readAfterCheckpoint()).extracting(LoggedBid::seq).containsExactly(501L);
+    }
+
+    private BidWriteAheadLog open() {
+        BidWriteAheadLog writeAheadLog = new BidWriteAheadLog();
+        ReflectionTestUtils.setField(writeAheadLog, "enabled", true);
+        ReflectionTestUtils.setField(writeAheadLog, "dir", dir.toString());
+        ReflectionTestUtils.setField(writeAheadLog, "segmentSizeMb", 1);
+        writeAheadLog.open();
+        return writeAheadLog;
+    }
+}
@@ -65,6 +65,7 @@ class PaymentHoldDepositUseCaseTest {
 		assertThat(response.amount()).isEqualTo(20000);
 		assertThat(response.auctionId()).isEqualTo(AUCTION_ID);
 		assertThat(response.status()).isEqualTo("HOLD");
+		assertThat(response.created()).isTrue();
 		verify(depositRepository, times(1)).save(any(Deposit.class));
 		verify(transactionRepository, times(1)).save(any(PaymentTransaction.class));
 	}
@@ -115,7 +116,36 @@ class PaymentHoldDepositUseCaseTest {
 		assertThat(response.auctionId()).isEqualTo(AUCTION_ID);
 		assertThat(response.amount()).isEqualTo(20000);
 		assertThat(response.status()).isEqualTo("HOLD");
+		assertThat(response.created()).isFalse();
 		verify(depositRepository, never()).save(any());
 		verify(transactionRepository, never()).save(any());
 	}
+
+	@Test
+	@DisplayName("입찰 거절로 해제된 보증금은 재입찰 시 다시 홀딩")
+	void holdDeposit_Rehold_WhenReleased() {
+		// given
+		DepositHoldRequestDto request = new DepositHoldRequestDto(20000, MEMBER_PUBLIC_ID, AUCTION_ID);
+		PaymentMember member = mock(PaymentMember.class);
+		when(member.getId()).thenReturn(MEMBER_ID);
+
+		Deposit releasedDeposit = Deposit.create(member, AUCTION_ID, 20000);
+		releasedDeposit.release();
+		Wallet wallet = Wallet.builder().balance(50000).holdingAmount(0).build();
+
+		given(paymentSupport.findMemberByPublicId(MEMBER_PUBLIC_ID)).willReturn(member);
+		given(depositRepository.findByMemberIdAndAuctionId(MEMBER_ID, AUCTION_ID))
+				.willReturn(Optional.of(releasedDeposit));
+		given(paymentSupport.findWalletByMemberIdForUpdate(MEMBER_ID)).willReturn(wallet);
+
+		// when
+		DepositHoldResponseDto response = paymentHoldDepositUseCase.holdDeposit(request);
+
+		// then
+		assertThat(response.status()).isEqualTo("HOLD");
+		assertThat(response.created()).isTrue();
+		assertThat(wallet.getHoldingAmount()).isEqualTo(20000);
+		verify(depositRepository, never()).save(any());
+		verify(transactionRepository).save(any(PaymentTransaction.class));
+	}
 }
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import com.bugzero.rarego.boundedContext.payment.domain.PaymentTransaction;
 import com.bugzero.rarego.boundedContext.payment.domain.Wallet;
 import com.bugzero.rarego.boundedContext.payment.out.DepositRepository;
 import com.bugzero.rarego.boundedContext.payment.out.PaymentTransactionRepository;
+import com.bugzero.rarego.shared.payment.dto.DepositReleaseRequestDto;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentReleaseDepositUseCaseTest {
@@ -117,4 +119,50 @@ class PaymentReleaseDepositUseCaseTest {
                 verify(paymentSupport, never()).findWalletsByMemberIdsForUpdate(anyList());
                 verify(transactionRepository, never()).saveAll(anyList());
         }
+
+        @Test
+        @DisplayName("성공: 입찰 거절 시 해당 회원의 선승인 보증금만 해제")
+        void releaseDeposit_SingleMember() {
+                // given
+                Long auctionId = 1L;
+                PaymentMember member = mock(PaymentMember.class);
+                when(member.getId()).thenReturn(101L);
+
+                Deposit deposit = Deposit.create(member, auctionId, 10000);
+                Wallet wallet = Wallet.builder().balance(50000).holdingAmount(10000).build();
+
+                when(paymentSupport.findMemberByPublicId("member-uuid")).thenReturn(member);
+                when(depositRepository.findByMemberIdAndAuctionId(101L, auctionId)).thenReturn(Optional.of(deposit));
+                when(paymentSupport.findWalletByMemberIdForUpdate(101L)).thenReturn(wallet);
+
+                // when
+                paymentReleaseDepositUseCase.releaseDeposit(new DepositReleaseRequestDto("member-uuid", auctionId));
+
+                // then
+                assertThat(deposit.getStatus()).isEqualTo(DepositStatus.RELEASED);
+                assertThat(wallet.getHoldingAmount()).isEqualTo(0);
+                verify(transactionRepository).save(any(PaymentTransaction.class));
+        }
+
+        @Test
+        @DisplayName("성공: 이미 해제된 보증금은 다시 해제하지 않음")
+        void releaseDeposit_AlreadyReleased() {
+                // given
+                Long auctionId = 1L;
+                PaymentMember member = mock(PaymentMember.class);
+                when(member.getId()).thenReturn(101L);
+
+                Deposit deposit = Deposit.create(member, auctionId, 10000);
+                deposit.release();
+
+                when(paymentSupport.findMemberByPublicId("member-uuid")).thenReturn(member);
+                when(depositRepository.findByMemberIdAndAuctionId(101L, auctionId)).thenReturn(Optional.of(deposit));
+
+                // when
+                paymentReleaseDepositUseCase.releaseDeposit(new DepositReleaseRequestDto("member-uuid", auctionId));
+
+                // then
+                verify(paymentSupport, never()).findWalletByMemberIdForUpdate(anyLong());
+                verify(transactionRepository, never()).save(any());
+        }
 }
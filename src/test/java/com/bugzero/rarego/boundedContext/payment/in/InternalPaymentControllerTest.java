@@ -48,7 +48,7 @@ class InternalPaymentControllerTest {
                 // given
                 DepositHoldRequestDto request = new DepositHoldRequestDto(20000, "member-uuid-123", 3L);
                 DepositHoldResponseDto response = new DepositHoldResponseDto(
-                                1L, 3L, 20000, "HOLD", LocalDateTime.now());
+                                1L, 3L, 20000, "HOLD", LocalDateTime.now(), true);
 
                 given(paymentFacade.holdDeposit(any(DepositHoldRequestDto.class)))
                                 .willReturn(response);